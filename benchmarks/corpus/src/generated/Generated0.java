@@ -0,0 +1,785 @@
+package generated;
+
+public class Generated0 {
+  public static int method0(int x) {
+    //$ Add 320 to x
+    x += 320;
+    x = x * 31 + 410;
+    x = x * 31 + 285;
+    //$ Add 422 to x
+    x += 422;
+    //? Is x below 335?
+    while (x < 335) {
+      //$ Add 496 to x
+      x += 496;
+      //? Is x below 796?
+      while (x < 796) {
+        //? Is x below 884?
+        while (x < 884) {
+          //$ Add 800 to x
+          x += 800;
+          //$ Add 607 to x
+          x += 607;
+        }
+        //$ Add 401 to x
+        x += 401;
+      }
+    }
+    x = x * 31 + 315;
+    //$ Add 804 to x
+    x += 804;
+    //? Is x equal to 885?
+    if (x == 885) {
+      //? Is x below 657?
+      while (x < 657) {
+        //? Is x below 147?
+        while (x < 147) {
+          //$ Add 367 to x
+          x += 367;
+        }
+      }
+      x = x * 31 + 941;
+    } else
+    //? Is x equal to 886?
+    if (x == 886) {
+      //? Is x equal to 530?
+      if (x == 530) {
+        //? Is x below 113?
+        while (x < 113) {
+          //$ Add 540 to x
+          x += 540;
+        }
+      } else {
+        //? Is x below 636?
+        while (x < 636) {
+          //$ Add 219 to x
+          x += 219;
+          //$ Add 808 to x
+          x += 808;
+        }
+      }
+    } else
+    //? Is x equal to 887?
+    if (x == 887) {
+      //? Is x equal to 807?
+      if (x == 807) {
+        //? Is x equal to 350?
+        if (x == 350) {
+          //$ Add 36 to x
+          x += 36;
+        } else
+        //? Is x equal to 351?
+        if (x == 351) {
+          //$ Add 665 to x
+          x += 665;
+        }
+        //? Is x below 549?
+        while (x < 549) {
+          //$ Add 516 to x
+          x += 516;
+          //$ Add 855 to x
+          x += 855;
+        }
+      } else
+      //? Is x equal to 808?
+      if (x == 808) {
+        //$ Add 230 to x
+        x += 230;
+        //$ Add 160 to x
+        x += 160;
+      } else
+      //? Is x equal to 809?
+      if (x == 809) {
+        //$ Add 629 to x
+        x += 629;
+      }
+      //? Is x equal to 370?
+      if (x == 370) {
+        //? Is x below 993?
+        while (x < 993) {
+          //$ Add 4 to x
+          x += 4;
+        }
+        //? Is x below 307?
+        while (x < 307) {
+          //$ Add 13 to x
+          x += 13;
+          //$ Add 373 to x
+          x += 373;
+        }
+      }
+    } else
+    //? Is x equal to 888?
+    if (x == 888) {
+      //? Is x below 182?
+      while (x < 182) {
+        //$ Add 648 to x
+        x += 648;
+        //? Is x equal to 243?
+        if (x == 243) {
+          //$ Add 562 to x
+          x += 562;
+        } else
+        //? Is x equal to 244?
+        if (x == 244) {
+          //$ Add 432 to x
+          x += 432;
+        } else {
+          //$ Add 592 to x
+          x += 592;
+          //$ Add 945 to x
+          x += 945;
+        }
+      }
+    }
+    //X Return x
+    return x;
+  }
+
+  public static int method1(int x) {
+    //? Is x below 484?
+    while (x < 484) {
+      //? Is x equal to 98?
+      if (x == 98) {
+        //$ Add 749 to x
+        x += 749;
+        x = x * 31 + 954;
+      } else
+      //? Is x equal to 99?
+      if (x == 99) {
+        //? Is x equal to 527?
+        if (x == 527) {
+          //$ Add 104 to x
+          x += 104;
+          x = x * 31 + 365;
+        } else
+        //? Is x equal to 528?
+        if (x == 528) {
+          //$ Add 697 to x
+          x += 697;
+          //$ Add 574 to x
+          x += 574;
+        } else
+        //? Is x equal to 529?
+        if (x == 529) {
+          //$ Add 948 to x
+          x += 948;
+          x = x * 31 + 515;
+        }
+      } else {
+        //$ Add 870 to x
+        x += 870;
+        x = x * 31 + 938;
+      }
+    }
+    //$ Add 697 to x
+    x += 697;
+    x = x * 31 + 318;
+    //? Is x below 532?
+    while (x < 532) {
+      //$ Add 663 to x
+      x += 663;
+      x = x * 31 + 555;
+    }
+    //$ Add 971 to x
+    x += 971;
+    //? Is x equal to 953?
+    if (x == 953) {
+      //? Is x below 670?
+      while (x < 670) {
+        //$ Add 862 to x
+        x += 862;
+      }
+      //? Is x equal to 56?
+      if (x == 56) {
+        //$ Add 307 to x
+        x += 307;
+      } else
+      //? Is x equal to 57?
+      if (x == 57) {
+        //? Is x equal to 338?
+        if (x == 338) {
+          //$ Add 898 to x
+          x += 898;
+        } else
+        //? Is x equal to 339?
+        if (x == 339) {
+          //$ Add 946 to x
+          x += 946;
+          //$ Add 896 to x
+          x += 896;
+        } else
+        //? Is x equal to 340?
+        if (x == 340) {
+          //$ Add 897 to x
+          x += 897;
+          //$ Add 736 to x
+          x += 736;
+        }
+        //? Is x below 916?
+        while (x < 916) {
+          //$ Add 412 to x
+          x += 412;
+          //$ Add 688 to x
+          x += 688;
+        }
+      } else
+      //? Is x equal to 58?
+      if (x == 58) {
+        //? Is x equal to 164?
+        if (x == 164) {
+          //$ Add 430 to x
+          x += 430;
+        } else
+        //? Is x equal to 165?
+        if (x == 165) {
+          //$ Add 809 to x
+          x += 809;
+        }
+      } else {
+        //? Is x equal to 309?
+        if (x == 309) {
+          //$ Add 984 to x
+          x += 984;
+          //$ Add 919 to x
+          x += 919;
+        } else
+        //? Is x equal to 310?
+        if (x == 310) {
+          //$ Add 676 to x
+          x += 676;
+          //$ Add 479 to x
+          x += 479;
+        }
+      }
+    } else
+    //? Is x equal to 954?
+    if (x == 954) {
+      //$ Add 74 to x
+      x += 74;
+      //? Is x below 379?
+      while (x < 379) {
+        //? Is x equal to 362?
+        if (x == 362) {
+          //$ Add 240 to x
+          x += 240;
+          x = x * 31 + 94;
+        } else
+        //? Is x equal to 363?
+        if (x == 363) {
+          //$ Add 480 to x
+          x += 480;
+          x = x * 31 + 808;
+        }
+      }
+    } else
+    //? Is x equal to 955?
+    if (x == 955) {
+      //? Is x equal to 28?
+      if (x == 28) {
+        //$ Add 277 to x
+        x += 277;
+        x = x * 31 + 871;
+      } else
+      //? Is x equal to 29?
+      if (x == 29) {
+        //$ Add 270 to x
+        x += 270;
+        //$ Add 482 to x
+        x += 482;
+      } else
+      //? Is x equal to 30?
+      if (x == 30) {
+        //$ Add 582 to x
+        x += 582;
+        x = x * 31 + 55;
+      } else {
+        //$ Add 300 to x
+        x += 300;
+        //$ Add 948 to x
+        x += 948;
+      }
+      //? Is x below 871?
+      while (x < 871) {
+        //? Is x below 959?
+        while (x < 959) {
+          //$ Add 739 to x
+          x += 739;
+          //$ Add 244 to x
+          x += 244;
+        }
+        //$ Add 530 to x
+        x += 530;
+      }
+    } else
+    //? Is x equal to 956?
+    if (x == 956) {
+      //$ Add 491 to x
+      x += 491;
+      //? Is x below 214?
+      while (x < 214) {
+        //? Is x below 542?
+        while (x < 542) {
+          //$ Add 893 to x
+          x += 893;
+        }
+        x = x * 31 + 590;
+      }
+    } else {
+      //? Is x equal to 706?
+      if (x == 706) {
+        //? Is x below 825?
+        while (x < 825) {
+          //$ Add 527 to x
+          x += 527;
+        }
+      } else
+      //? Is x equal to 707?
+      if (x == 707) {
+        //? Is x below 49?
+        while (x < 49) {
+          //$ Add 195 to x
+          x += 195;
+          //$ Add 373 to x
+          x += 373;
+        }
+        x = x * 31 + 619;
+      } else
+      //? Is x equal to 708?
+      if (x == 708) {
+        //$ Add 51 to x
+        x += 51;
+      } else {
+        //$ Add 558 to x
+        x += 558;
+      }
+      //? Is x below 207?
+      while (x < 207) {
+        //? Is x below 523?
+        while (x < 523) {
+          //$ Add 15 to x
+          x += 15;
+          //$ Add 583 to x
+          x += 583;
+        }
+      }
+    }
+    //$ Add 671 to x
+    x += 671;
+    x = x * 31 + 162;
+    //X Return x
+    return x;
+  }
+
+  public static int method2(int x) {
+    //$ Add 568 to x
+    x += 568;
+    //? Is x equal to 426?
+    if (x == 426) {
+      //? Is x below 459?
+      while (x < 459) {
+        //$ Add 736 to x
+        x += 736;
+      }
+    }
+    //? Is x equal to 149?
+    if (x == 149) {
+      //? Is x equal to 586?
+      if (x == 586) {
+        //$ Add 207 to x
+        x += 207;
+      } else
+      //? Is x equal to 587?
+      if (x == 587) {
+        //$ Add 401 to x
+        x += 401;
+      } else
+      //? Is x equal to 588?
+      if (x == 588) {
+        //$ Add 258 to x
+        x += 258;
+        //? Is x equal to 9?
+        if (x == 9) {
+          //$ Add 324 to x
+          x += 324;
+          //$ Add 813 to x
+          x += 813;
+        }
+      } else
+      //? Is x equal to 589?
+      if (x == 589) {
+        //$ Add 648 to x
+        x += 648;
+      } else {
+        //$ Add 347 to x
+        x += 347;
+        //$ Add 148 to x
+        x += 148;
+      }
+    } else
+    //? Is x equal to 150?
+    if (x == 150) {
+      //? Is x equal to 221?
+      if (x == 221) {
+        //$ Add 512 to x
+        x += 512;
+      } else
+      //? Is x equal to 222?
+      if (x == 222) {
+        //$ Add 2 to x
+        x += 2;
+      } else {
+        //? Is x below 834?
+        while (x < 834) {
+          //$ Add 210 to x
+          x += 210;
+          //$ Add 371 to x
+          x += 371;
+        }
+      }
+      //? Is x below 296?
+      while (x < 296) {
+        //$ Add 807 to x
+        x += 807;
+        //$ Add 60 to x
+        x += 60;
+      }
+    } else
+    //? Is x equal to 151?
+    if (x == 151) {
+      //? Is x equal to 801?
+      if (x == 801) {
+        //$ Add 371 to x
+        x += 371;
+        //$ Add 468 to x
+        x += 468;
+      } else
+      //? Is x equal to 802?
+      if (x == 802) {
+        //? Is x equal to 423?
+        if (x == 423) {
+          //$ Add 343 to x
+          x += 343;
+        } else
+        //? Is x equal to 424?
+        if (x == 424) {
+          //$ Add 364 to x
+          x += 364;
+        } else {
+          //$ Add 690 to x
+          x += 690;
+          //$ Add 333 to x
+          x += 333;
+        }
+      } else
+      //? Is x equal to 803?
+      if (x == 803) {
+        //? Is x below 597?
+        while (x < 597) {
+          //$ Add 685 to x
+          x += 685;
+          //$ Add 386 to x
+          x += 386;
+        }
+        //? Is x equal to 377?
+        if (x == 377) {
+          //$ Add 349 to x
+          x += 349;
+          //$ Add 507 to x
+          x += 507;
+        }
+      } else {
+        //? Is x equal to 480?
+        if (x == 480) {
+          //$ Add 853 to x
+          x += 853;
+        } else
+        //? Is x equal to 481?
+        if (x == 481) {
+          //$ Add 919 to x
+          x += 919;
+        } else
+        //? Is x equal to 482?
+        if (x == 482) {
+          //$ Add 660 to x
+          x += 660;
+        } else
+        //? Is x equal to 483?
+        if (x == 483) {
+          //$ Add 810 to x
+          x += 810;
+        }
+        //? Is x equal to 369?
+        if (x == 369) {
+          //$ Add 963 to x
+          x += 963;
+        } else
+        //? Is x equal to 370?
+        if (x == 370) {
+          //$ Add 616 to x
+          x += 616;
+        } else
+        //? Is x equal to 371?
+        if (x == 371) {
+          //$ Add 664 to x
+          x += 664;
+        } else
+        //? Is x equal to 372?
+        if (x == 372) {
+          //$ Add 746 to x
+          x += 746;
+        }
+      }
+      //$ Add 705 to x
+      x += 705;
+    } else
+    //? Is x equal to 152?
+    if (x == 152) {
+      //? Is x below 872?
+      while (x < 872) {
+        //? Is x below 312?
+        while (x < 312) {
+          //$ Add 305 to x
+          x += 305;
+        }
+        //$ Add 742 to x
+        x += 742;
+      }
+      //$ Add 707 to x
+      x += 707;
+    } else {
+      //? Is x equal to 674?
+      if (x == 674) {
+        //? Is x below 648?
+        while (x < 648) {
+          //$ Add 85 to x
+          x += 85;
+          //$ Add 661 to x
+          x += 661;
+        }
+      } else {
+        //$ Add 605 to x
+        x += 605;
+      }
+    }
+    x = x * 31 + 580;
+    //$ Add 497 to x
+    x += 497;
+    x = x * 31 + 624;
+    //? Is x equal to 514?
+    if (x == 514) {
+      //? Is x below 346?
+      while (x < 346) {
+        //? Is x equal to 960?
+        if (x == 960) {
+          //$ Add 821 to x
+          x += 821;
+          //$ Add 866 to x
+          x += 866;
+        } else
+        //? Is x equal to 961?
+        if (x == 961) {
+          //$ Add 943 to x
+          x += 943;
+          //$ Add 55 to x
+          x += 55;
+        } else
+        //? Is x equal to 962?
+        if (x == 962) {
+          //$ Add 700 to x
+          x += 700;
+        } else {
+          //$ Add 669 to x
+          x += 669;
+          //$ Add 320 to x
+          x += 320;
+        }
+      }
+    } else
+    //? Is x equal to 515?
+    if (x == 515) {
+      //? Is x below 255?
+      while (x < 255) {
+        //? Is x below 235?
+        while (x < 235) {
+          //$ Add 457 to x
+          x += 457;
+        }
+        x = x * 31 + 883;
+      }
+    } else
+    //? Is x equal to 516?
+    if (x == 516) {
+      //? Is x equal to 221?
+      if (x == 221) {
+        //$ Add 720 to x
+        x += 720;
+      }
+    } else
+    //? Is x equal to 517?
+    if (x == 517) {
+      //$ Add 660 to x
+      x += 660;
+      x = x * 31 + 609;
+    } else {
+      //? Is x below 255?
+      while (x < 255) {
+        //$ Add 839 to x
+        x += 839;
+        x = x * 31 + 849;
+      }
+      //$ Add 103 to x
+      x += 103;
+    }
+    //? Is x equal to 50?
+    if (x == 50) {
+      //$ Add 846 to x
+      x += 846;
+      //$ Add 716 to x
+      x += 716;
+    } else
+    //? Is x equal to 51?
+    if (x == 51) {
+      //? Is x equal to 483?
+      if (x == 483) {
+        //? Is x equal to 665?
+        if (x == 665) {
+          //$ Add 96 to x
+          x += 96;
+          x = x * 31 + 418;
+        } else
+        //? Is x equal to 666?
+        if (x == 666) {
+          //$ Add 911 to x
+          x += 911;
+        } else {
+          //$ Add 608 to x
+          x += 608;
+          //$ Add 731 to x
+          x += 731;
+        }
+        x = x * 31 + 960;
+      } else
+      //? Is x equal to 484?
+      if (x == 484) {
+        //$ Add 831 to x
+        x += 831;
+      } else
+      //? Is x equal to 485?
+      if (x == 485) {
+        //$ Add 299 to x
+        x += 299;
+        x = x * 31 + 481;
+      } else {
+        //$ Add 388 to x
+        x += 388;
+        //$ Add 565 to x
+        x += 565;
+      }
+      //? Is x below 898?
+      while (x < 898) {
+        //? Is x below 796?
+        while (x < 796) {
+          //$ Add 480 to x
+          x += 480;
+          //$ Add 865 to x
+          x += 865;
+        }
+      }
+    }
+    //X Return x
+    return x;
+  }
+
+  public static int method3(int x) {
+    //$ Add 172 to x
+    x += 172;
+    //$ Add 969 to x
+    x += 969;
+    //$ Add 711 to x
+    x += 711;
+    //? Is x below 889?
+    while (x < 889) {
+      //$ Add 568 to x
+      x += 568;
+    }
+    x = x * 31 + 591;
+    //? Is x equal to 676?
+    if (x == 676) {
+      //? Is x below 347?
+      while (x < 347) {
+        //$ Add 119 to x
+        x += 119;
+        //$ Add 698 to x
+        x += 698;
+      }
+    } else
+    //? Is x equal to 677?
+    if (x == 677) {
+      //$ Add 640 to x
+      x += 640;
+    } else
+    //? Is x equal to 678?
+    if (x == 678) {
+      //? Is x equal to 483?
+      if (x == 483) {
+        //$ Add 744 to x
+        x += 744;
+        //$ Add 724 to x
+        x += 724;
+      } else
+      //? Is x equal to 484?
+      if (x == 484) {
+        //? Is x below 683?
+        while (x < 683) {
+          //$ Add 91 to x
+          x += 91;
+          x = x * 31 + 313;
+        }
+      }
+      //$ Add 864 to x
+      x += 864;
+    }
+    //$ Add 598 to x
+    x += 598;
+    //? Is x equal to 329?
+    if (x == 329) {
+      //? Is x equal to 167?
+      if (x == 167) {
+        //$ Add 629 to x
+        x += 629;
+        x = x * 31 + 584;
+      }
+    } else
+    //? Is x equal to 330?
+    if (x == 330) {
+      //? Is x below 111?
+      while (x < 111) {
+        //? Is x equal to 700?
+        if (x == 700) {
+          //$ Add 149 to x
+          x += 149;
+        } else {
+          //$ Add 116 to x
+          x += 116;
+          x = x * 31 + 376;
+        }
+        //? Is x below 242?
+        while (x < 242) {
+          //$ Add 205 to x
+          x += 205;
+        }
+      }
+    } else {
+      //$ Add 819 to x
+      x += 819;
+      //? Is x below 233?
+      while (x < 233) {
+        //$ Add 610 to x
+        x += 610;
+      }
+    }
+    //X Return x
+    return x;
+  }
+}
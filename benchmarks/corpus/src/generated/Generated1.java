@@ -0,0 +1,898 @@
+package generated;
+
+public class Generated1 {
+  public static int method0(int x) {
+    //$ Add 663 to x
+    x += 663;
+    //? Is x below 425?
+    while (x < 425) {
+      //? Is x below 627?
+      while (x < 627) {
+        //? Is x equal to 202?
+        if (x == 202) {
+          //$ Add 117 to x
+          x += 117;
+          //$ Add 56 to x
+          x += 56;
+        }
+        //$ Add 457 to x
+        x += 457;
+      }
+      //? Is x equal to 401?
+      if (x == 401) {
+        //$ Add 197 to x
+        x += 197;
+      } else
+      //? Is x equal to 402?
+      if (x == 402) {
+        //? Is x below 841?
+        while (x < 841) {
+          //$ Add 273 to x
+          x += 273;
+          //$ Add 376 to x
+          x += 376;
+        }
+      } else
+      //? Is x equal to 403?
+      if (x == 403) {
+        //? Is x equal to 993?
+        if (x == 993) {
+          //$ Add 568 to x
+          x += 568;
+        } else
+        //? Is x equal to 994?
+        if (x == 994) {
+          //$ Add 805 to x
+          x += 805;
+        } else
+        //? Is x equal to 995?
+        if (x == 995) {
+          //$ Add 724 to x
+          x += 724;
+          //$ Add 117 to x
+          x += 117;
+        } else {
+          //$ Add 36 to x
+          x += 36;
+        }
+        //$ Add 347 to x
+        x += 347;
+      } else {
+        //? Is x equal to 249?
+        if (x == 249) {
+          //$ Add 593 to x
+          x += 593;
+          //$ Add 255 to x
+          x += 255;
+        } else
+        //? Is x equal to 250?
+        if (x == 250) {
+          //$ Add 889 to x
+          x += 889;
+          //$ Add 175 to x
+          x += 175;
+        } else
+        //? Is x equal to 251?
+        if (x == 251) {
+          //$ Add 979 to x
+          x += 979;
+          //$ Add 504 to x
+          x += 504;
+        } else {
+          //$ Add 709 to x
+          x += 709;
+          //$ Add 965 to x
+          x += 965;
+        }
+      }
+    }
+    x = x * 31 + 547;
+    x = x * 31 + 463;
+    //? Is x below 287?
+    while (x < 287) {
+      //$ Add 219 to x
+      x += 219;
+      //$ Add 975 to x
+      x += 975;
+    }
+    //? Is x equal to 754?
+    if (x == 754) {
+      //$ Add 279 to x
+      x += 279;
+      //$ Add 628 to x
+      x += 628;
+    } else {
+      //$ Add 207 to x
+      x += 207;
+      //? Is x equal to 58?
+      if (x == 58) {
+        //$ Add 724 to x
+        x += 724;
+      } else
+      //? Is x equal to 59?
+      if (x == 59) {
+        //? Is x below 542?
+        while (x < 542) {
+          //$ Add 395 to x
+          x += 395;
+        }
+      } else
+      //? Is x equal to 60?
+      if (x == 60) {
+        //$ Add 120 to x
+        x += 120;
+      } else {
+        //? Is x equal to 368?
+        if (x == 368) {
+          //$ Add 814 to x
+          x += 814;
+        }
+        //? Is x below 485?
+        while (x < 485) {
+          //$ Add 947 to x
+          x += 947;
+          x = x * 31 + 657;
+        }
+      }
+    }
+    //? Is x equal to 25?
+    if (x == 25) {
+      //? Is x equal to 741?
+      if (x == 741) {
+        //? Is x below 437?
+        while (x < 437) {
+          //$ Add 164 to x
+          x += 164;
+        }
+      } else
+      //? Is x equal to 742?
+      if (x == 742) {
+        //$ Add 176 to x
+        x += 176;
+        //$ Add 845 to x
+        x += 845;
+      } else
+      //? Is x equal to 743?
+      if (x == 743) {
+        //$ Add 964 to x
+        x += 964;
+      } else
+      //? Is x equal to 744?
+      if (x == 744) {
+        //$ Add 997 to x
+        x += 997;
+        //? Is x below 88?
+        while (x < 88) {
+          //$ Add 511 to x
+          x += 511;
+        }
+      }
+    } else
+    //? Is x equal to 26?
+    if (x == 26) {
+      //? Is x equal to 32?
+      if (x == 32) {
+        //? Is x equal to 643?
+        if (x == 643) {
+          //$ Add 702 to x
+          x += 702;
+          //$ Add 940 to x
+          x += 940;
+        } else
+        //? Is x equal to 644?
+        if (x == 644) {
+          //$ Add 17 to x
+          x += 17;
+          //$ Add 539 to x
+          x += 539;
+        } else
+        //? Is x equal to 645?
+        if (x == 645) {
+          //$ Add 669 to x
+          x += 669;
+          x = x * 31 + 827;
+        } else {
+          //$ Add 833 to x
+          x += 833;
+          //$ Add 310 to x
+          x += 310;
+        }
+      } else
+      //? Is x equal to 33?
+      if (x == 33) {
+        //? Is x equal to 790?
+        if (x == 790) {
+          //$ Add 361 to x
+          x += 361;
+        } else
+        //? Is x equal to 791?
+        if (x == 791) {
+          //$ Add 180 to x
+          x += 180;
+        } else
+        //? Is x equal to 792?
+        if (x == 792) {
+          //$ Add 588 to x
+          x += 588;
+        } else
+        //? Is x equal to 793?
+        if (x == 793) {
+          //$ Add 726 to x
+          x += 726;
+          x = x * 31 + 926;
+        }
+      } else
+      //? Is x equal to 34?
+      if (x == 34) {
+        //? Is x below 647?
+        while (x < 647) {
+          //$ Add 190 to x
+          x += 190;
+          //$ Add 911 to x
+          x += 911;
+        }
+      } else {
+        //$ Add 756 to x
+        x += 756;
+      }
+    } else
+    //? Is x equal to 27?
+    if (x == 27) {
+      //$ Add 691 to x
+      x += 691;
+      //? Is x equal to 510?
+      if (x == 510) {
+        //$ Add 97 to x
+        x += 97;
+      } else
+      //? Is x equal to 511?
+      if (x == 511) {
+        //$ Add 377 to x
+        x += 377;
+      } else
+      //? Is x equal to 512?
+      if (x == 512) {
+        //? Is x equal to 904?
+        if (x == 904) {
+          //$ Add 267 to x
+          x += 267;
+        } else
+        //? Is x equal to 905?
+        if (x == 905) {
+          //$ Add 506 to x
+          x += 506;
+        } else {
+          //$ Add 761 to x
+          x += 761;
+          //$ Add 959 to x
+          x += 959;
+        }
+        //? Is x below 313?
+        while (x < 313) {
+          //$ Add 697 to x
+          x += 697;
+          x = x * 31 + 963;
+        }
+      } else
+      //? Is x equal to 513?
+      if (x == 513) {
+        //$ Add 111 to x
+        x += 111;
+        //$ Add 221 to x
+        x += 221;
+      } else {
+        //$ Add 948 to x
+        x += 948;
+        x = x * 31 + 723;
+      }
+    } else
+    //? Is x equal to 28?
+    if (x == 28) {
+      //? Is x below 14?
+      while (x < 14) {
+        //? Is x equal to 854?
+        if (x == 854) {
+          //$ Add 530 to x
+          x += 530;
+          x = x * 31 + 786;
+        } else
+        //? Is x equal to 855?
+        if (x == 855) {
+          //$ Add 127 to x
+          x += 127;
+          x = x * 31 + 169;
+        } else
+        //? Is x equal to 856?
+        if (x == 856) {
+          //$ Add 908 to x
+          x += 908;
+          x = x * 31 + 919;
+        } else
+        //? Is x equal to 857?
+        if (x == 857) {
+          //$ Add 924 to x
+          x += 924;
+        } else {
+          //$ Add 269 to x
+          x += 269;
+          //$ Add 220 to x
+          x += 220;
+        }
+        //$ Add 795 to x
+        x += 795;
+      }
+      x = x * 31 + 709;
+    } else {
+      //? Is x equal to 264?
+      if (x == 264) {
+        //$ Add 567 to x
+        x += 567;
+        //$ Add 378 to x
+        x += 378;
+      } else
+      //? Is x equal to 265?
+      if (x == 265) {
+        //$ Add 383 to x
+        x += 383;
+      } else
+      //? Is x equal to 266?
+      if (x == 266) {
+        //$ Add 655 to x
+        x += 655;
+      } else
+      //? Is x equal to 267?
+      if (x == 267) {
+        //$ Add 755 to x
+        x += 755;
+      } else {
+        //$ Add 920 to x
+        x += 920;
+        //$ Add 302 to x
+        x += 302;
+      }
+      //$ Add 546 to x
+      x += 546;
+    }
+    //$ Add 807 to x
+    x += 807;
+    //X Return x
+    return x;
+  }
+
+  public static int method1(int x) {
+    //? Is x equal to 49?
+    if (x == 49) {
+      //? Is x below 339?
+      while (x < 339) {
+        //$ Add 906 to x
+        x += 906;
+        //? Is x below 752?
+        while (x < 752) {
+          //$ Add 871 to x
+          x += 871;
+        }
+      }
+    } else
+    //? Is x equal to 50?
+    if (x == 50) {
+      //$ Add 421 to x
+      x += 421;
+    } else
+    //? Is x equal to 51?
+    if (x == 51) {
+      //? Is x equal to 449?
+      if (x == 449) {
+        //$ Add 532 to x
+        x += 532;
+      } else
+      //? Is x equal to 450?
+      if (x == 450) {
+        //$ Add 954 to x
+        x += 954;
+      } else
+      //? Is x equal to 451?
+      if (x == 451) {
+        //$ Add 348 to x
+        x += 348;
+        //$ Add 51 to x
+        x += 51;
+      } else {
+        //? Is x below 163?
+        while (x < 163) {
+          //$ Add 434 to x
+          x += 434;
+          //$ Add 166 to x
+          x += 166;
+        }
+        //? Is x below 534?
+        while (x < 534) {
+          //$ Add 807 to x
+          x += 807;
+          //$ Add 207 to x
+          x += 207;
+        }
+      }
+      //$ Add 285 to x
+      x += 285;
+    }
+    x = x * 31 + 454;
+    //$ Add 148 to x
+    x += 148;
+    //$ Add 184 to x
+    x += 184;
+    //? Is x equal to 853?
+    if (x == 853) {
+      //$ Add 934 to x
+      x += 934;
+    } else
+    //? Is x equal to 854?
+    if (x == 854) {
+      //? Is x equal to 349?
+      if (x == 349) {
+        //$ Add 899 to x
+        x += 899;
+        //? Is x equal to 872?
+        if (x == 872) {
+          //$ Add 548 to x
+          x += 548;
+        } else
+        //? Is x equal to 873?
+        if (x == 873) {
+          //$ Add 62 to x
+          x += 62;
+          //$ Add 287 to x
+          x += 287;
+        } else
+        //? Is x equal to 874?
+        if (x == 874) {
+          //$ Add 251 to x
+          x += 251;
+          //$ Add 863 to x
+          x += 863;
+        } else
+        //? Is x equal to 875?
+        if (x == 875) {
+          //$ Add 303 to x
+          x += 303;
+        } else {
+          //$ Add 110 to x
+          x += 110;
+          //$ Add 933 to x
+          x += 933;
+        }
+      } else
+      //? Is x equal to 350?
+      if (x == 350) {
+        //? Is x equal to 67?
+        if (x == 67) {
+          //$ Add 518 to x
+          x += 518;
+          x = x * 31 + 638;
+        } else
+        //? Is x equal to 68?
+        if (x == 68) {
+          //$ Add 928 to x
+          x += 928;
+          //$ Add 263 to x
+          x += 263;
+        } else {
+          //$ Add 117 to x
+          x += 117;
+          x = x * 31 + 979;
+        }
+      } else
+      //? Is x equal to 351?
+      if (x == 351) {
+        //? Is x equal to 315?
+        if (x == 315) {
+          //$ Add 548 to x
+          x += 548;
+          //$ Add 37 to x
+          x += 37;
+        } else
+        //? Is x equal to 316?
+        if (x == 316) {
+          //$ Add 152 to x
+          x += 152;
+          x = x * 31 + 316;
+        } else
+        //? Is x equal to 317?
+        if (x == 317) {
+          //$ Add 478 to x
+          x += 478;
+        } else {
+          //$ Add 103 to x
+          x += 103;
+        }
+      } else
+      //? Is x equal to 352?
+      if (x == 352) {
+        //$ Add 727 to x
+        x += 727;
+        //$ Add 884 to x
+        x += 884;
+      } else {
+        //$ Add 570 to x
+        x += 570;
+        //? Is x below 151?
+        while (x < 151) {
+          //$ Add 655 to x
+          x += 655;
+        }
+      }
+      //? Is x equal to 446?
+      if (x == 446) {
+        //? Is x below 758?
+        while (x < 758) {
+          //$ Add 545 to x
+          x += 545;
+        }
+        x = x * 31 + 570;
+      } else
+      //? Is x equal to 447?
+      if (x == 447) {
+        //? Is x equal to 562?
+        if (x == 562) {
+          //$ Add 70 to x
+          x += 70;
+        } else
+        //? Is x equal to 563?
+        if (x == 563) {
+          //$ Add 410 to x
+          x += 410;
+        } else
+        //? Is x equal to 564?
+        if (x == 564) {
+          //$ Add 79 to x
+          x += 79;
+        } else
+        //? Is x equal to 565?
+        if (x == 565) {
+          //$ Add 707 to x
+          x += 707;
+          //$ Add 574 to x
+          x += 574;
+        }
+      } else
+      //? Is x equal to 448?
+      if (x == 448) {
+        //? Is x equal to 986?
+        if (x == 986) {
+          //$ Add 159 to x
+          x += 159;
+        } else
+        //? Is x equal to 987?
+        if (x == 987) {
+          //$ Add 788 to x
+          x += 788;
+        } else
+        //? Is x equal to 988?
+        if (x == 988) {
+          //$ Add 323 to x
+          x += 323;
+          x = x * 31 + 829;
+        } else
+        //? Is x equal to 989?
+        if (x == 989) {
+          //$ Add 676 to x
+          x += 676;
+          x = x * 31 + 125;
+        }
+      } else {
+        //$ Add 969 to x
+        x += 969;
+      }
+    } else
+    //? Is x equal to 855?
+    if (x == 855) {
+      //$ Add 690 to x
+      x += 690;
+      x = x * 31 + 977;
+    } else
+    //? Is x equal to 856?
+    if (x == 856) {
+      //$ Add 81 to x
+      x += 81;
+    }
+    x = x * 31 + 713;
+    //$ Add 821 to x
+    x += 821;
+    //$ Add 255 to x
+    x += 255;
+    //X Return x
+    return x;
+  }
+
+  public static int method2(int x) {
+    x = x * 31 + 372;
+    //? Is x equal to 990?
+    if (x == 990) {
+      //$ Add 596 to x
+      x += 596;
+    }
+    //$ Add 787 to x
+    x += 787;
+    //? Is x equal to 868?
+    if (x == 868) {
+      //? Is x equal to 534?
+      if (x == 534) {
+        //$ Add 860 to x
+        x += 860;
+        x = x * 31 + 144;
+      } else
+      //? Is x equal to 535?
+      if (x == 535) {
+        //? Is x equal to 224?
+        if (x == 224) {
+          //$ Add 184 to x
+          x += 184;
+        } else
+        //? Is x equal to 225?
+        if (x == 225) {
+          //$ Add 764 to x
+          x += 764;
+        } else
+        //? Is x equal to 226?
+        if (x == 226) {
+          //$ Add 693 to x
+          x += 693;
+        } else
+        //? Is x equal to 227?
+        if (x == 227) {
+          //$ Add 704 to x
+          x += 704;
+          //$ Add 531 to x
+          x += 531;
+        } else {
+          //$ Add 145 to x
+          x += 145;
+        }
+      } else
+      //? Is x equal to 536?
+      if (x == 536) {
+        //$ Add 532 to x
+        x += 532;
+      } else
+      //? Is x equal to 537?
+      if (x == 537) {
+        //$ Add 791 to x
+        x += 791;
+        x = x * 31 + 724;
+      }
+      x = x * 31 + 665;
+    } else
+    //? Is x equal to 869?
+    if (x == 869) {
+      //$ Add 660 to x
+      x += 660;
+      //$ Add 393 to x
+      x += 393;
+    }
+    //$ Add 832 to x
+    x += 832;
+    //? Is x below 462?
+    while (x < 462) {
+      //? Is x equal to 905?
+      if (x == 905) {
+        //$ Add 648 to x
+        x += 648;
+        //$ Add 820 to x
+        x += 820;
+      }
+      //? Is x below 246?
+      while (x < 246) {
+        //$ Add 969 to x
+        x += 969;
+      }
+    }
+    //? Is x below 936?
+    while (x < 936) {
+      //$ Add 482 to x
+      x += 482;
+    }
+    x = x * 31 + 54;
+    //X Return x
+    return x;
+  }
+
+  public static int method3(int x) {
+    //$ Add 967 to x
+    x += 967;
+    //$ Add 383 to x
+    x += 383;
+    //? Is x equal to 847?
+    if (x == 847) {
+      //? Is x equal to 954?
+      if (x == 954) {
+        //? Is x equal to 60?
+        if (x == 60) {
+          //$ Add 25 to x
+          x += 25;
+        } else {
+          //$ Add 274 to x
+          x += 274;
+          //$ Add 303 to x
+          x += 303;
+        }
+        x = x * 31 + 266;
+      } else
+      //? Is x equal to 955?
+      if (x == 955) {
+        //$ Add 740 to x
+        x += 740;
+        x = x * 31 + 982;
+      } else {
+        //$ Add 323 to x
+        x += 323;
+      }
+      //? Is x equal to 720?
+      if (x == 720) {
+        //$ Add 990 to x
+        x += 990;
+      } else
+      //? Is x equal to 721?
+      if (x == 721) {
+        //? Is x equal to 640?
+        if (x == 640) {
+          //$ Add 611 to x
+          x += 611;
+        } else
+        //? Is x equal to 641?
+        if (x == 641) {
+          //$ Add 317 to x
+          x += 317;
+          //$ Add 300 to x
+          x += 300;
+        } else
+        //? Is x equal to 642?
+        if (x == 642) {
+          //$ Add 141 to x
+          x += 141;
+        } else
+        //? Is x equal to 643?
+        if (x == 643) {
+          //$ Add 622 to x
+          x += 622;
+        } else {
+          //$ Add 32 to x
+          x += 32;
+        }
+        //? Is x below 856?
+        while (x < 856) {
+          //$ Add 767 to x
+          x += 767;
+          //$ Add 643 to x
+          x += 643;
+        }
+      } else
+      //? Is x equal to 722?
+      if (x == 722) {
+        //$ Add 165 to x
+        x += 165;
+        //? Is x equal to 947?
+        if (x == 947) {
+          //$ Add 569 to x
+          x += 569;
+          x = x * 31 + 551;
+        } else
+        //? Is x equal to 948?
+        if (x == 948) {
+          //$ Add 845 to x
+          x += 845;
+        } else
+        //? Is x equal to 949?
+        if (x == 949) {
+          //$ Add 561 to x
+          x += 561;
+          //$ Add 694 to x
+          x += 694;
+        } else
+        //? Is x equal to 950?
+        if (x == 950) {
+          //$ Add 652 to x
+          x += 652;
+          //$ Add 196 to x
+          x += 196;
+        }
+      } else {
+        //? Is x equal to 426?
+        if (x == 426) {
+          //$ Add 36 to x
+          x += 36;
+        } else
+        //? Is x equal to 427?
+        if (x == 427) {
+          //$ Add 906 to x
+          x += 906;
+        } else {
+          //$ Add 667 to x
+          x += 667;
+        }
+        x = x * 31 + 404;
+      }
+    }
+    //? Is x below 110?
+    while (x < 110) {
+      //$ Add 38 to x
+      x += 38;
+    }
+    //$ Add 411 to x
+    x += 411;
+    //? Is x below 46?
+    while (x < 46) {
+      //? Is x equal to 830?
+      if (x == 830) {
+        //$ Add 113 to x
+        x += 113;
+      } else
+      //? Is x equal to 831?
+      if (x == 831) {
+        //$ Add 858 to x
+        x += 858;
+      }
+      //? Is x equal to 938?
+      if (x == 938) {
+        //? Is x below 773?
+        while (x < 773) {
+          //$ Add 227 to x
+          x += 227;
+          //$ Add 114 to x
+          x += 114;
+        }
+      } else
+      //? Is x equal to 939?
+      if (x == 939) {
+        //$ Add 913 to x
+        x += 913;
+      } else {
+        //? Is x below 213?
+        while (x < 213) {
+          //$ Add 555 to x
+          x += 555;
+        }
+      }
+    }
+    //? Is x equal to 99?
+    if (x == 99) {
+      //$ Add 558 to x
+      x += 558;
+    } else
+    //? Is x equal to 100?
+    if (x == 100) {
+      //$ Add 855 to x
+      x += 855;
+    } else
+    //? Is x equal to 101?
+    if (x == 101) {
+      //$ Add 281 to x
+      x += 281;
+    } else
+    //? Is x equal to 102?
+    if (x == 102) {
+      //$ Add 718 to x
+      x += 718;
+    }
+    //? Is x below 3?
+    while (x < 3) {
+      //? Is x below 206?
+      while (x < 206) {
+        //$ Add 554 to x
+        x += 554;
+      }
+      //? Is x below 371?
+      while (x < 371) {
+        //? Is x equal to 843?
+        if (x == 843) {
+          //$ Add 939 to x
+          x += 939;
+        } else {
+          //$ Add 673 to x
+          x += 673;
+        }
+        x = x * 31 + 757;
+      }
+    }
+    //X Return x
+    return x;
+  }
+}
@@ -0,0 +1,611 @@
+package generated;
+
+public class Generated2 {
+  public static int method0(int x) {
+    //$ Add 140 to x
+    x += 140;
+    //$ Add 425 to x
+    x += 425;
+    //$ Add 653 to x
+    x += 653;
+    //$ Add 950 to x
+    x += 950;
+    //? Is x below 470?
+    while (x < 470) {
+      //$ Add 496 to x
+      x += 496;
+    }
+    //? Is x equal to 182?
+    if (x == 182) {
+      //$ Add 744 to x
+      x += 744;
+      //? Is x below 872?
+      while (x < 872) {
+        //? Is x equal to 691?
+        if (x == 691) {
+          //$ Add 795 to x
+          x += 795;
+          //$ Add 135 to x
+          x += 135;
+        } else
+        //? Is x equal to 692?
+        if (x == 692) {
+          //$ Add 188 to x
+          x += 188;
+        } else
+        //? Is x equal to 693?
+        if (x == 693) {
+          //$ Add 3 to x
+          x += 3;
+          //$ Add 849 to x
+          x += 849;
+        } else {
+          //$ Add 413 to x
+          x += 413;
+        }
+        //? Is x equal to 167?
+        if (x == 167) {
+          //$ Add 102 to x
+          x += 102;
+        } else
+        //? Is x equal to 168?
+        if (x == 168) {
+          //$ Add 272 to x
+          x += 272;
+        }
+      }
+    } else
+    //? Is x equal to 183?
+    if (x == 183) {
+      //$ Add 105 to x
+      x += 105;
+      //$ Add 764 to x
+      x += 764;
+    }
+    //$ Add 712 to x
+    x += 712;
+    x = x * 31 + 848;
+    //X Return x
+    return x;
+  }
+
+  public static int method1(int x) {
+    x = x * 31 + 158;
+    //$ Add 607 to x
+    x += 607;
+    //? Is x equal to 407?
+    if (x == 407) {
+      //$ Add 365 to x
+      x += 365;
+      //? Is x equal to 641?
+      if (x == 641) {
+        //$ Add 493 to x
+        x += 493;
+      } else
+      //? Is x equal to 642?
+      if (x == 642) {
+        //$ Add 1 to x
+        x += 1;
+      } else {
+        //$ Add 676 to x
+        x += 676;
+      }
+    } else
+    //? Is x equal to 408?
+    if (x == 408) {
+      //? Is x below 202?
+      while (x < 202) {
+        //? Is x below 488?
+        while (x < 488) {
+          //$ Add 882 to x
+          x += 882;
+          //$ Add 366 to x
+          x += 366;
+        }
+      }
+      //? Is x equal to 119?
+      if (x == 119) {
+        //$ Add 43 to x
+        x += 43;
+        //$ Add 674 to x
+        x += 674;
+      } else
+      //? Is x equal to 120?
+      if (x == 120) {
+        //$ Add 771 to x
+        x += 771;
+      } else
+      //? Is x equal to 121?
+      if (x == 121) {
+        //$ Add 705 to x
+        x += 705;
+        //? Is x below 458?
+        while (x < 458) {
+          //$ Add 409 to x
+          x += 409;
+          //$ Add 634 to x
+          x += 634;
+        }
+      }
+    } else
+    //? Is x equal to 409?
+    if (x == 409) {
+      //$ Add 272 to x
+      x += 272;
+      //? Is x equal to 543?
+      if (x == 543) {
+        //? Is x below 587?
+        while (x < 587) {
+          //$ Add 546 to x
+          x += 546;
+          //$ Add 687 to x
+          x += 687;
+        }
+      } else
+      //? Is x equal to 544?
+      if (x == 544) {
+        //$ Add 800 to x
+        x += 800;
+      } else {
+        //? Is x equal to 648?
+        if (x == 648) {
+          //$ Add 467 to x
+          x += 467;
+          //$ Add 43 to x
+          x += 43;
+        } else
+        //? Is x equal to 649?
+        if (x == 649) {
+          //$ Add 66 to x
+          x += 66;
+          //$ Add 439 to x
+          x += 439;
+        } else
+        //? Is x equal to 650?
+        if (x == 650) {
+          //$ Add 444 to x
+          x += 444;
+        } else
+        //? Is x equal to 651?
+        if (x == 651) {
+          //$ Add 309 to x
+          x += 309;
+        } else {
+          //$ Add 521 to x
+          x += 521;
+          //$ Add 171 to x
+          x += 171;
+        }
+      }
+    } else
+    //? Is x equal to 410?
+    if (x == 410) {
+      //? Is x below 391?
+      while (x < 391) {
+        //$ Add 910 to x
+        x += 910;
+        x = x * 31 + 493;
+      }
+      x = x * 31 + 791;
+    }
+    x = x * 31 + 265;
+    //$ Add 445 to x
+    x += 445;
+    //? Is x below 138?
+    while (x < 138) {
+      //? Is x equal to 131?
+      if (x == 131) {
+        //$ Add 831 to x
+        x += 831;
+        x = x * 31 + 310;
+      } else
+      //? Is x equal to 132?
+      if (x == 132) {
+        //$ Add 18 to x
+        x += 18;
+        //? Is x equal to 830?
+        if (x == 830) {
+          //$ Add 663 to x
+          x += 663;
+          x = x * 31 + 192;
+        } else
+        //? Is x equal to 831?
+        if (x == 831) {
+          //$ Add 656 to x
+          x += 656;
+        } else
+        //? Is x equal to 832?
+        if (x == 832) {
+          //$ Add 373 to x
+          x += 373;
+          x = x * 31 + 662;
+        } else {
+          //$ Add 692 to x
+          x += 692;
+        }
+      } else
+      //? Is x equal to 133?
+      if (x == 133) {
+        //? Is x below 277?
+        while (x < 277) {
+          //$ Add 712 to x
+          x += 712;
+          //$ Add 597 to x
+          x += 597;
+        }
+      } else
+      //? Is x equal to 134?
+      if (x == 134) {
+        //? Is x below 201?
+        while (x < 201) {
+          //$ Add 506 to x
+          x += 506;
+          //$ Add 893 to x
+          x += 893;
+        }
+        //$ Add 805 to x
+        x += 805;
+      }
+      //? Is x equal to 118?
+      if (x == 118) {
+        //$ Add 837 to x
+        x += 837;
+      } else {
+        //$ Add 968 to x
+        x += 968;
+      }
+    }
+    //$ Add 460 to x
+    x += 460;
+    //? Is x below 860?
+    while (x < 860) {
+      //? Is x equal to 584?
+      if (x == 584) {
+        //$ Add 835 to x
+        x += 835;
+        //$ Add 808 to x
+        x += 808;
+      } else
+      //? Is x equal to 585?
+      if (x == 585) {
+        //$ Add 431 to x
+        x += 431;
+      } else
+      //? Is x equal to 586?
+      if (x == 586) {
+        //$ Add 272 to x
+        x += 272;
+      } else
+      //? Is x equal to 587?
+      if (x == 587) {
+        //$ Add 101 to x
+        x += 101;
+      } else {
+        //? Is x equal to 968?
+        if (x == 968) {
+          //$ Add 237 to x
+          x += 237;
+          //$ Add 613 to x
+          x += 613;
+        }
+      }
+    }
+    //X Return x
+    return x;
+  }
+
+  public static int method2(int x) {
+    //$ Add 168 to x
+    x += 168;
+    //? Is x equal to 16?
+    if (x == 16) {
+      //? Is x equal to 746?
+      if (x == 746) {
+        //$ Add 411 to x
+        x += 411;
+      } else
+      //? Is x equal to 747?
+      if (x == 747) {
+        //? Is x equal to 280?
+        if (x == 280) {
+          //$ Add 210 to x
+          x += 210;
+          //$ Add 573 to x
+          x += 573;
+        } else
+        //? Is x equal to 281?
+        if (x == 281) {
+          //$ Add 269 to x
+          x += 269;
+        } else {
+          //$ Add 441 to x
+          x += 441;
+        }
+      } else
+      //? Is x equal to 748?
+      if (x == 748) {
+        //$ Add 985 to x
+        x += 985;
+      }
+    } else
+    //? Is x equal to 17?
+    if (x == 17) {
+      //? Is x below 637?
+      while (x < 637) {
+        //$ Add 273 to x
+        x += 273;
+      }
+    }
+    x = x * 31 + 147;
+    //$ Add 97 to x
+    x += 97;
+    //? Is x below 223?
+    while (x < 223) {
+      //? Is x equal to 102?
+      if (x == 102) {
+        //? Is x equal to 251?
+        if (x == 251) {
+          //$ Add 418 to x
+          x += 418;
+        } else
+        //? Is x equal to 252?
+        if (x == 252) {
+          //$ Add 173 to x
+          x += 173;
+        }
+      } else
+      //? Is x equal to 103?
+      if (x == 103) {
+        //? Is x equal to 826?
+        if (x == 826) {
+          //$ Add 833 to x
+          x += 833;
+        } else
+        //? Is x equal to 827?
+        if (x == 827) {
+          //$ Add 870 to x
+          x += 870;
+          //$ Add 132 to x
+          x += 132;
+        } else
+        //? Is x equal to 828?
+        if (x == 828) {
+          //$ Add 147 to x
+          x += 147;
+          //$ Add 615 to x
+          x += 615;
+        } else {
+          //$ Add 512 to x
+          x += 512;
+        }
+      } else
+      //? Is x equal to 104?
+      if (x == 104) {
+        //$ Add 459 to x
+        x += 459;
+        x = x * 31 + 325;
+      }
+    }
+    x = x * 31 + 44;
+    //? Is x below 403?
+    while (x < 403) {
+      //? Is x equal to 108?
+      if (x == 108) {
+        //$ Add 640 to x
+        x += 640;
+      } else
+      //? Is x equal to 109?
+      if (x == 109) {
+        //$ Add 478 to x
+        x += 478;
+      } else
+      //? Is x equal to 110?
+      if (x == 110) {
+        //? Is x equal to 236?
+        if (x == 236) {
+          //$ Add 981 to x
+          x += 981;
+        } else
+        //? Is x equal to 237?
+        if (x == 237) {
+          //$ Add 709 to x
+          x += 709;
+        } else
+        //? Is x equal to 238?
+        if (x == 238) {
+          //$ Add 758 to x
+          x += 758;
+        }
+      } else {
+        //$ Add 820 to x
+        x += 820;
+        //? Is x equal to 530?
+        if (x == 530) {
+          //$ Add 806 to x
+          x += 806;
+        } else
+        //? Is x equal to 531?
+        if (x == 531) {
+          //$ Add 259 to x
+          x += 259;
+          //$ Add 151 to x
+          x += 151;
+        } else
+        //? Is x equal to 532?
+        if (x == 532) {
+          //$ Add 779 to x
+          x += 779;
+        }
+      }
+    }
+    //? Is x below 293?
+    while (x < 293) {
+      //? Is x below 192?
+      while (x < 192) {
+        //? Is x equal to 471?
+        if (x == 471) {
+          //$ Add 900 to x
+          x += 900;
+          //$ Add 862 to x
+          x += 862;
+        } else
+        //? Is x equal to 472?
+        if (x == 472) {
+          //$ Add 531 to x
+          x += 531;
+          x = x * 31 + 364;
+        }
+      }
+    }
+    //X Return x
+    return x;
+  }
+
+  public static int method3(int x) {
+    //$ Add 14 to x
+    x += 14;
+    x = x * 31 + 623;
+    //$ Add 821 to x
+    x += 821;
+    //? Is x below 926?
+    while (x < 926) {
+      //? Is x below 743?
+      while (x < 743) {
+        //? Is x equal to 481?
+        if (x == 481) {
+          //$ Add 220 to x
+          x += 220;
+        } else
+        //? Is x equal to 482?
+        if (x == 482) {
+          //$ Add 794 to x
+          x += 794;
+        } else
+        //? Is x equal to 483?
+        if (x == 483) {
+          //$ Add 485 to x
+          x += 485;
+          //$ Add 228 to x
+          x += 228;
+        } else
+        //? Is x equal to 484?
+        if (x == 484) {
+          //$ Add 30 to x
+          x += 30;
+        }
+      }
+    }
+    //? Is x equal to 93?
+    if (x == 93) {
+      //? Is x equal to 715?
+      if (x == 715) {
+        //? Is x equal to 108?
+        if (x == 108) {
+          //$ Add 524 to x
+          x += 524;
+        } else
+        //? Is x equal to 109?
+        if (x == 109) {
+          //$ Add 975 to x
+          x += 975;
+        } else
+        //? Is x equal to 110?
+        if (x == 110) {
+          //$ Add 902 to x
+          x += 902;
+        }
+      } else
+      //? Is x equal to 716?
+      if (x == 716) {
+        //$ Add 177 to x
+        x += 177;
+        //? Is x equal to 476?
+        if (x == 476) {
+          //$ Add 508 to x
+          x += 508;
+          //$ Add 929 to x
+          x += 929;
+        } else
+        //? Is x equal to 477?
+        if (x == 477) {
+          //$ Add 661 to x
+          x += 661;
+        }
+      } else {
+        //$ Add 485 to x
+        x += 485;
+        //$ Add 807 to x
+        x += 807;
+      }
+    } else
+    //? Is x equal to 94?
+    if (x == 94) {
+      //$ Add 363 to x
+      x += 363;
+    }
+    //$ Add 641 to x
+    x += 641;
+    //? Is x equal to 643?
+    if (x == 643) {
+      //$ Add 728 to x
+      x += 728;
+      //? Is x equal to 805?
+      if (x == 805) {
+        //? Is x equal to 314?
+        if (x == 314) {
+          //$ Add 687 to x
+          x += 687;
+        } else {
+          //$ Add 718 to x
+          x += 718;
+          x = x * 31 + 459;
+        }
+      } else
+      //? Is x equal to 806?
+      if (x == 806) {
+        //? Is x equal to 32?
+        if (x == 32) {
+          //$ Add 508 to x
+          x += 508;
+          //$ Add 6 to x
+          x += 6;
+        } else
+        //? Is x equal to 33?
+        if (x == 33) {
+          //$ Add 166 to x
+          x += 166;
+          //$ Add 846 to x
+          x += 846;
+        }
+        //? Is x equal to 877?
+        if (x == 877) {
+          //$ Add 964 to x
+          x += 964;
+          //$ Add 286 to x
+          x += 286;
+        } else
+        //? Is x equal to 878?
+        if (x == 878) {
+          //$ Add 786 to x
+          x += 786;
+          //$ Add 349 to x
+          x += 349;
+        } else
+        //? Is x equal to 879?
+        if (x == 879) {
+          //$ Add 997 to x
+          x += 997;
+        } else
+        //? Is x equal to 880?
+        if (x == 880) {
+          //$ Add 930 to x
+          x += 930;
+        }
+      }
+    }
+    //$ Add 421 to x
+    x += 421;
+    //X Return x
+    return x;
+  }
+}
@@ -0,0 +1,329 @@
+package generated;
+
+public class Generated3 {
+  public static int method0(int x) {
+    //? Is x below 792?
+    while (x < 792) {
+      //? Is x below 656?
+      while (x < 656) {
+        //? Is x equal to 266?
+        if (x == 266) {
+          //$ Add 234 to x
+          x += 234;
+        } else
+        //? Is x equal to 267?
+        if (x == 267) {
+          //$ Add 57 to x
+          x += 57;
+        } else
+        //? Is x equal to 268?
+        if (x == 268) {
+          //$ Add 561 to x
+          x += 561;
+        } else
+        //? Is x equal to 269?
+        if (x == 269) {
+          //$ Add 430 to x
+          x += 430;
+        }
+      }
+    }
+    //? Is x below 295?
+    while (x < 295) {
+      //$ Add 320 to x
+      x += 320;
+      //? Is x equal to 571?
+      if (x == 571) {
+        //? Is x below 366?
+        while (x < 366) {
+          //$ Add 904 to x
+          x += 904;
+        }
+      }
+    }
+    //? Is x below 63?
+    while (x < 63) {
+      //? Is x below 454?
+      while (x < 454) {
+        //$ Add 714 to x
+        x += 714;
+      }
+      x = x * 31 + 701;
+    }
+    //$ Add 443 to x
+    x += 443;
+    x = x * 31 + 274;
+    //$ Add 983 to x
+    x += 983;
+    //$ Add 433 to x
+    x += 433;
+    x = x * 31 + 786;
+    //X Return x
+    return x;
+  }
+
+  public static int method1(int x) {
+    //$ Add 183 to x
+    x += 183;
+    //$ Add 625 to x
+    x += 625;
+    //$ Add 505 to x
+    x += 505;
+    x = x * 31 + 814;
+    //? Is x below 96?
+    while (x < 96) {
+      //? Is x below 28?
+      while (x < 28) {
+        //$ Add 994 to x
+        x += 994;
+      }
+    }
+    //$ Add 880 to x
+    x += 880;
+    //? Is x below 255?
+    while (x < 255) {
+      //$ Add 559 to x
+      x += 559;
+    }
+    //$ Add 540 to x
+    x += 540;
+    //X Return x
+    return x;
+  }
+
+  public static int method2(int x) {
+    //? Is x equal to 628?
+    if (x == 628) {
+      //? Is x equal to 430?
+      if (x == 430) {
+        //$ Add 511 to x
+        x += 511;
+      } else
+      //? Is x equal to 431?
+      if (x == 431) {
+        //? Is x equal to 91?
+        if (x == 91) {
+          //$ Add 514 to x
+          x += 514;
+        } else
+        //? Is x equal to 92?
+        if (x == 92) {
+          //$ Add 788 to x
+          x += 788;
+        } else
+        //? Is x equal to 93?
+        if (x == 93) {
+          //$ Add 580 to x
+          x += 580;
+          //$ Add 136 to x
+          x += 136;
+        }
+      } else
+      //? Is x equal to 432?
+      if (x == 432) {
+        //? Is x below 872?
+        while (x < 872) {
+          //$ Add 344 to x
+          x += 344;
+          //$ Add 997 to x
+          x += 997;
+        }
+      } else
+      //? Is x equal to 433?
+      if (x == 433) {
+        //? Is x equal to 671?
+        if (x == 671) {
+          //$ Add 954 to x
+          x += 954;
+          //$ Add 250 to x
+          x += 250;
+        } else
+        //? Is x equal to 672?
+        if (x == 672) {
+          //$ Add 868 to x
+          x += 868;
+        } else {
+          //$ Add 109 to x
+          x += 109;
+        }
+      }
+    } else
+    //? Is x equal to 629?
+    if (x == 629) {
+      //? Is x below 388?
+      while (x < 388) {
+        //$ Add 677 to x
+        x += 677;
+        x = x * 31 + 37;
+      }
+      //$ Add 981 to x
+      x += 981;
+    }
+    //$ Add 138 to x
+    x += 138;
+    //$ Add 767 to x
+    x += 767;
+    //$ Add 272 to x
+    x += 272;
+    //$ Add 667 to x
+    x += 667;
+    //$ Add 872 to x
+    x += 872;
+    //$ Add 117 to x
+    x += 117;
+    //$ Add 418 to x
+    x += 418;
+    //X Return x
+    return x;
+  }
+
+  public static int method3(int x) {
+    x = x * 31 + 15;
+    //$ Add 210 to x
+    x += 210;
+    x = x * 31 + 84;
+    //? Is x equal to 37?
+    if (x == 37) {
+      //? Is x below 778?
+      while (x < 778) {
+        //? Is x below 518?
+        while (x < 518) {
+          //$ Add 779 to x
+          x += 779;
+        }
+      }
+    } else
+    //? Is x equal to 38?
+    if (x == 38) {
+      //$ Add 136 to x
+      x += 136;
+      //? Is x below 759?
+      while (x < 759) {
+        //? Is x below 99?
+        while (x < 99) {
+          //$ Add 126 to x
+          x += 126;
+          x = x * 31 + 629;
+        }
+        x = x * 31 + 935;
+      }
+    } else
+    //? Is x equal to 39?
+    if (x == 39) {
+      //? Is x below 804?
+      while (x < 804) {
+        //? Is x equal to 665?
+        if (x == 665) {
+          //$ Add 955 to x
+          x += 955;
+        } else
+        //? Is x equal to 666?
+        if (x == 666) {
+          //$ Add 464 to x
+          x += 464;
+          //$ Add 988 to x
+          x += 988;
+        } else
+        //? Is x equal to 667?
+        if (x == 667) {
+          //$ Add 569 to x
+          x += 569;
+        } else
+        //? Is x equal to 668?
+        if (x == 668) {
+          //$ Add 700 to x
+          x += 700;
+        } else {
+          //$ Add 231 to x
+          x += 231;
+          //$ Add 878 to x
+          x += 878;
+        }
+        x = x * 31 + 12;
+      }
+      x = x * 31 + 984;
+    } else
+    //? Is x equal to 40?
+    if (x == 40) {
+      //? Is x below 111?
+      while (x < 111) {
+        //$ Add 659 to x
+        x += 659;
+      }
+      //? Is x equal to 689?
+      if (x == 689) {
+        //$ Add 506 to x
+        x += 506;
+        //? Is x equal to 220?
+        if (x == 220) {
+          //$ Add 671 to x
+          x += 671;
+        } else
+        //? Is x equal to 221?
+        if (x == 221) {
+          //$ Add 558 to x
+          x += 558;
+          //$ Add 788 to x
+          x += 788;
+        }
+      } else
+      //? Is x equal to 690?
+      if (x == 690) {
+        //? Is x below 627?
+        while (x < 627) {
+          //$ Add 734 to x
+          x += 734;
+          x = x * 31 + 56;
+        }
+        //$ Add 715 to x
+        x += 715;
+      } else
+      //? Is x equal to 691?
+      if (x == 691) {
+        //? Is x below 335?
+        while (x < 335) {
+          //$ Add 532 to x
+          x += 532;
+          //$ Add 136 to x
+          x += 136;
+        }
+      } else {
+        //$ Add 290 to x
+        x += 290;
+      }
+    } else {
+      //$ Add 938 to x
+      x += 938;
+    }
+    //? Is x below 108?
+    while (x < 108) {
+      //$ Add 294 to x
+      x += 294;
+    }
+    //$ Add 553 to x
+    x += 553;
+    //? Is x equal to 408?
+    if (x == 408) {
+      //? Is x below 515?
+      while (x < 515) {
+        //? Is x equal to 187?
+        if (x == 187) {
+          //$ Add 373 to x
+          x += 373;
+          x = x * 31 + 139;
+        } else
+        //? Is x equal to 188?
+        if (x == 188) {
+          //$ Add 976 to x
+          x += 976;
+        }
+      }
+      //$ Add 47 to x
+      x += 47;
+    }
+    //$ Add 119 to x
+    x += 119;
+    //X Return x
+    return x;
+  }
+}
@@ -0,0 +1,385 @@
+package generated;
+
+public class Generated4 {
+  public static int method0(int x) {
+    x = x * 31 + 213;
+    x = x * 31 + 83;
+    //? Is x equal to 310?
+    if (x == 310) {
+      //? Is x equal to 46?
+      if (x == 46) {
+        //$ Add 213 to x
+        x += 213;
+        //$ Add 944 to x
+        x += 944;
+      } else
+      //? Is x equal to 47?
+      if (x == 47) {
+        //? Is x equal to 591?
+        if (x == 591) {
+          //$ Add 565 to x
+          x += 565;
+        } else
+        //? Is x equal to 592?
+        if (x == 592) {
+          //$ Add 121 to x
+          x += 121;
+          //$ Add 272 to x
+          x += 272;
+        } else
+        //? Is x equal to 593?
+        if (x == 593) {
+          //$ Add 780 to x
+          x += 780;
+        }
+      } else
+      //? Is x equal to 48?
+      if (x == 48) {
+        //$ Add 335 to x
+        x += 335;
+        x = x * 31 + 935;
+      } else
+      //? Is x equal to 49?
+      if (x == 49) {
+        //$ Add 207 to x
+        x += 207;
+      }
+    } else
+    //? Is x equal to 311?
+    if (x == 311) {
+      //$ Add 393 to x
+      x += 393;
+    }
+    x = x * 31 + 220;
+    x = x * 31 + 927;
+    //$ Add 422 to x
+    x += 422;
+    //$ Add 58 to x
+    x += 58;
+    //$ Add 628 to x
+    x += 628;
+    //X Return x
+    return x;
+  }
+
+  public static int method1(int x) {
+    //$ Add 71 to x
+    x += 71;
+    //$ Add 219 to x
+    x += 219;
+    //$ Add 187 to x
+    x += 187;
+    //$ Add 85 to x
+    x += 85;
+    //? Is x below 144?
+    while (x < 144) {
+      //$ Add 535 to x
+      x += 535;
+    }
+    //? Is x equal to 387?
+    if (x == 387) {
+      //? Is x equal to 172?
+      if (x == 172) {
+        //$ Add 668 to x
+        x += 668;
+      } else
+      //? Is x equal to 173?
+      if (x == 173) {
+        //? Is x below 802?
+        while (x < 802) {
+          //$ Add 389 to x
+          x += 389;
+        }
+        //$ Add 606 to x
+        x += 606;
+      } else {
+        //$ Add 751 to x
+        x += 751;
+      }
+      //$ Add 388 to x
+      x += 388;
+    } else {
+      //$ Add 386 to x
+      x += 386;
+      x = x * 31 + 206;
+    }
+    //? Is x below 68?
+    while (x < 68) {
+      //$ Add 398 to x
+      x += 398;
+      //? Is x equal to 690?
+      if (x == 690) {
+        //? Is x below 757?
+        while (x < 757) {
+          //$ Add 757 to x
+          x += 757;
+          //$ Add 368 to x
+          x += 368;
+        }
+        //$ Add 8 to x
+        x += 8;
+      } else
+      //? Is x equal to 691?
+      if (x == 691) {
+        //? Is x below 542?
+        while (x < 542) {
+          //$ Add 850 to x
+          x += 850;
+        }
+      }
+    }
+    //? Is x below 828?
+    while (x < 828) {
+      //$ Add 931 to x
+      x += 931;
+    }
+    //X Return x
+    return x;
+  }
+
+  public static int method2(int x) {
+    x = x * 31 + 662;
+    //$ Add 803 to x
+    x += 803;
+    //? Is x equal to 297?
+    if (x == 297) {
+      //? Is x below 748?
+      while (x < 748) {
+        //? Is x equal to 646?
+        if (x == 646) {
+          //$ Add 291 to x
+          x += 291;
+          x = x * 31 + 867;
+        } else
+        //? Is x equal to 647?
+        if (x == 647) {
+          //$ Add 852 to x
+          x += 852;
+        } else
+        //? Is x equal to 648?
+        if (x == 648) {
+          //$ Add 450 to x
+          x += 450;
+        } else
+        //? Is x equal to 649?
+        if (x == 649) {
+          //$ Add 707 to x
+          x += 707;
+          x = x * 31 + 956;
+        }
+        //$ Add 13 to x
+        x += 13;
+      }
+    } else
+    //? Is x equal to 298?
+    if (x == 298) {
+      //$ Add 791 to x
+      x += 791;
+    }
+    //? Is x below 258?
+    while (x < 258) {
+      //? Is x below 141?
+      while (x < 141) {
+        //$ Add 843 to x
+        x += 843;
+        //? Is x equal to 791?
+        if (x == 791) {
+          //$ Add 413 to x
+          x += 413;
+          //$ Add 75 to x
+          x += 75;
+        } else
+        //? Is x equal to 792?
+        if (x == 792) {
+          //$ Add 995 to x
+          x += 995;
+        } else
+        //? Is x equal to 793?
+        if (x == 793) {
+          //$ Add 948 to x
+          x += 948;
+        }
+      }
+      //$ Add 601 to x
+      x += 601;
+    }
+    x = x * 31 + 357;
+    //$ Add 543 to x
+    x += 543;
+    //? Is x equal to 772?
+    if (x == 772) {
+      //? Is x equal to 253?
+      if (x == 253) {
+        //? Is x equal to 557?
+        if (x == 557) {
+          //$ Add 557 to x
+          x += 557;
+        } else
+        //? Is x equal to 558?
+        if (x == 558) {
+          //$ Add 579 to x
+          x += 579;
+        }
+        //$ Add 674 to x
+        x += 674;
+      }
+    } else
+    //? Is x equal to 773?
+    if (x == 773) {
+      //? Is x below 0?
+      while (x < 0) {
+        //? Is x below 256?
+        while (x < 256) {
+          //$ Add 686 to x
+          x += 686;
+        }
+        //? Is x below 550?
+        while (x < 550) {
+          //$ Add 678 to x
+          x += 678;
+          //$ Add 819 to x
+          x += 819;
+        }
+      }
+      //? Is x equal to 755?
+      if (x == 755) {
+        //? Is x equal to 959?
+        if (x == 959) {
+          //$ Add 308 to x
+          x += 308;
+        } else
+        //? Is x equal to 960?
+        if (x == 960) {
+          //$ Add 58 to x
+          x += 58;
+          //$ Add 476 to x
+          x += 476;
+        } else
+        //? Is x equal to 961?
+        if (x == 961) {
+          //$ Add 358 to x
+          x += 358;
+          x = x * 31 + 67;
+        } else
+        //? Is x equal to 962?
+        if (x == 962) {
+          //$ Add 883 to x
+          x += 883;
+          //$ Add 471 to x
+          x += 471;
+        } else {
+          //$ Add 711 to x
+          x += 711;
+          //$ Add 388 to x
+          x += 388;
+        }
+        x = x * 31 + 374;
+      } else {
+        //? Is x equal to 401?
+        if (x == 401) {
+          //$ Add 461 to x
+          x += 461;
+        } else
+        //? Is x equal to 402?
+        if (x == 402) {
+          //$ Add 759 to x
+          x += 759;
+          //$ Add 918 to x
+          x += 918;
+        }
+        //$ Add 393 to x
+        x += 393;
+      }
+    } else
+    //? Is x equal to 774?
+    if (x == 774) {
+      //$ Add 918 to x
+      x += 918;
+    } else
+    //? Is x equal to 775?
+    if (x == 775) {
+      //$ Add 255 to x
+      x += 255;
+    }
+    //? Is x below 289?
+    while (x < 289) {
+      //$ Add 47 to x
+      x += 47;
+      x = x * 31 + 836;
+    }
+    //X Return x
+    return x;
+  }
+
+  public static int method3(int x) {
+    x = x * 31 + 701;
+    x = x * 31 + 368;
+    x = x * 31 + 155;
+    //? Is x equal to 242?
+    if (x == 242) {
+      //$ Add 779 to x
+      x += 779;
+      //$ Add 424 to x
+      x += 424;
+    } else
+    //? Is x equal to 243?
+    if (x == 243) {
+      //? Is x below 898?
+      while (x < 898) {
+        //$ Add 988 to x
+        x += 988;
+        x = x * 31 + 393;
+      }
+    } else
+    //? Is x equal to 244?
+    if (x == 244) {
+      //? Is x below 253?
+      while (x < 253) {
+        //? Is x equal to 862?
+        if (x == 862) {
+          //$ Add 608 to x
+          x += 608;
+          //$ Add 608 to x
+          x += 608;
+        } else
+        //? Is x equal to 863?
+        if (x == 863) {
+          //$ Add 453 to x
+          x += 453;
+        } else
+        //? Is x equal to 864?
+        if (x == 864) {
+          //$ Add 282 to x
+          x += 282;
+        } else {
+          //$ Add 829 to x
+          x += 829;
+          x = x * 31 + 730;
+        }
+        //$ Add 204 to x
+        x += 204;
+      }
+      //$ Add 371 to x
+      x += 371;
+    } else
+    //? Is x equal to 245?
+    if (x == 245) {
+      //$ Add 814 to x
+      x += 814;
+    } else {
+      //$ Add 349 to x
+      x += 349;
+      //$ Add 70 to x
+      x += 70;
+    }
+    //$ Add 931 to x
+    x += 931;
+    x = x * 31 + 417;
+    //$ Add 291 to x
+    x += 291;
+    //$ Add 483 to x
+    x += 483;
+    //X Return x
+    return x;
+  }
+}
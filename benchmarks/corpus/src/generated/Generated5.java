@@ -0,0 +1,841 @@
+package generated;
+
+public class Generated5 {
+  public static int method0(int x) {
+    //$ Add 742 to x
+    x += 742;
+    //? Is x equal to 377?
+    if (x == 377) {
+      //? Is x below 139?
+      while (x < 139) {
+        //? Is x below 556?
+        while (x < 556) {
+          //$ Add 146 to x
+          x += 146;
+        }
+      }
+    } else
+    //? Is x equal to 378?
+    if (x == 378) {
+      //? Is x below 395?
+      while (x < 395) {
+        //$ Add 282 to x
+        x += 282;
+      }
+      //? Is x below 983?
+      while (x < 983) {
+        //? Is x below 703?
+        while (x < 703) {
+          //$ Add 186 to x
+          x += 186;
+          //$ Add 406 to x
+          x += 406;
+        }
+        //? Is x below 97?
+        while (x < 97) {
+          //$ Add 462 to x
+          x += 462;
+        }
+      }
+    } else
+    //? Is x equal to 379?
+    if (x == 379) {
+      //$ Add 751 to x
+      x += 751;
+    } else
+    //? Is x equal to 380?
+    if (x == 380) {
+      //$ Add 310 to x
+      x += 310;
+    } else {
+      //$ Add 650 to x
+      x += 650;
+    }
+    //? Is x below 574?
+    while (x < 574) {
+      //$ Add 343 to x
+      x += 343;
+      //? Is x equal to 648?
+      if (x == 648) {
+        //? Is x equal to 0?
+        if (x == 0) {
+          //$ Add 185 to x
+          x += 185;
+        } else
+        //? Is x equal to 1?
+        if (x == 1) {
+          //$ Add 945 to x
+          x += 945;
+        }
+      } else {
+        //$ Add 277 to x
+        x += 277;
+        x = x * 31 + 354;
+      }
+    }
+    //? Is x equal to 939?
+    if (x == 939) {
+      //$ Add 642 to x
+      x += 642;
+      //? Is x equal to 773?
+      if (x == 773) {
+        //$ Add 766 to x
+        x += 766;
+        x = x * 31 + 667;
+      } else
+      //? Is x equal to 774?
+      if (x == 774) {
+        //? Is x equal to 904?
+        if (x == 904) {
+          //$ Add 943 to x
+          x += 943;
+          //$ Add 738 to x
+          x += 738;
+        } else
+        //? Is x equal to 905?
+        if (x == 905) {
+          //$ Add 885 to x
+          x += 885;
+        } else {
+          //$ Add 660 to x
+          x += 660;
+        }
+        //? Is x below 127?
+        while (x < 127) {
+          //$ Add 823 to x
+          x += 823;
+          //$ Add 307 to x
+          x += 307;
+        }
+      } else
+      //? Is x equal to 775?
+      if (x == 775) {
+        //? Is x below 910?
+        while (x < 910) {
+          //$ Add 521 to x
+          x += 521;
+          x = x * 31 + 868;
+        }
+        //$ Add 729 to x
+        x += 729;
+      } else
+      //? Is x equal to 776?
+      if (x == 776) {
+        //? Is x equal to 760?
+        if (x == 760) {
+          //$ Add 10 to x
+          x += 10;
+          //$ Add 55 to x
+          x += 55;
+        } else
+        //? Is x equal to 761?
+        if (x == 761) {
+          //$ Add 456 to x
+          x += 456;
+          x = x * 31 + 889;
+        }
+        //$ Add 864 to x
+        x += 864;
+      } else {
+        //$ Add 924 to x
+        x += 924;
+        x = x * 31 + 576;
+      }
+    } else
+    //? Is x equal to 940?
+    if (x == 940) {
+      //$ Add 414 to x
+      x += 414;
+      //? Is x equal to 187?
+      if (x == 187) {
+        //? Is x equal to 583?
+        if (x == 583) {
+          //$ Add 917 to x
+          x += 917;
+        } else
+        //? Is x equal to 584?
+        if (x == 584) {
+          //$ Add 334 to x
+          x += 334;
+        } else
+        //? Is x equal to 585?
+        if (x == 585) {
+          //$ Add 834 to x
+          x += 834;
+        }
+      } else {
+        //? Is x below 162?
+        while (x < 162) {
+          //$ Add 942 to x
+          x += 942;
+          //$ Add 458 to x
+          x += 458;
+        }
+        x = x * 31 + 965;
+      }
+    } else
+    //? Is x equal to 941?
+    if (x == 941) {
+      //? Is x below 120?
+      while (x < 120) {
+        //? Is x below 220?
+        while (x < 220) {
+          //$ Add 59 to x
+          x += 59;
+        }
+      }
+    } else
+    //? Is x equal to 942?
+    if (x == 942) {
+      //$ Add 597 to x
+      x += 597;
+      x = x * 31 + 732;
+    } else {
+      //$ Add 747 to x
+      x += 747;
+      //$ Add 464 to x
+      x += 464;
+    }
+    //? Is x below 781?
+    while (x < 781) {
+      //? Is x below 7?
+      while (x < 7) {
+        //? Is x equal to 79?
+        if (x == 79) {
+          //$ Add 907 to x
+          x += 907;
+        } else {
+          //$ Add 309 to x
+          x += 309;
+          //$ Add 581 to x
+          x += 581;
+        }
+        //? Is x below 507?
+        while (x < 507) {
+          //$ Add 215 to x
+          x += 215;
+        }
+      }
+    }
+    //$ Add 911 to x
+    x += 911;
+    x = x * 31 + 211;
+    x = x * 31 + 751;
+    //X Return x
+    return x;
+  }
+
+  public static int method1(int x) {
+    //$ Add 438 to x
+    x += 438;
+    x = x * 31 + 518;
+    x = x * 31 + 664;
+    //$ Add 452 to x
+    x += 452;
+    //? Is x below 462?
+    while (x < 462) {
+      //? Is x below 60?
+      while (x < 60) {
+        //$ Add 816 to x
+        x += 816;
+      }
+      //? Is x equal to 458?
+      if (x == 458) {
+        //$ Add 356 to x
+        x += 356;
+        //? Is x below 637?
+        while (x < 637) {
+          //$ Add 717 to x
+          x += 717;
+        }
+      } else
+      //? Is x equal to 459?
+      if (x == 459) {
+        //$ Add 857 to x
+        x += 857;
+        //? Is x equal to 90?
+        if (x == 90) {
+          //$ Add 619 to x
+          x += 619;
+        } else
+        //? Is x equal to 91?
+        if (x == 91) {
+          //$ Add 137 to x
+          x += 137;
+        }
+      } else
+      //? Is x equal to 460?
+      if (x == 460) {
+        //? Is x equal to 949?
+        if (x == 949) {
+          //$ Add 268 to x
+          x += 268;
+        } else {
+          //$ Add 825 to x
+          x += 825;
+        }
+      } else {
+        //? Is x equal to 416?
+        if (x == 416) {
+          //$ Add 507 to x
+          x += 507;
+          //$ Add 322 to x
+          x += 322;
+        } else {
+          //$ Add 498 to x
+          x += 498;
+          //$ Add 444 to x
+          x += 444;
+        }
+        x = x * 31 + 971;
+      }
+    }
+    //? Is x equal to 158?
+    if (x == 158) {
+      //? Is x below 458?
+      while (x < 458) {
+        //? Is x equal to 540?
+        if (x == 540) {
+          //$ Add 727 to x
+          x += 727;
+        } else
+        //? Is x equal to 541?
+        if (x == 541) {
+          //$ Add 950 to x
+          x += 950;
+          //$ Add 513 to x
+          x += 513;
+        } else
+        //? Is x equal to 542?
+        if (x == 542) {
+          //$ Add 966 to x
+          x += 966;
+          x = x * 31 + 120;
+        } else
+        //? Is x equal to 543?
+        if (x == 543) {
+          //$ Add 411 to x
+          x += 411;
+          //$ Add 63 to x
+          x += 63;
+        }
+        //$ Add 861 to x
+        x += 861;
+      }
+      x = x * 31 + 925;
+    } else
+    //? Is x equal to 159?
+    if (x == 159) {
+      //$ Add 503 to x
+      x += 503;
+      x = x * 31 + 772;
+    } else
+    //? Is x equal to 160?
+    if (x == 160) {
+      //? Is x below 86?
+      while (x < 86) {
+        //$ Add 291 to x
+        x += 291;
+        //? Is x below 973?
+        while (x < 973) {
+          //$ Add 661 to x
+          x += 661;
+          //$ Add 134 to x
+          x += 134;
+        }
+      }
+      //$ Add 675 to x
+      x += 675;
+    } else
+    //? Is x equal to 161?
+    if (x == 161) {
+      //$ Add 655 to x
+      x += 655;
+    }
+    //? Is x equal to 19?
+    if (x == 19) {
+      //$ Add 881 to x
+      x += 881;
+      //? Is x equal to 43?
+      if (x == 43) {
+        //? Is x equal to 516?
+        if (x == 516) {
+          //$ Add 226 to x
+          x += 226;
+        } else
+        //? Is x equal to 517?
+        if (x == 517) {
+          //$ Add 335 to x
+          x += 335;
+          //$ Add 309 to x
+          x += 309;
+        } else
+        //? Is x equal to 518?
+        if (x == 518) {
+          //$ Add 989 to x
+          x += 989;
+        } else
+        //? Is x equal to 519?
+        if (x == 519) {
+          //$ Add 261 to x
+          x += 261;
+          //$ Add 318 to x
+          x += 318;
+        } else {
+          //$ Add 819 to x
+          x += 819;
+        }
+        //? Is x equal to 233?
+        if (x == 233) {
+          //$ Add 612 to x
+          x += 612;
+        } else
+        //? Is x equal to 234?
+        if (x == 234) {
+          //$ Add 898 to x
+          x += 898;
+          x = x * 31 + 196;
+        } else
+        //? Is x equal to 235?
+        if (x == 235) {
+          //$ Add 783 to x
+          x += 783;
+        } else
+        //? Is x equal to 236?
+        if (x == 236) {
+          //$ Add 522 to x
+          x += 522;
+        } else {
+          //$ Add 228 to x
+          x += 228;
+          //$ Add 702 to x
+          x += 702;
+        }
+      } else
+      //? Is x equal to 44?
+      if (x == 44) {
+        //? Is x equal to 523?
+        if (x == 523) {
+          //$ Add 725 to x
+          x += 725;
+        } else
+        //? Is x equal to 524?
+        if (x == 524) {
+          //$ Add 758 to x
+          x += 758;
+          x = x * 31 + 869;
+        } else
+        //? Is x equal to 525?
+        if (x == 525) {
+          //$ Add 731 to x
+          x += 731;
+          //$ Add 765 to x
+          x += 765;
+        } else
+        //? Is x equal to 526?
+        if (x == 526) {
+          //$ Add 969 to x
+          x += 969;
+          //$ Add 502 to x
+          x += 502;
+        } else {
+          //$ Add 780 to x
+          x += 780;
+          //$ Add 160 to x
+          x += 160;
+        }
+        //$ Add 183 to x
+        x += 183;
+      } else
+      //? Is x equal to 45?
+      if (x == 45) {
+        //? Is x equal to 105?
+        if (x == 105) {
+          //$ Add 993 to x
+          x += 993;
+          //$ Add 699 to x
+          x += 699;
+        } else
+        //? Is x equal to 106?
+        if (x == 106) {
+          //$ Add 258 to x
+          x += 258;
+        } else
+        //? Is x equal to 107?
+        if (x == 107) {
+          //$ Add 869 to x
+          x += 869;
+          //$ Add 743 to x
+          x += 743;
+        } else {
+          //$ Add 283 to x
+          x += 283;
+          //$ Add 261 to x
+          x += 261;
+        }
+      } else
+      //? Is x equal to 46?
+      if (x == 46) {
+        //$ Add 527 to x
+        x += 527;
+      } else {
+        //$ Add 373 to x
+        x += 373;
+        //? Is x equal to 228?
+        if (x == 228) {
+          //$ Add 362 to x
+          x += 362;
+          //$ Add 30 to x
+          x += 30;
+        } else
+        //? Is x equal to 229?
+        if (x == 229) {
+          //$ Add 472 to x
+          x += 472;
+          x = x * 31 + 710;
+        } else {
+          //$ Add 370 to x
+          x += 370;
+        }
+      }
+    } else
+    //? Is x equal to 20?
+    if (x == 20) {
+      //? Is x equal to 889?
+      if (x == 889) {
+        //$ Add 419 to x
+        x += 419;
+      } else
+      //? Is x equal to 890?
+      if (x == 890) {
+        //$ Add 819 to x
+        x += 819;
+        x = x * 31 + 846;
+      } else
+      //? Is x equal to 891?
+      if (x == 891) {
+        //? Is x below 229?
+        while (x < 229) {
+          //$ Add 87 to x
+          x += 87;
+        }
+      }
+      //$ Add 18 to x
+      x += 18;
+    } else
+    //? Is x equal to 21?
+    if (x == 21) {
+      //$ Add 598 to x
+      x += 598;
+    } else
+    //? Is x equal to 22?
+    if (x == 22) {
+      //$ Add 349 to x
+      x += 349;
+      //$ Add 188 to x
+      x += 188;
+    } else {
+      //? Is x equal to 107?
+      if (x == 107) {
+        //$ Add 384 to x
+        x += 384;
+        //? Is x equal to 352?
+        if (x == 352) {
+          //$ Add 734 to x
+          x += 734;
+          //$ Add 183 to x
+          x += 183;
+        } else
+        //? Is x equal to 353?
+        if (x == 353) {
+          //$ Add 596 to x
+          x += 596;
+        }
+      } else
+      //? Is x equal to 108?
+      if (x == 108) {
+        //? Is x equal to 470?
+        if (x == 470) {
+          //$ Add 766 to x
+          x += 766;
+          //$ Add 243 to x
+          x += 243;
+        } else
+        //? Is x equal to 471?
+        if (x == 471) {
+          //$ Add 161 to x
+          x += 161;
+          x = x * 31 + 0;
+        }
+      } else
+      //? Is x equal to 109?
+      if (x == 109) {
+        //$ Add 321 to x
+        x += 321;
+      } else
+      //? Is x equal to 110?
+      if (x == 110) {
+        //? Is x equal to 329?
+        if (x == 329) {
+          //$ Add 339 to x
+          x += 339;
+        } else {
+          //$ Add 1 to x
+          x += 1;
+        }
+        //$ Add 342 to x
+        x += 342;
+      }
+    }
+    //? Is x below 734?
+    while (x < 734) {
+      //? Is x below 847?
+      while (x < 847) {
+        //? Is x equal to 590?
+        if (x == 590) {
+          //$ Add 788 to x
+          x += 788;
+          //$ Add 862 to x
+          x += 862;
+        } else
+        //? Is x equal to 591?
+        if (x == 591) {
+          //$ Add 813 to x
+          x += 813;
+          //$ Add 205 to x
+          x += 205;
+        } else
+        //? Is x equal to 592?
+        if (x == 592) {
+          //$ Add 76 to x
+          x += 76;
+        }
+        x = x * 31 + 549;
+      }
+    }
+    //X Return x
+    return x;
+  }
+
+  public static int method2(int x) {
+    x = x * 31 + 501;
+    //? Is x below 863?
+    while (x < 863) {
+      //? Is x equal to 812?
+      if (x == 812) {
+        //$ Add 840 to x
+        x += 840;
+        //? Is x equal to 822?
+        if (x == 822) {
+          //$ Add 763 to x
+          x += 763;
+          //$ Add 422 to x
+          x += 422;
+        } else
+        //? Is x equal to 823?
+        if (x == 823) {
+          //$ Add 994 to x
+          x += 994;
+        } else
+        //? Is x equal to 824?
+        if (x == 824) {
+          //$ Add 401 to x
+          x += 401;
+          x = x * 31 + 336;
+        } else
+        //? Is x equal to 825?
+        if (x == 825) {
+          //$ Add 282 to x
+          x += 282;
+        }
+      } else
+      //? Is x equal to 813?
+      if (x == 813) {
+        //? Is x below 986?
+        while (x < 986) {
+          //$ Add 386 to x
+          x += 386;
+        }
+      } else
+      //? Is x equal to 814?
+      if (x == 814) {
+        //$ Add 835 to x
+        x += 835;
+      } else
+      //? Is x equal to 815?
+      if (x == 815) {
+        //$ Add 115 to x
+        x += 115;
+      }
+    }
+    //? Is x equal to 265?
+    if (x == 265) {
+      //$ Add 460 to x
+      x += 460;
+    }
+    x = x * 31 + 149;
+    //? Is x below 257?
+    while (x < 257) {
+      //? Is x equal to 875?
+      if (x == 875) {
+        //? Is x equal to 204?
+        if (x == 204) {
+          //$ Add 103 to x
+          x += 103;
+        } else
+        //? Is x equal to 205?
+        if (x == 205) {
+          //$ Add 353 to x
+          x += 353;
+        } else
+        //? Is x equal to 206?
+        if (x == 206) {
+          //$ Add 712 to x
+          x += 712;
+          //$ Add 345 to x
+          x += 345;
+        } else
+        //? Is x equal to 207?
+        if (x == 207) {
+          //$ Add 248 to x
+          x += 248;
+        } else {
+          //$ Add 903 to x
+          x += 903;
+        }
+        //? Is x below 613?
+        while (x < 613) {
+          //$ Add 612 to x
+          x += 612;
+          //$ Add 365 to x
+          x += 365;
+        }
+      } else {
+        //$ Add 699 to x
+        x += 699;
+      }
+    }
+    x = x * 31 + 163;
+    x = x * 31 + 112;
+    x = x * 31 + 169;
+    //X Return x
+    return x;
+  }
+
+  public static int method3(int x) {
+    //$ Add 768 to x
+    x += 768;
+    //? Is x equal to 745?
+    if (x == 745) {
+      //$ Add 89 to x
+      x += 89;
+      //$ Add 551 to x
+      x += 551;
+    } else
+    //? Is x equal to 746?
+    if (x == 746) {
+      //? Is x below 733?
+      while (x < 733) {
+        //? Is x equal to 256?
+        if (x == 256) {
+          //$ Add 15 to x
+          x += 15;
+          x = x * 31 + 159;
+        } else
+        //? Is x equal to 257?
+        if (x == 257) {
+          //$ Add 270 to x
+          x += 270;
+          //$ Add 898 to x
+          x += 898;
+        }
+        //$ Add 788 to x
+        x += 788;
+      }
+    }
+    //? Is x below 642?
+    while (x < 642) {
+      //? Is x equal to 412?
+      if (x == 412) {
+        //? Is x below 869?
+        while (x < 869) {
+          //$ Add 728 to x
+          x += 728;
+        }
+        //? Is x below 924?
+        while (x < 924) {
+          //$ Add 322 to x
+          x += 322;
+          //$ Add 711 to x
+          x += 711;
+        }
+      } else {
+        //$ Add 572 to x
+        x += 572;
+        //? Is x equal to 96?
+        if (x == 96) {
+          //$ Add 508 to x
+          x += 508;
+          //$ Add 141 to x
+          x += 141;
+        } else {
+          //$ Add 847 to x
+          x += 847;
+        }
+      }
+      x = x * 31 + 444;
+    }
+    //$ Add 550 to x
+    x += 550;
+    //? Is x equal to 226?
+    if (x == 226) {
+      //? Is x equal to 824?
+      if (x == 824) {
+        //$ Add 347 to x
+        x += 347;
+      } else
+      //? Is x equal to 825?
+      if (x == 825) {
+        //? Is x below 877?
+        while (x < 877) {
+          //$ Add 626 to x
+          x += 626;
+        }
+      } else
+      //? Is x equal to 826?
+      if (x == 826) {
+        //$ Add 287 to x
+        x += 287;
+      } else
+      //? Is x equal to 827?
+      if (x == 827) {
+        //$ Add 20 to x
+        x += 20;
+      } else {
+        //$ Add 984 to x
+        x += 984;
+        //? Is x equal to 285?
+        if (x == 285) {
+          //$ Add 208 to x
+          x += 208;
+        } else
+        //? Is x equal to 286?
+        if (x == 286) {
+          //$ Add 693 to x
+          x += 693;
+        }
+      }
+      x = x * 31 + 903;
+    } else {
+      //$ Add 909 to x
+      x += 909;
+    }
+    x = x * 31 + 67;
+    //$ Add 728 to x
+    x += 728;
+    //$ Add 627 to x
+    x += 627;
+    //X Return x
+    return x;
+  }
+}
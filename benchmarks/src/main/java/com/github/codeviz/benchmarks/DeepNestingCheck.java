@@ -0,0 +1,171 @@
+package com.github.codeviz.benchmarks;
+
+import com.github.codeviz.flowchart.model.Flowchart;
+import com.github.codeviz.flowchart.parsers.FlowchartParser;
+import com.github.javaparser.ast.comments.LineComment;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.IfStmt;
+import com.github.javaparser.ast.stmt.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Checks that {@link FlowchartParser} translates pathologically nested methods without
+ * overflowing the call stack, e.g., after a change to how it walks the AST.
+ *
+ * Two method bodies are translated on a thread with a small fixed stack: a chain of else-ifs,
+ * with the comment of each between its {@code else} and its {@code if}, and a tower of ifs
+ * nested within one another, each with a process before the next. The bodies are built as ASTs
+ * rather than parsed from source, since (GitHub) JavaParser itself recurses on such nesting.
+ *
+ * Usage: {@code [--arms <count>] [--depth <depth>] [--stack <KB>]}, which default to an
+ * else-if chain of 10,000 arms, a tower of 10,000 ifs, and a stack of 128 KB. Prints the size of
+ * each flowchart, and exits with 1 if either translation overflows the stack or fails.
+ */
+public final class DeepNestingCheck {
+
+  public static void main(String[] args) throws InterruptedException {
+    List<String> options = new ArrayList<>(Arrays.asList(args));
+    int arms = Integer.parseInt(removeOption(options, "--arms", "10000"));
+    int depth = Integer.parseInt(removeOption(options, "--depth", "10000"));
+    long stackSize = Long.parseLong(removeOption(options, "--stack", "128")) * 1024;
+
+    //$ Translate both method bodies
+    boolean chainPassed = check(arms + "-arm else-if chain", buildElseIfChain(arms), stackSize);
+    boolean nestingPassed = check(depth + "-deep nested ifs", buildNestedIfs(depth), stackSize);
+
+    //X Exit with whether both translations succeeded
+    System.exit(chainPassed && nestingPassed ? 0 : 1);
+  }
+
+  /**
+   * Translates {@code methodBody} on a new thread with {@code stackSize} bytes of stack,
+   * reporting the outcome.
+   *
+   * @return Whether the translation succeeded.
+   */
+  private static boolean check(String name, BlockStmt methodBody, long stackSize)
+      throws InterruptedException {
+
+    Flowchart flowchart = new Flowchart();
+    Throwable[] failure = new Throwable[1];
+    OptionalInt[] entry = {OptionalInt.empty()};
+    Thread thread =
+        new Thread(
+            null,
+            () -> {
+              try {
+                entry[0] = new FlowchartParser().parse(methodBody, flowchart);
+              } catch (StackOverflowError | Exception e) {
+                failure[0] = e;
+              }
+            },
+            "deep-nesting-check",
+            stackSize);
+    long startTime = System.nanoTime();
+    thread.start();
+    thread.join();
+    double seconds = (System.nanoTime() - startTime) / 1e9;
+
+    //? Did the translation fail?
+    if (failure[0] != null) {
+      //X Report how
+      System.out.printf("%s: failed on a %d KB stack: %s%n", name, stackSize / 1024, failure[0]);
+      return false;
+    }
+
+    //? Is the flowchart empty?
+    if (!entry[0].isPresent()) {
+      //X Report that the comments were lost
+      System.out.printf("%s: translated to an empty flowchart%n", name);
+      return false;
+    }
+
+    //X Report the size of the flowchart
+    System.out.printf(
+        "%s: %d nodes and %d edges on a %d KB stack in %.2f s%n",
+        name,
+        flowchart.size(),
+        flowchart.getEdgeCount(),
+        stackSize / 1024,
+        seconds);
+    return true;
+  }
+
+  /**
+   * Returns a method body of a single conditional with {@code arms} arms, each testing a value
+   * of {@code x} and holding a process.
+   */
+  private static BlockStmt buildElseIfChain(int arms) {
+    // Built from the last arm outward, so building does not recurse either
+    Statement elseStmt = null;
+    for (int arm = arms - 1; arm >= 0; arm--) {
+      IfStmt ifStmt =
+          new IfStmt(
+              equalsValue(arm),
+              new BlockStmt(Collections.singletonList(process(arm))),
+              elseStmt);
+      ifStmt.setComment(new LineComment("? Is x equal to " + arm + "?"));
+      elseStmt = ifStmt;
+    }
+    return new BlockStmt(
+        elseStmt == null ? Collections.emptyList() : Collections.singletonList(elseStmt));
+  }
+
+  /**
+   * Returns a method body of {@code depth} conditionals nested within one another, each of which
+   * holds a process followed by the next.
+   */
+  private static BlockStmt buildNestedIfs(int depth) {
+    // Built from the innermost conditional outward
+    List<Statement> stmts = new ArrayList<>();
+    for (int level = depth - 1; level >= 0; level--) {
+      stmts.add(0, process(level));
+      IfStmt ifStmt = new IfStmt(equalsValue(level), new BlockStmt(stmts), null);
+      ifStmt.setComment(new LineComment("? Is x equal to " + level + "?"));
+      stmts = new ArrayList<>(Collections.singletonList(ifStmt));
+    }
+    return new BlockStmt(stmts);
+  }
+
+  private static Expression equalsValue(int value) {
+    return new BinaryExpr(
+        new NameExpr("x"),
+        new IntegerLiteralExpr(Integer.toString(value)),
+        BinaryExpr.Operator.equals);
+  }
+
+  /** Returns {@code x += value}, described by a process comment. */
+  private static Statement process(int value) {
+    Statement stmt =
+        new ExpressionStmt(
+            new AssignExpr(
+                new NameExpr("x"),
+                new IntegerLiteralExpr(Integer.toString(value)),
+                AssignExpr.Operator.plus));
+    stmt.setComment(new LineComment("$ Add " + value + " to x"));
+    return stmt;
+  }
+
+  /** Removes {@code option} and the value after it from {@code options}, returning the value. */
+  private static String removeOption(List<String> options, String option, String defaultValue) {
+    int optionIndex = options.indexOf(option);
+    if (optionIndex < 0 || optionIndex + 1 >= options.size()) {
+      return defaultValue;
+    }
+    options.remove(optionIndex);
+    return options.remove(optionIndex);
+  }
+
+  // This class should not be instantiated since it is simply a collection of static functions.
+  private DeepNestingCheck() {}
+}
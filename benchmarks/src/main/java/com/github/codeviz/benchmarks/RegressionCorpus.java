@@ -0,0 +1,153 @@
+package com.github.codeviz.benchmarks;
+
+import com.github.codeviz.flowchart.common.FlowchartCache;
+import com.github.codeviz.flowchart.parsers.BatchParser;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Checks that Codeviz still translates a fixed corpus of generated sources (see
+ * {@link SourceGenerator}) into the same flowcharts, e.g., while the parser or the DOT generator
+ * is being optimized.
+ *
+ * The corpus holds the sources in {@code src}, generated from a fixed shape and seed, and the
+ * OWL and DOT files they are expected to yield in {@code expected}. The sources are regenerated
+ * and compared to the checked-in ones, so changes to the generator are caught too, and parsed by
+ * a {@link BatchParser}, whose OWL and DOT files must match the expected ones byte for byte.
+ *
+ * Usage: {@code [--update] [<corpus directory>]}, where the corpus defaults to
+ * {@code benchmarks/corpus}. Lists the files that differ and exits with 1 if there are any;
+ * with {@code --update}, rewrites the corpus instead, for changes that alter the outputs on
+ * purpose.
+ */
+public final class RegressionCorpus {
+
+  /** The shape of the generated sources of the corpus. */
+  private static final SourceGenerator.Shape SHAPE =
+      new SourceGenerator.Shape(6, 4, 8, 3, 3, 0.75);
+
+  private static final long SEED = 20161017L;
+
+  private static final String DEFAULT_CORPUS_DIRECTORY = "benchmarks/corpus";
+
+  /** Rewrites the corpus from the current generator and parser. */
+  private static final String UPDATE_OPTION = "--update";
+
+  public static void main(String[] args) throws IOException {
+    List<String> options = new ArrayList<>(Arrays.asList(args));
+    boolean update = options.remove(UPDATE_OPTION);
+    Path corpus = Paths.get(options.isEmpty() ? DEFAULT_CORPUS_DIRECTORY : options.get(0));
+    Path sources = corpus.resolve("src");
+    Path expectedOutputs = corpus.resolve("expected");
+
+    Path workDirectory = Files.createTempDirectory("codeviz-corpus");
+    try {
+      //$ Regenerate the sources, and parse them into OWL and DOT files
+      Path generatedSources = workDirectory.resolve("src");
+      SourceGenerator.writeFiles(SHAPE, SEED, generatedSources);
+      Path outputs = workDirectory.resolve("out");
+      new BatchParser(
+              generatedSources, outputs, new BatchParser.Options().threadCount(1).writeDot(true))
+          .run();
+
+      //? Updating the corpus?
+      if (update) {
+        //X Replace it with the new sources and outputs
+        replace(sources, generatedSources);
+        replace(expectedOutputs, outputs);
+        System.out.println("Updated the corpus in " + corpus);
+        return;
+      }
+
+      //$ Compare the new sources and outputs to those of the corpus
+      List<String> differences = new ArrayList<>();
+      compare(sources, generatedSources, differences);
+      compare(expectedOutputs, outputs, differences);
+
+      //X Report the differences, failing if there are any
+      if (!differences.isEmpty()) {
+        differences.forEach(System.out::println);
+        System.out.println(differences.size() + " files differ from the corpus in " + corpus);
+        System.exit(1);
+      }
+      System.out.println("All files match the corpus in " + corpus);
+    } finally {
+      delete(workDirectory);
+    }
+  }
+
+  /**
+   * Adds a line to {@code differences} for every file that is in just one of the directories, or
+   * that differs between them.
+   */
+  private static void compare(
+      Path expectedDirectory, Path actualDirectory, List<String> differences) throws IOException {
+
+    Set<Path> expectedFiles = listFiles(expectedDirectory);
+    Set<Path> actualFiles = listFiles(actualDirectory);
+    Set<Path> files = new TreeSet<>(expectedFiles);
+    files.addAll(actualFiles);
+    for (Path file : files) {
+      Path expectedFile = expectedDirectory.resolve(file);
+      Path actualFile = actualDirectory.resolve(file);
+      if (!actualFiles.contains(file)) {
+        differences.add("Missing: " + expectedFile);
+      } else if (!expectedFiles.contains(file)) {
+        differences.add("Unexpected: " + expectedFile);
+      } else if (!Arrays.equals(Files.readAllBytes(expectedFile), Files.readAllBytes(actualFile))) {
+        differences.add("Differs: " + expectedFile);
+      }
+    }
+  }
+
+
+  /** Returns the paths of the files within {@code directory}, relative to it, but the cache. */
+  private static Set<Path> listFiles(Path directory) throws IOException {
+    if (!Files.isDirectory(directory)) {
+      return new TreeSet<>();
+    }
+    try (Stream<Path> files = Files.walk(directory)) {
+      return files
+          .filter(Files::isRegularFile)
+          .filter(file -> !file.getFileName().toString().equals(FlowchartCache.FILE_NAME))
+          .map(directory::relativize)
+          .collect(Collectors.toCollection(TreeSet::new));
+    }
+  }
+
+  /** Replaces the files within {@code directory} with those within {@code newDirectory}. */
+  private static void replace(Path directory, Path newDirectory) throws IOException {
+    delete(directory);
+    for (Path file : listFiles(newDirectory)) {
+      Path target = directory.resolve(file.toString());
+      Files.createDirectories(target.getParent());
+      Files.copy(newDirectory.resolve(file), target);
+    }
+  }
+
+  /** Deletes {@code directory} and everything within it, if it exists. */
+  private static void delete(Path directory) throws IOException {
+    if (!Files.exists(directory)) {
+      return;
+    }
+    try (Stream<Path> files = Files.walk(directory)) {
+      // Files before the directories that hold them
+      for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  // This class should not be instantiated since it is simply a collection of static functions.
+  private RegressionCorpus() {}
+}
@@ -0,0 +1,134 @@
+package com.github.codeviz.benchmarks;
+
+import com.github.codeviz.flowchart.server.RenderServer;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the latency of a {@link RenderServer} on localhost under concurrent load.
+ *
+ * Each client thread posts generated sources (see {@link SourceGenerator}), drawn round-robin
+ * from a pool of distinct ones, so the share of requests served from the cache (or coalesced)
+ * grows as the pool shrinks relative to the number of requests.
+ *
+ * Usage: {@code [<client count>] [<request count>] [<distinct source count>] [<statements>]
+ * [<depth>] [<server URL>]}. Without a URL, a server is started in this JVM on a free port,
+ * with as many threads as there are clients.
+ */
+public final class RenderLoadTest {
+
+  public static void main(String[] args) throws Exception {
+    int clientCount = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+    int requestCount = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+    int sourceCount = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+    int statements = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+    int depth = args.length > 4 ? Integer.parseInt(args[4]) : 4;
+
+    //$ Start a server unless one is given
+    RenderServer server = null;
+    String serverUrl;
+    if (args.length > 5) {
+      serverUrl = args[5];
+    } else {
+      server = new RenderServer(0, clientCount, 64L << 20);
+      server.start();
+      serverUrl = "http://localhost:" + server.getPort();
+    }
+    URL renderUrl = new URL(serverUrl + "/render?format=dot");
+
+    //$ Generate the distinct sources, varying the number of statements so their hashes differ
+    byte[][] sources = new byte[sourceCount][];
+    for (int i = 0; i < sourceCount; i++) {
+      sources[i] =
+          SourceGenerator.generate(statements + i, depth).getBytes(StandardCharsets.UTF_8);
+    }
+
+    //$ Send the requests from every client at once
+    long[] latencies = new long[requestCount];
+    AtomicInteger nextRequest = new AtomicInteger();
+    AtomicInteger failureCount = new AtomicInteger();
+    CountDownLatch done = new CountDownLatch(clientCount);
+    long startTime = System.nanoTime();
+    for (int client = 0; client < clientCount; client++) {
+      new Thread(() -> {
+        try {
+          int request;
+          while ((request = nextRequest.getAndIncrement()) < requestCount) {
+            long requestStartTime = System.nanoTime();
+            if (!post(renderUrl, sources[request % sourceCount])) {
+              failureCount.incrementAndGet();
+            }
+            latencies[request] = System.nanoTime() - requestStartTime;
+          }
+        } finally {
+          done.countDown();
+        }
+      }).start();
+    }
+    done.await();
+    double seconds = (System.nanoTime() - startTime) / 1e9;
+
+    //X Report the throughput and latency percentiles
+    Arrays.sort(latencies);
+    System.out.printf(
+        "%d requests (%d failed) from %d clients over %d sources in %.2f s: %.1f requests/s%n",
+        requestCount,
+        failureCount.get(),
+        clientCount,
+        sourceCount,
+        seconds,
+        requestCount / seconds);
+    System.out.printf(
+        "Latency (ms): p50 %.2f, p90 %.2f, p99 %.2f, max %.2f%n",
+        percentile(latencies, 0.50),
+        percentile(latencies, 0.90),
+        percentile(latencies, 0.99),
+        latencies[requestCount - 1] / 1e6);
+    try (InputStream stats = new URL(serverUrl + "/stats").openStream()) {
+      System.out.print(new String(ByteStreams.toByteArray(stats), StandardCharsets.UTF_8));
+    }
+    if (server != null) {
+      server.stop(0);
+    }
+  }
+
+  /** Posts {@code source}, reading the whole response, and returns whether it succeeded. */
+  private static boolean post(URL renderUrl, byte[] source) {
+    try {
+      HttpURLConnection connection = (HttpURLConnection) renderUrl.openConnection();
+      connection.setRequestMethod("POST");
+      connection.setDoOutput(true);
+      connection.setFixedLengthStreamingMode(source.length);
+      try (OutputStream output = connection.getOutputStream()) {
+        output.write(source);
+      }
+      boolean succeeded = connection.getResponseCode() == HttpURLConnection.HTTP_OK;
+      try (InputStream input =
+          succeeded ? connection.getInputStream() : connection.getErrorStream()) {
+        if (input != null) {
+          ByteStreams.toByteArray(input);
+        }
+      }
+      return succeeded;
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /** Returns the latency, in milliseconds, below which {@code fraction} of them fall. */
+  private static double percentile(long[] sortedLatencies, double fraction) {
+    int index = (int) Math.ceil(fraction * sortedLatencies.length) - 1;
+    return sortedLatencies[Math.max(index, 0)] / 1e6;
+  }
+
+  // This class should not be instantiated since it is simply a collection of static functions.
+  private RenderLoadTest() {}
+}
@@ -0,0 +1,247 @@
+package com.github.codeviz.benchmarks;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Strings;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/** Generates Java sources with Codeviz comments to benchmark against. */
+public final class SourceGenerator {
+
+  /** The package of the classes that {@link #main} generates. */
+  static final String PACKAGE_NAME = "generated";
+
+  /** The shape of the source files to generate, and of the methods within them. */
+  public static final class Shape {
+    final int files;
+    final int methods;
+    final int statements;
+    final int depth;
+    final int elseIfs;
+    final double annotatedFraction;
+
+    /**
+     * @param files How many source files to generate.
+     * @param methods How many methods each file has.
+     * @param statements How many top-level statements each method has.
+     * @param depth How deeply statements may nest within conditionals and loops.
+     * @param elseIfs How many else-if branches a conditional may have at most.
+     * @param annotatedFraction The share of statements that have Codeviz comments; the others
+     *      are plain code, which becomes part of the process before it.
+     */
+    public Shape(
+        int files, int methods, int statements, int depth, int elseIfs, double annotatedFraction) {
+
+      checkArgument(files >= 0 && methods >= 0 && statements >= 0, "Counts must not be negative");
+      checkArgument(depth >= 0 && elseIfs >= 0, "Depths must not be negative");
+      checkArgument(
+          annotatedFraction >= 0 && annotatedFraction <= 1,
+          "The annotated fraction must be between 0 and 1: %s",
+          annotatedFraction);
+      this.files = files;
+      this.methods = methods;
+      this.statements = statements;
+      this.depth = depth;
+      this.elseIfs = elseIfs;
+      this.annotatedFraction = annotatedFraction;
+    }
+  }
+
+  /**
+   * Usage: {@code [--files <count>] [--methods <count>] [--statements <count>]
+   * [--depth <depth>] [--else-ifs <count>] [--annotated <fraction>] [--seed <seed>]
+   * <output directory>}.
+   *
+   * Writes the files {@code generated/Generated0.java}, {@code generated/Generated1.java}, etc.
+   * within the output directory (see {@link #generate(String, String, Shape, Random)}); the same
+   * options and seed always generate the same files. Defaults to 100 files of 10 methods of
+   * 20 statements, nested up to 3 deep, with up to 2 else-ifs, of which 80% are annotated.
+   */
+  public static void main(String[] args) throws IOException {
+    List<String> options = new ArrayList<>(Arrays.asList(args));
+    Shape shape =
+        new Shape(
+            Integer.parseInt(removeOption(options, "--files", "100")),
+            Integer.parseInt(removeOption(options, "--methods", "10")),
+            Integer.parseInt(removeOption(options, "--statements", "20")),
+            Integer.parseInt(removeOption(options, "--depth", "3")),
+            Integer.parseInt(removeOption(options, "--else-ifs", "2")),
+            Double.parseDouble(removeOption(options, "--annotated", "0.8")));
+    long seed = Long.parseLong(removeOption(options, "--seed", "0"));
+    Path outputDirectory = Paths.get(options.get(0));
+
+    writeFiles(shape, seed, outputDirectory);
+    System.out.printf(
+        "Generated %d files of %d methods in %s%n", shape.files, shape.methods, outputDirectory);
+  }
+
+  /**
+   * Writes the files of {@code shape} into the {@code generated} package within
+   * {@code outputDirectory}, generating them from {@code seed}.
+   */
+  static void writeFiles(Shape shape, long seed, Path outputDirectory) throws IOException {
+    Random random = new Random(seed);
+    Path packageDirectory = outputDirectory.resolve(PACKAGE_NAME);
+    Files.createDirectories(packageDirectory);
+    for (int file = 0; file < shape.files; file++) {
+      String className = "Generated" + file;
+      Files.write(
+          packageDirectory.resolve(className + ".java"),
+          generate(PACKAGE_NAME, className, shape, random).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  /**
+   * Returns the source of a class with a single annotated method, {@code Generated.run(int)},
+   * of {@code statements} top-level steps, each a process nested in {@code depth} if-else
+   * statements, followed by a terminal.
+   *
+   * The flowchart of the method has {@code statements * (2 * depth + 1) + 1} nodes,
+   * not counting the connectors that join the branches.
+   */
+  public static String generate(int statements, int depth) {
+    StringBuilder source = new StringBuilder();
+    source.append("public class Generated {\n");
+    source.append("  public static int run(int x) {\n");
+    for (int statement = 0; statement < statements; statement++) {
+      appendStatement(source, statement, depth, 2);
+    }
+    source.append("    //X Return the result\n");
+    source.append("    return x;\n");
+    source.append("  }\n");
+    source.append("}\n");
+    return source.toString();
+  }
+
+  /**
+   * Returns the source of a class with {@code shape.methods} methods, {@code method0(int)},
+   * {@code method1(int)}, etc., each of {@code shape.statements} top-level statements drawn from
+   * {@code random}: processes, conditionals with up to {@code shape.elseIfs} else-ifs (whose
+   * comments go between the {@code else} and the {@code if}), and while loops, nested up to
+   * {@code shape.depth} deep. Methods with any annotated statement end in a terminal.
+   */
+  public static String generate(
+      String packageName, String className, Shape shape, Random random) {
+
+    StringBuilder source = new StringBuilder();
+    source.append("package ").append(packageName).append(";\n\n");
+    source.append("public class ").append(className).append(" {\n");
+    for (int method = 0; method < shape.methods; method++) {
+      if (method > 0) {
+        source.append("\n");
+      }
+      source.append("  public static int method").append(method).append("(int x) {\n");
+      boolean annotated = false;
+      for (int statement = 0; statement < shape.statements; statement++) {
+        boolean annotate = random.nextDouble() < shape.annotatedFraction;
+        appendRandomStatement(source, shape, shape.depth, 2, annotate, random);
+        annotated |= annotate;
+      }
+      if (annotated) {
+        source.append("    //X Return x\n");
+      }
+      source.append("    return x;\n");
+      source.append("  }\n");
+    }
+    source.append("}\n");
+    return source.toString();
+  }
+
+  private static void appendRandomStatement(
+      StringBuilder source,
+      Shape shape,
+      int depth,
+      int indentation,
+      boolean annotate,
+      Random random) {
+
+    String indent = Strings.repeat("  ", indentation);
+    int value = random.nextInt(1000);
+    if (!annotate) {
+      source.append(indent).append("x = x * 31 + ").append(value).append(";\n");
+      return;
+    }
+
+    // Half of the statements are processes, and all of them at the deepest level
+    int kind = depth == 0 ? 0 : random.nextInt(4);
+    if (kind <= 1) {
+      source.append(indent).append("//$ Add ").append(value).append(" to x\n");
+      source.append(indent).append("x += ").append(value).append(";\n");
+    } else if (kind == 2) {
+      int elseIfs = random.nextInt(shape.elseIfs + 1);
+      source.append(indent).append("//? Is x equal to ").append(value).append("?\n");
+      source.append(indent).append("if (x == ").append(value).append(") {\n");
+      appendRandomBlock(source, shape, depth - 1, indentation + 1, random);
+      for (int elseIf = 1; elseIf <= elseIfs; elseIf++) {
+        source.append(indent).append("} else\n");
+        source
+            .append(indent)
+            .append("//? Is x equal to ")
+            .append(value + elseIf)
+            .append("?\n");
+        source.append(indent).append("if (x == ").append(value + elseIf).append(") {\n");
+        appendRandomBlock(source, shape, depth - 1, indentation + 1, random);
+      }
+      if (random.nextBoolean()) {
+        source.append(indent).append("} else {\n");
+        appendRandomBlock(source, shape, depth - 1, indentation + 1, random);
+      }
+      source.append(indent).append("}\n");
+    } else {
+      source.append(indent).append("//? Is x below ").append(value).append("?\n");
+      source.append(indent).append("while (x < ").append(value).append(") {\n");
+      appendRandomBlock(source, shape, depth - 1, indentation + 1, random);
+      source.append(indent).append("}\n");
+    }
+  }
+
+  /** Appends one or two statements, the first of which is annotated, as branches require. */
+  private static void appendRandomBlock(
+      StringBuilder source, Shape shape, int depth, int indentation, Random random) {
+
+    appendRandomStatement(source, shape, depth, indentation, true, random);
+    if (random.nextBoolean()) {
+      boolean annotate = random.nextDouble() < shape.annotatedFraction;
+      appendRandomStatement(source, shape, depth, indentation, annotate, random);
+    }
+  }
+
+  /** Removes {@code option} and the value after it from {@code options}, returning the value. */
+  private static String removeOption(List<String> options, String option, String defaultValue) {
+    int optionIndex = options.indexOf(option);
+    if (optionIndex < 0 || optionIndex + 1 >= options.size()) {
+      return defaultValue;
+    }
+    options.remove(optionIndex);
+    return options.remove(optionIndex);
+  }
+
+  private static void appendStatement(
+      StringBuilder source, int statement, int depth, int indentation) {
+
+    String indent = Strings.repeat("  ", indentation);
+    if (depth == 0) {
+      source.append(indent).append("//$ Add ").append(statement).append(" to x\n");
+      source.append(indent).append("x += ").append(statement).append(";\n");
+      return;
+    }
+    source.append(indent).append("//? Is bit ").append(depth).append(" of x set?\n");
+    source.append(indent).append("if ((x & (1 << ").append(depth).append(")) != 0) {\n");
+    appendStatement(source, statement, depth - 1, indentation + 1);
+    source.append(indent).append("} else {\n");
+    source.append(indent).append("  //$ Decrement x\n");
+    source.append(indent).append("  x--;\n");
+    source.append(indent).append("}\n");
+  }
+
+  // This class should not be instantiated since it is simply a collection of static functions.
+  private SourceGenerator() {}
+}
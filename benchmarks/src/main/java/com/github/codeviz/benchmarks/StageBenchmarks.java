@@ -0,0 +1,172 @@
+package com.github.codeviz.benchmarks;
+
+import com.github.codeviz.flowchart.common.Utilities;
+import com.github.codeviz.flowchart.generators.DotRenderer;
+import com.github.codeviz.flowchart.model.Flowchart;
+import com.github.codeviz.flowchart.model.FlowchartArchive;
+import com.github.codeviz.flowchart.model.FlowchartSimplifier;
+import com.github.codeviz.flowchart.model.FlowchartValidator;
+import com.github.codeviz.flowchart.model.OwlConverter;
+import com.github.codeviz.flowchart.parsers.FlowchartParser;
+import com.github.javaparser.ast.CompilationUnit;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.jena.ontology.OntModel;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.reasoner.ValidityReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of each stage of the Codeviz pipeline on its own, over generated
+ * inputs (see {@link SourceGenerator}) of growing size and nesting depth.
+ *
+ * The input of every stage is prepared once per trial, so a benchmark only measures its stage.
+ * Run with {@code -prof gc} to also measure the allocation rate of each stage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StageBenchmarks {
+
+  /** The name of the flowchart of the generated method. */
+  private static final String FLOWCHART_NAME = "Generated.run(int)";
+
+  /** The number of top-level steps in the generated method. */
+  @Param({"10", "100", "1000"})
+  public int statements;
+
+  /** The number of if-else statements each step is nested in. */
+  @Param({"0", "4", "16"})
+  public int depth;
+
+  private final FlowchartParser parser = new FlowchartParser();
+  private final DotRenderer renderer = new DotRenderer();
+
+  private byte[] source;
+  private CompilationUnit javaAst;
+  private Flowchart flowchart;
+  private Model individuals;
+  private OntModel flowchartModel;
+  private ByteBuffer archive;
+
+  @Setup
+  public void setUp() throws Exception {
+    source = SourceGenerator.generate(statements, depth).getBytes(StandardCharsets.UTF_8);
+    javaAst = com.github.javaparser.JavaParser.parse(new ByteArrayInputStream(source));
+    flowchart = parser.parse(javaAst).values().iterator().next();
+    individuals = ModelFactory.createDefaultModel();
+    OwlConverter.toOwl(flowchart, FLOWCHART_NAME, individuals);
+    flowchartModel = Utilities.createFlowchartModel();
+    flowchartModel.add(individuals);
+    ByteArrayOutputStream archiveBytes = new ByteArrayOutputStream();
+    FlowchartArchive.write(Collections.singletonMap("main", flowchart), archiveBytes);
+    archive = ByteBuffer.wrap(archiveBytes.toByteArray());
+  }
+
+  /** Parses the Java source into a (GitHub) JavaParser AST. */
+  @Benchmark
+  public CompilationUnit parseJava() throws Exception {
+    return com.github.javaparser.JavaParser.parse(new ByteArrayInputStream(source));
+  }
+
+  /** Translates the Codeviz comments of the AST into flowcharts. */
+  @Benchmark
+  public Map<String, Flowchart> translate() throws Exception {
+    return parser.parse(javaAst);
+  }
+
+  /** Encodes the flowchart as individuals of the OWL flowchart ontology. */
+  @Benchmark
+  public List<Resource> buildModel() {
+    return OwlConverter.toOwl(flowchart, FLOWCHART_NAME, ModelFactory.createDefaultModel());
+  }
+
+  /** Validates the encoding with the OWL reasoner, as {@code --strict} does. */
+  @Benchmark
+  public ValidityReport validateWithReasoner() {
+    // Rebinding discards the inferences of the previous invocation
+    flowchartModel.rebind();
+    return flowchartModel.validate();
+  }
+
+  /** Validates the structure of the encoding without a reasoner. */
+  @Benchmark
+  public List<String> validateStructure() {
+    return FlowchartValidator.validate(individuals);
+  }
+
+  /** Converts the encoding back to a flowchart, as the DOT generator does. */
+  @Benchmark
+  public Flowchart readModel() {
+    return OwlConverter.fromOwl(individuals);
+  }
+
+  /** Simplifies the flowchart before rendering, as {@code --fold} does. */
+  @Benchmark
+  public Flowchart simplify() {
+    return FlowchartSimplifier.simplify(flowchart, true);
+  }
+
+  /** Renders the flowchart as a DOT graph, discarding the output. */
+  @Benchmark
+  public void renderDot() throws IOException {
+    renderer.render(flowchart, NullWriter.INSTANCE);
+  }
+
+  /** Writes the flowchart to an in-memory {@link FlowchartArchive}. */
+  @Benchmark
+  public byte[] writeArchive() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    FlowchartArchive.write(Collections.singletonMap("main", flowchart), output);
+    return output.toByteArray();
+  }
+
+  /** Opens an in-memory {@link FlowchartArchive} and decodes its flowchart. */
+  @Benchmark
+  public Flowchart readArchive() throws IOException {
+    return FlowchartArchive.read(archive).get("main").get();
+  }
+
+  /** Discards everything written to it, so rendering is measured without the cost of I/O. */
+  private static final class NullWriter extends Writer {
+    static final NullWriter INSTANCE = new NullWriter();
+
+    @Override
+    public void write(char[] buffer, int offset, int length) {}
+
+    @Override
+    public void write(int c) {}
+
+    @Override
+    public void write(String text) {}
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() {}
+  }
+}
@@ -0,0 +1,354 @@
+package com.github.codeviz.benchmarks;
+
+import com.github.codeviz.flowchart.model.Flowchart;
+import com.github.codeviz.flowchart.model.FlowchartDiff;
+import com.github.codeviz.flowchart.model.FlowchartSimplifier;
+import com.github.codeviz.flowchart.model.NodeKind;
+import com.github.codeviz.flowchart.parsers.FlowchartParser;
+import com.github.codeviz.flowchart.parsers.MarkerScanner;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Checks the pieces that the incremental and simplified outputs rest on in isolation, on small
+ * hand-built inputs, so a regression points at the piece rather than at a differing corpus file
+ * (see {@link RegressionCorpus}): the translation of switch statements by
+ * {@link FlowchartParser}, the node matching of {@link FlowchartDiff} (and
+ * {@link Flowchart#isIdenticalTo}), the passes of {@link FlowchartSimplifier}, and the comment
+ * openers {@link MarkerScanner} recognizes.
+ *
+ * Usage: no arguments. Lists the checks that fail, with what was expected and what was found,
+ * and exits with 1 if there are any.
+ */
+public final class UnitChecks {
+
+  public static void main(String[] args) {
+    List<String> failures = new ArrayList<>();
+
+    //$ Run the checks of each piece
+    checkSwitchTranslation(failures);
+    checkFlowchartDiff(failures);
+    checkFlowchartSimplifier(failures);
+    checkMarkerScanner(failures);
+
+    //? Did any check fail?
+    if (!failures.isEmpty()) {
+      //X Report them, failing
+      failures.forEach(System.out::println);
+      System.out.println(failures.size() + " checks failed");
+      System.exit(1);
+    }
+
+    //X Report that all passed
+    System.out.println("All checks passed");
+  }
+
+  private static void checkSwitchTranslation(List<String> failures) {
+    // The default case first, yet the first decision is still node 0
+    expect(
+        failures,
+        "Switch with the default case first starts with a decision",
+        translate(
+            "switch (x) { default: /*$ dflt */ y = 0; break; case 1: /*$ one */ y = 1; }"),
+        "0 Decision which? (case 1) -> 2 / 1; 1 Process dflt -> 3; 2 Process one -> 3;"
+            + " 3 Connector");
+
+    // The default case between two others, into which the one before falls through
+    expect(
+        failures,
+        "Switch with the default case in the middle chains the decisions around it",
+        translate(
+            "switch (x) { case 1: /*$ one */ y = 1; default: /*$ dflt */ y = 0; break;"
+                + " case 2: /*$ two */ y = 2; }"),
+        "0 Decision which? (case 1) -> 2 / 1; 1 Decision which? (case 2) -> 4 / 3;"
+            + " 2 Process one -> 3; 3 Process dflt -> 5; 4 Process two -> 5; 5 Connector");
+
+    // The last case is empty, so its decision leaves the switch whether true or false
+    expect(
+        failures,
+        "Empty last case leaves the switch by one edge",
+        translate("switch (x) { case 1: /*$ one */ y = 1; break; case 2: }"),
+        "0 Decision which? (case 1) -> 2 / 1; 1 Decision which? (case 2) -> 3 / -1;"
+            + " 2 Process one -> 3; 3 Connector");
+  }
+
+  private static void checkFlowchartDiff(List<String> failures) {
+    // a -> b -> end, against itself
+    FlowchartDiff sameDiff = FlowchartDiff.compare(straightRun("a", "b"), straightRun("a", "b"));
+    expect(failures, "Diff of equal flowcharts is unchanged", sameDiff.isUnchanged(), true);
+    expect(failures, "Diff of equal flowcharts matches node 1 to 1", sameDiff.getNewNode(1), 1);
+
+    // A process inserted at the start renumbers every node after it
+    FlowchartDiff insertionDiff =
+        FlowchartDiff.compare(straightRun("a", "b"), straightRun("new", "a", "b"));
+    expect(failures, "Inserted process is added", insertionDiff.getAddedNodes(), list(0));
+    expect(failures, "Insertion removes nothing", insertionDiff.getRemovedNodes(), list());
+    expect(failures, "Insertion rewires nothing", insertionDiff.getRewiredNodes(), list());
+    expect(failures, "Renumbered process is matched", insertionDiff.getNewNode(0), 1);
+    expect(failures, "Renumbered terminal is matched", insertionDiff.getNewNode(2), 3);
+
+    // A reworded process is matched through the node before it
+    FlowchartDiff rewordingDiff =
+        FlowchartDiff.compare(straightRun("a", "b"), straightRun("a", "b2"));
+    expect(failures, "Reworded process is relabelled", rewordingDiff.getRelabelledNodes(), list(1));
+    expect(
+        failures,
+        "Rewording leaves the structure unchanged",
+        rewordingDiff.isStructurallyUnchanged(),
+        true);
+    expect(failures, "Rewording is a change", rewordingDiff.isUnchanged(), false);
+
+    // A removed process leaves the process before it flowing elsewhere
+    FlowchartDiff removalDiff =
+        FlowchartDiff.compare(straightRun("a", "b", "c"), straightRun("a", "c"));
+    expect(failures, "Removed process is removed", removalDiff.getRemovedNodes(), list(1));
+    expect(failures, "Process before it is rewired", removalDiff.getRewiredNodes(), list(0));
+
+    // Swapping the branches of a decision rewires just the decision
+    FlowchartDiff swapDiff =
+        FlowchartDiff.compare(
+            branches("Is x set?", "x", "y", false), branches("Is x set?", "y", "x", false));
+    expect(
+        failures,
+        "Decision with swapped branches is rewired",
+        swapDiff.getRewiredNodes(),
+        list(0));
+    expect(failures, "Swapping branches adds nothing", swapDiff.getAddedNodes(), list());
+
+    // Adding the branches in the other order renumbers them, but changes nothing else
+    Flowchart flowchart = branches("Is x set?", "x", "y", false);
+    Flowchart renumberedFlowchart = branches("Is x set?", "x", "y", true);
+    expect(
+        failures,
+        "Diff of renumbered flowcharts is unchanged",
+        FlowchartDiff.compare(flowchart, renumberedFlowchart).isUnchanged(),
+        true);
+    expect(
+        failures,
+        "Renumbered flowcharts are not identical",
+        flowchart.isIdenticalTo(renumberedFlowchart),
+        false);
+    expect(
+        failures,
+        "Equal flowcharts are identical",
+        flowchart.isIdenticalTo(branches("Is x set?", "x", "y", false)),
+        true);
+  }
+
+  private static void checkFlowchartSimplifier(List<String> failures) {
+    // a -> connector -> connector -> end
+    Flowchart chain = new Flowchart();
+    int process = chain.addNode(NodeKind.PROCESS, "a");
+    int firstConnector = chain.addNode(NodeKind.CONNECTOR, null);
+    int lastConnector = chain.addNode(NodeKind.CONNECTOR, null);
+    int terminal = chain.addNode(NodeKind.TERMINAL, "end");
+    chain.setNextNode(process, firstConnector);
+    chain.setNextNode(firstConnector, lastConnector);
+    chain.setNextNode(lastConnector, terminal);
+    Flowchart collapsedChain = FlowchartSimplifier.simplify(chain, false);
+    expect(
+        failures,
+        "Connector chain is collapsed",
+        describe(collapsedChain),
+        "0 Process a -> 1; 1 Connector -> 2; 2 Terminal end");
+    expect(failures, "Simplification leaves its input unchanged", chain.size(), 4);
+
+    // Connectors flowing to each other in a cycle
+    Flowchart cycle = new Flowchart();
+    int connector = cycle.addNode(NodeKind.CONNECTOR, null);
+    int otherConnector = cycle.addNode(NodeKind.CONNECTOR, null);
+    cycle.setNextNode(connector, otherConnector);
+    cycle.setNextNode(otherConnector, connector);
+    expect(
+        failures,
+        "Connector cycle is kept",
+        describe(FlowchartSimplifier.simplify(cycle, false)),
+        "0 Connector -> 1; 1 Connector -> 0");
+
+    // Both branches of a decision return
+    Flowchart returns = new Flowchart();
+    int decision = returns.addNode(NodeKind.DECISION, "Is x set?");
+    returns.setTrueBranch(decision, returns.addNode(NodeKind.TERMINAL, "Return x"));
+    returns.setFalseBranch(decision, returns.addNode(NodeKind.TERMINAL, "Return x"));
+    expect(
+        failures,
+        "Equal terminals are merged",
+        describe(FlowchartSimplifier.simplify(returns, false)),
+        "0 Decision Is x set? -> 1 / 1; 1 Terminal Return x");
+
+    // Straight runs of processes, folded and not
+    Flowchart run = straightRun("a", "b", "c");
+    expect(
+        failures,
+        "Run of processes is folded",
+        describe(FlowchartSimplifier.simplify(run, true)),
+        "0 Process a\\nb\\nc -> 1; 1 Terminal end");
+    expect(
+        failures,
+        "Run of processes is kept unless folding",
+        describe(FlowchartSimplifier.simplify(run, false)),
+        describe(run));
+
+    // A process that two nodes flow to starts a run of its own
+    Flowchart join = new Flowchart();
+    int joinDecision = join.addNode(NodeKind.DECISION, "Is x set?");
+    int trueProcess = join.addNode(NodeKind.PROCESS, "a");
+    int joinProcess = join.addNode(NodeKind.PROCESS, "b");
+    int joinTerminal = join.addNode(NodeKind.TERMINAL, "end");
+    join.setTrueBranch(joinDecision, trueProcess);
+    join.setFalseBranch(joinDecision, joinProcess);
+    join.setNextNode(trueProcess, joinProcess);
+    join.setNextNode(joinProcess, joinTerminal);
+    expect(
+        failures,
+        "Process reached from two nodes is not folded",
+        describe(FlowchartSimplifier.simplify(join, true)),
+        describe(join));
+
+    expect(
+        failures,
+        "Empty flowchart stays empty",
+        FlowchartSimplifier.simplify(new Flowchart(), true).size(),
+        0);
+  }
+
+  private static void checkMarkerScanner(List<String> failures) {
+    expect(failures, "Line comment marker is found", containsMarker("int x; //$ Set x"), true);
+    expect(failures, "Block comment marker is found", containsMarker("/*? Is x set? */"), true);
+    expect(failures, "End marker is found", containsMarker("//X Return x"), true);
+    expect(failures, "Marker ending the source is found", containsMarker("//$"), true);
+    expect(failures, "Plain comment is skipped", containsMarker("// Set x"), false);
+    expect(failures, "Marker after a space is skipped", containsMarker("/* $ x */"), false);
+    expect(failures, "Marker outside a comment is skipped", containsMarker("a / b$"), false);
+    expect(failures, "Opener without a marker is skipped", containsMarker("//"), false);
+
+    // Only the bytes between the position and the limit are scanned
+    ByteBuffer source = ByteBuffer.wrap("//$ Set x".getBytes(StandardCharsets.UTF_8));
+    source.position(1);
+    expect(
+        failures,
+        "Bytes before the position are skipped",
+        MarkerScanner.containsMarker(source),
+        false);
+    expect(failures, "Position is left unchanged", source.position(), 1);
+    source.position(0).limit(2);
+    expect(
+        failures,
+        "Bytes after the limit are skipped",
+        MarkerScanner.containsMarker(source),
+        false);
+  }
+
+  /** Returns a flowchart of a process per description, in order, followed by a terminal. */
+  private static Flowchart straightRun(String... descriptions) {
+    Flowchart flowchart = new Flowchart();
+    int lastNode = Flowchart.NONE;
+    for (String description : descriptions) {
+      int node = flowchart.addNode(NodeKind.PROCESS, description);
+      if (lastNode != Flowchart.NONE) {
+        flowchart.setNextNode(lastNode, node);
+      }
+      lastNode = node;
+    }
+    int terminal = flowchart.addNode(NodeKind.TERMINAL, "end");
+    if (lastNode != Flowchart.NONE) {
+      flowchart.setNextNode(lastNode, terminal);
+    }
+    return flowchart;
+  }
+
+  /**
+   * Returns a flowchart of a decision whose branches each hold a process and end in a shared
+   * terminal, adding the false branch first if {@code falseBranchFirst}.
+   */
+  private static Flowchart branches(
+      String condition, String trueDescription, String falseDescription, boolean falseBranchFirst) {
+
+    Flowchart flowchart = new Flowchart();
+    int decision = flowchart.addNode(NodeKind.DECISION, condition);
+    int falseProcess =
+        falseBranchFirst ? flowchart.addNode(NodeKind.PROCESS, falseDescription) : Flowchart.NONE;
+    int trueProcess = flowchart.addNode(NodeKind.PROCESS, trueDescription);
+    if (!falseBranchFirst) {
+      falseProcess = flowchart.addNode(NodeKind.PROCESS, falseDescription);
+    }
+    int terminal = flowchart.addNode(NodeKind.TERMINAL, "end");
+    flowchart.setTrueBranch(decision, trueProcess);
+    flowchart.setFalseBranch(decision, falseProcess);
+    flowchart.setNextNode(trueProcess, terminal);
+    flowchart.setNextNode(falseProcess, terminal);
+    return flowchart;
+  }
+
+  /**
+   * Returns every node of {@code flowchart} by number, as its kind, text, and the nodes it flows
+   * to (a decision's true and false branches separated by a slash), e.g.,
+   * {@code 0 Process a -> 1; 1 Terminal end}.
+   */
+  private static String describe(Flowchart flowchart) {
+    StringBuilder description = new StringBuilder();
+    for (int node = 0; node < flowchart.size(); node++) {
+      if (node > 0) {
+        description.append("; ");
+      }
+      description.append(node).append(' ').append(flowchart.getKind(node).getClassLocalName());
+      if (flowchart.getText(node) != null) {
+        description.append(' ').append(flowchart.getText(node).replace("\n", "\\n"));
+      }
+      if (flowchart.getNextNode(node) != Flowchart.NONE) {
+        description.append(" -> ").append(flowchart.getNextNode(node));
+      } else if (flowchart.getTrueBranch(node) != Flowchart.NONE) {
+        description
+            .append(" -> ")
+            .append(flowchart.getTrueBranch(node))
+            .append(" / ")
+            .append(flowchart.getFalseBranch(node));
+      }
+    }
+    return description.toString();
+  }
+
+  /**
+   * Translates {@code statements}, the first of which is described by {@code //? which?}, as the
+   * body of a method, and returns the flowchart as {@link #describe} does, or the failure.
+   */
+  private static String translate(String statements) {
+    String source = "class C { void m(int x, int y) { //? which?\n" + statements + " } }";
+    try {
+      Map<String, Flowchart> flowcharts =
+          new FlowchartParser()
+              .parse(
+                  com.github.javaparser.JavaParser.parse(
+                      new ByteArrayInputStream(source.getBytes(StandardCharsets.UTF_8))));
+      return flowcharts.isEmpty()
+          ? "no flowchart"
+          : describe(flowcharts.values().iterator().next());
+    } catch (com.github.javaparser.ParseException | java.text.ParseException e) {
+      return e.toString();
+    }
+  }
+
+  private static boolean containsMarker(String source) {
+    return MarkerScanner.containsMarker(ByteBuffer.wrap(source.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static List<Integer> list(Integer... nodes) {
+    return Arrays.asList(nodes);
+  }
+
+  /** Records a failure of the check named {@code name} unless {@code actual} is as expected. */
+  private static void expect(List<String> failures, String name, Object actual, Object expected) {
+    if (!Objects.equals(actual, expected)) {
+      failures.add(name + ": expected " + expected + " but was " + actual);
+    }
+  }
+
+  // This class should not be instantiated since it is simply a collection of static functions.
+  private UnitChecks() {}
+}
@@ -6,6 +6,9 @@ public final class Constants {
   public static final String URI_FILE_PREFIX = "file:";
   public static final String FLOWCHART_ONTOLOGY_PATH = "src/main/owl/FlowchartModel.owl";
 
+  /** The extension of OWL files encoded in RDF Thrift rather than Turtle. */
+  public static final String THRIFT_EXTENSION = ".trdf";
+
   /**
    * The flowchart model's owl namespace and its local names.
    *
@@ -16,6 +19,10 @@ public final class Constants {
   public static final String FLOWCHART_ONTOLOGY_NAMESPACE =
       "https://github.com/JustisAllen/Codeviz#";
 
+  /** The namespace of flowchart individuals, which are named after their flowcharts. */
+  public static final String FLOWCHART_INDIVIDUAL_NAMESPACE =
+      "https://github.com/JustisAllen/Codeviz/flowcharts/";
+
   // Classes
   public static final String CONNECTOR_LN = "Connector";
   public static final String DECISION_LN = "Decision";
@@ -0,0 +1,144 @@
+package com.github.codeviz.flowchart.common;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * An on-disk record of the content hashes from which generated outputs were last produced,
+ * so that outputs whose inputs are unchanged can be skipped on later runs.
+ *
+ * Every hash also covers the flowchart ontology and the version of the output encoding, so
+ * changing either invalidates the whole cache. Entries may be read and updated concurrently;
+ * {@link #save()} must not be.
+ */
+public final class FlowchartCache {
+
+  /** The name of the cache file within the directory of outputs it describes. */
+  public static final String FILE_NAME = ".codeviz-cache";
+
+  private static final String ONTOLOGY_HASH = hashOntology();
+
+  /** The number of characters of the hashes returned by {@link #hash}. */
+  private static final int HASH_LENGTH = Hashing.sha256().bits() / 4;
+
+  /** The version of the encoding of the outputs, raised whenever it changes. */
+  public static final String OUTPUT_VERSION = "2";
+
+  private final Path file;
+
+  /** Maps keys chosen by the callers (e.g., input paths) to content hashes. */
+  private final Properties entries = new Properties();
+
+  private FlowchartCache(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Loads the cache describing the outputs in {@code outputDirectory},
+   * which is empty if no cache has been saved there yet.
+   */
+  public static FlowchartCache load(Path outputDirectory) throws IOException {
+    return load(outputDirectory, FILE_NAME);
+  }
+
+  /**
+   * Loads the cache named {@code fileName} in {@code outputDirectory}, e.g., for outputs that are
+   * kept apart from those described by the default cache, which is empty if it has not been
+   * saved yet.
+   */
+  public static FlowchartCache load(Path outputDirectory, String fileName) throws IOException {
+    FlowchartCache cache = new FlowchartCache(outputDirectory.resolve(fileName));
+    if (Files.exists(cache.file)) {
+      try (InputStream input = Files.newInputStream(cache.file)) {
+        cache.entries.load(input);
+      }
+    }
+    return cache;
+  }
+
+  /** Returns the hash of {@code content} together with the flowchart ontology. */
+  public static String hash(byte[] content) {
+    return newHasher().putBytes(content).hash().toString();
+  }
+
+  /**
+   * Returns the hash of the content of {@code file} together with the flowchart ontology, which
+   * equals the hash of its bytes, without holding more than a buffer of them in memory.
+   */
+  public static String hash(Path file) throws IOException {
+    Hasher hasher = newHasher();
+    try (OutputStream output = Funnels.asOutputStream(hasher)) {
+      Files.copy(file, output);
+    }
+    return hasher.hash().toString();
+  }
+
+  /** Returns the hash of {@code content} together with the flowchart ontology. */
+  public static String hash(String content) {
+    return newHasher().putString(content, StandardCharsets.UTF_8).hash().toString();
+  }
+
+  /** Decides whether the output recorded under {@code key} was produced from {@code hash}. */
+  public boolean isUpToDate(String key, String hash) {
+    return hash.equals(entries.getProperty(key));
+  }
+
+  /**
+   * Returns what was appended to the hash recorded under {@code key} (e.g., a tag of the kinds of
+   * outputs produced), if anything is recorded under it.
+   */
+  public Optional<String> getHashSuffix(String key) {
+    return Optional.ofNullable(entries.getProperty(key))
+        .map(hash -> hash.substring(Math.min(HASH_LENGTH, hash.length())));
+  }
+
+  /** Records that the output under {@code key} was produced from {@code hash}. */
+  public void update(String key, String hash) {
+    entries.setProperty(key, hash);
+  }
+
+  public void remove(String key) {
+    entries.remove(key);
+  }
+
+  public Set<String> keys() {
+    return entries.stringPropertyNames();
+  }
+
+  /** Writes the cache back to the directory it was loaded from. */
+  public void save() throws IOException {
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    try (OutputStream output = Files.newOutputStream(file)) {
+      entries.store(output, "Codeviz content hashes");
+    }
+  }
+
+  private static Hasher newHasher() {
+    return Hashing.sha256()
+        .newHasher()
+        .putString(ONTOLOGY_HASH, StandardCharsets.UTF_8)
+        .putString(OUTPUT_VERSION, StandardCharsets.UTF_8);
+  }
+
+  private static String hashOntology() {
+    try {
+      return Hashing.sha256()
+          .hashBytes(Files.readAllBytes(Paths.get(Constants.FLOWCHART_ONTOLOGY_PATH)))
+          .toString();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
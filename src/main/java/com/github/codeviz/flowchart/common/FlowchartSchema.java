@@ -0,0 +1,169 @@
+package com.github.codeviz.flowchart.common;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.ontology.OntClass;
+import org.apache.jena.ontology.OntModel;
+import org.apache.jena.ontology.OntModelSpec;
+import org.apache.jena.ontology.OntProperty;
+import org.apache.jena.ontology.OntResource;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.system.StreamRDFBase;
+import org.apache.jena.sparql.graph.GraphReadOnly;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+/**
+ * The flowchart ontology, read from {@link Constants#FLOWCHART_ONTOLOGY_PATH} once per JVM
+ * and shared by every component.
+ *
+ * The schema is immutable, so it is safe to use from several threads at once; its classes and
+ * properties are resolved up front and looked up by local name. Flowchart individuals belong in
+ * an instance model from {@link #createInstanceModel()}, which layers them over the schema.
+ */
+public final class FlowchartSchema {
+
+  private final Model model;
+  private final ImmutableMap<String, OntClass> classes;
+  private final ImmutableMap<String, OntProperty> properties;
+
+  /** The triples of the ontology file, in its order, with its blank nodes labelled by order. */
+  private final ImmutableList<Triple> triples;
+
+  private FlowchartSchema() {
+    Model ontology =
+        Utilities.readTurtleOwlFile(
+                ModelFactory.createOntologyModel(OntModelSpec.OWL_MEM),
+                Constants.FLOWCHART_ONTOLOGY_PATH)
+            .getBaseModel();
+    this.model = ModelFactory.createModelForGraph(new GraphReadOnly(ontology.getGraph()));
+
+    // Resolve the classes and properties against the read-only model, so they cannot modify it
+    OntModel readOnlyOntology = ModelFactory.createOntologyModel(OntModelSpec.OWL_MEM, model);
+    this.classes = indexByLocalName(readOnlyOntology.listNamedClasses());
+    this.properties = indexByLocalName(readOnlyOntology.listAllOntProperties());
+    this.triples = readCanonicalTriples();
+  }
+
+  /** Returns the schema, reading the ontology if this is the first use in the JVM. */
+  public static FlowchartSchema get() {
+    return Holder.INSTANCE;
+  }
+
+  /** Returns a read-only model of the ontology. */
+  public Model getModel() {
+    return model;
+  }
+
+  /** Returns the namespace prefixes of the ontology, sorted by prefix. */
+  public SortedMap<String, String> getNsPrefixes() {
+    return ImmutableSortedMap.copyOf(model.getNsPrefixMap());
+  }
+
+  /**
+   * Returns the triples of the ontology in the order of the ontology file, rather than in the
+   * hash order of the model, with blank nodes labelled {@code s0}, {@code s1}, etc. in the order
+   * they first appear; so every JVM writes the schema in the same order, with the same labels.
+   */
+  public List<Triple> getTriples() {
+    return triples;
+  }
+
+  /**
+   * Returns the desired class if it exists in the ontology; otherwise, an exception is thrown.
+   */
+  public OntClass getOntClass(String classLocalName) {
+    return checkNotNull(
+        classes.get(classLocalName),
+        "The flowchart node class %s does not exist in the ontology.",
+        classLocalName);
+  }
+
+  /**
+   * Returns the desired property if it exists in the ontology; otherwise, an exception is thrown.
+   */
+  public OntProperty getProperty(String propertyLocalName) {
+    return checkNotNull(
+        properties.get(propertyLocalName),
+        "The property %s does not exist in the ontology.",
+        propertyLocalName);
+  }
+
+  /**
+   * Returns a new, empty model for flowchart individuals, layered over the schema
+   * with RDFS inference, so it can be {@link OntModel#validate() validated}.
+   *
+   * Statements added to the model go to its {@link OntModel#getBaseModel() base model},
+   * so instance models are isolated from one another and never modify the schema.
+   */
+  public OntModel createInstanceModel() {
+    OntModel instanceModel = ModelFactory.createOntologyModel(OntModelSpec.OWL_MEM_RDFS_INF);
+    instanceModel.setNsPrefixes(model.getNsPrefixMap());
+    instanceModel.addSubModel(model);
+    return instanceModel;
+  }
+
+  private static <T extends OntResource> ImmutableMap<String, T> indexByLocalName(
+      ExtendedIterator<T> resources) {
+
+    Map<String, T> index = new HashMap<>();
+    resources
+        .filterDrop(resource -> resource.isAnon())
+        .forEachRemaining(resource -> index.putIfAbsent(resource.getLocalName(), resource));
+    return ImmutableMap.copyOf(index);
+  }
+
+  private static ImmutableList<Triple> readCanonicalTriples() {
+    ImmutableList.Builder<Triple> triples = ImmutableList.builder();
+    Map<Node, Node> blankNodes = new HashMap<>();
+    // Read as Turtle explicitly, since Jena takes files with the .owl extension for RDF/XML
+    try (InputStream input = Files.newInputStream(Paths.get(Constants.FLOWCHART_ONTOLOGY_PATH))) {
+      RDFDataMgr.parse(
+          new StreamRDFBase() {
+            @Override
+            public void triple(Triple triple) {
+              triples.add(
+                  Triple.create(
+                      relabel(triple.getSubject()),
+                      triple.getPredicate(),
+                      relabel(triple.getObject())));
+            }
+
+            private Node relabel(Node node) {
+              return node.isBlank()
+                  ? blankNodes.computeIfAbsent(
+                      node, blankNode -> NodeFactory.createBlankNode("s" + blankNodes.size()))
+                  : node;
+            }
+          },
+          input,
+          Constants.URI_FILE_PREFIX + Constants.FLOWCHART_ONTOLOGY_PATH,
+          Lang.TURTLE);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return triples.build();
+  }
+
+  /** Defers reading the ontology until the schema is first used. */
+  private static final class Holder {
+    private static final FlowchartSchema INSTANCE = new FlowchartSchema();
+  }
+}
@@ -0,0 +1,100 @@
+package com.github.codeviz.flowchart.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.system.StreamRDFBase;
+import org.apache.jena.tdb.TDB;
+import org.apache.jena.tdb.TDBFactory;
+
+/**
+ * An on-disk Jena TDB store of flowchart individuals, for OWL encodings too large to read into
+ * an in-memory model, e.g., those of every method of a huge generated file.
+ *
+ * The encoding is streamed into the store rather than read whole, and synced to disk in batches
+ * of {@link #BATCH_SIZE} triples. The store is private to its creator, so it is written and read
+ * without transactions: TDB holds every block a write transaction changes on the heap until the
+ * transaction is flushed, which for a large encoding takes more memory than the encoding itself.
+ * Once loaded, the store is read through the usual {@link Model} API, which fetches triples from
+ * disk as they are iterated, so the heap holds the triples being visited and what the reader
+ * builds from them (e.g., the entry per individual of a {@code FlowchartValidator}), rather than
+ * the whole encoding.
+ * The store lives in a temporary directory, which is deleted when it is closed; it must not be
+ * read and loaded at once.
+ */
+public final class FlowchartStore implements AutoCloseable {
+
+  /** How many triples are added to the store between syncs. */
+  public static final int BATCH_SIZE = 50_000;
+
+  private final Path directory;
+  private final Dataset dataset;
+
+  private FlowchartStore(Path directory) {
+    this.directory = directory;
+    this.dataset = TDBFactory.createDataset(directory.toString());
+  }
+
+  /** Creates an empty store in a new temporary directory. */
+  public static FlowchartStore createTemporary() throws IOException {
+    return new FlowchartStore(Files.createTempDirectory("codeviz-store"));
+  }
+
+  /**
+   * Streams the OWL file into the store, reading it as RDF Thrift if it has the {@code .trdf}
+   * extension, and as Turtle otherwise (like {@link Utilities#readOwlFile}).
+   *
+   * @return The number of triples read.
+   */
+  public long load(String filePath) throws IOException {
+    Lang lang = filePath.endsWith(Constants.THRIFT_EXTENSION) ? Lang.RDFTHRIFT : Lang.TURTLE;
+    BatchLoader loader = new BatchLoader();
+    try (InputStream input = Files.newInputStream(Paths.get(filePath))) {
+      RDFDataMgr.parse(loader, input, Constants.URI_FILE_PREFIX + filePath, lang);
+    }
+    TDB.sync(dataset);
+    return loader.tripleCount;
+  }
+
+  /** Returns the stored model, which reads from the store as it is queried. */
+  public Model getModel() {
+    return dataset.getDefaultModel();
+  }
+
+  /** Releases the store and deletes its directory. */
+  @Override
+  public void close() throws IOException {
+    TDBFactory.release(dataset);
+    try (Stream<Path> files = Files.walk(directory)) {
+      // Files before the directories that hold them
+      for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  /** Adds the triples streamed to it to the store, syncing it to disk after every batch. */
+  private final class BatchLoader extends StreamRDFBase {
+
+    private final Graph graph = dataset.asDatasetGraph().getDefaultGraph();
+    private long tripleCount = 0;
+
+    @Override
+    public void triple(Triple triple) {
+      graph.add(triple);
+      if (++tripleCount % BATCH_SIZE == 0) {
+        TDB.sync(dataset);
+      }
+    }
+  }
+}
@@ -0,0 +1,237 @@
+package com.github.codeviz.flowchart.common;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records how long each stage of Codeviz takes, and how much memory it allocates, per file,
+ * as JSON lines (one object per stage), e.g., to find the inputs a run is slow on.
+ *
+ * Recording is off unless {@link #enable(String)} is called (see {@link #enableFromOptions}),
+ * in which case every {@link Stage} started with {@link #start(String)} writes a line like
+ * <pre>{@code
+ * {"stage":"translate","file":"a/Demo.java","thread":"pool-1-thread-2","startMillis":...,
+ *  "wallNanos":1520000,"allocatedBytes":420816,"methods":3,"nodes":41,"edges":44}
+ * }</pre>
+ * when it is closed. Allocated bytes are those of the thread running the stage, as reported by
+ * the JVM, or -1 where it cannot report them. While recording is off, stages cost nothing.
+ */
+public final class Metrics {
+
+  /** The command-line option that enables recording, followed by the output file. */
+  public static final String METRICS_OPTION = "--metrics";
+
+  /** The output file that stands for standard error. */
+  private static final String STANDARD_ERROR = "-";
+
+  // Stages
+  public static final String FILE = "file";
+  public static final String PARSE_SOURCE = "parseSource";
+  public static final String TRANSLATE = "translate";
+  public static final String WRITE_OWL = "writeOwl";
+  public static final String WRITE_ARCHIVE = "writeArchive";
+  public static final String READ_OWL = "readOwl";
+  public static final String READ_ARCHIVE = "readArchive";
+  public static final String VALIDATE_WITH_REASONER = "validateWithReasoner";
+  public static final String VALIDATE_STRUCTURE = "validateStructure";
+  public static final String CONVERT_FROM_OWL = "convertFromOwl";
+  public static final String SIMPLIFY = "simplify";
+  public static final String RENDER_DOT = "renderDot";
+  public static final String RENDER_IMAGE = "renderImage";
+
+  // Counts
+  public static final String METHODS = "methods";
+  public static final String NODES = "nodes";
+  public static final String EDGES = "edges";
+  public static final String TRIPLES = "triples";
+
+  private static final Stage DISABLED_STAGE = new Stage(null);
+
+  private static final ThreadLocal<String> currentFile = new ThreadLocal<>();
+
+  private static volatile Writer output;
+
+  /**
+   * Starts recording to {@code outputFilePath}, which is overwritten, or to standard error if
+   * it is {@code -}. The output is flushed after every line.
+   */
+  public static synchronized void enable(String outputFilePath) throws IOException {
+    output =
+        outputFilePath.equals(STANDARD_ERROR)
+            ? new BufferedWriter(new OutputStreamWriter(System.err, StandardCharsets.UTF_8))
+            : Files.newBufferedWriter(Paths.get(outputFilePath), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Removes {@code --metrics <output file>} from the command-line {@code options}, if present,
+   * and starts recording to the file.
+   */
+  public static void enableFromOptions(List<String> options) throws IOException {
+    int optionIndex = options.indexOf(METRICS_OPTION);
+    if (optionIndex >= 0 && optionIndex + 1 < options.size()) {
+      options.remove(optionIndex);
+      enable(options.remove(optionIndex));
+    }
+  }
+
+  public static boolean isEnabled() {
+    return output != null;
+  }
+
+  /**
+   * Sets the file (e.g., its path relative to the source tree) that the stages started by the
+   * current thread are attributed to, or clears it if {@code file} is null.
+   */
+  public static void setCurrentFile(String file) {
+    if (file == null) {
+      currentFile.remove();
+    } else {
+      currentFile.set(file);
+    }
+  }
+
+  /** Starts timing {@code stage} on the current thread, if recording. */
+  public static Stage start(String stage) {
+    return output == null ? DISABLED_STAGE : new Stage(stage);
+  }
+
+  /** A stage being timed, which is recorded when it is closed. */
+  public static final class Stage implements AutoCloseable {
+    private final String name;
+    private final String file;
+    private final long startMillis;
+    private final long startNanos;
+    private final long startAllocatedBytes;
+    private final Map<String, Long> counts = new LinkedHashMap<>();
+    private String method;
+
+    private Stage(String name) {
+      this.name = name;
+      this.file = name == null ? null : currentFile.get();
+      this.startMillis = name == null ? 0 : System.currentTimeMillis();
+      this.startAllocatedBytes = name == null ? 0 : getAllocatedBytes();
+      this.startNanos = name == null ? 0 : System.nanoTime();
+    }
+
+    /** Attributes the stage to the method with {@code signature}. */
+    public Stage setMethod(String signature) {
+      if (name != null) {
+        method = signature;
+      }
+      return this;
+    }
+
+    /** Adds {@code amount} to the count named {@code count}, e.g., {@link Metrics#NODES}. */
+    public Stage count(String count, long amount) {
+      if (name != null) {
+        counts.merge(count, amount, Long::sum);
+      }
+      return this;
+    }
+
+    /** Records the stage, unless recording is off. */
+    @Override
+    public void close() {
+      if (name == null) {
+        return;
+      }
+      long wallNanos = System.nanoTime() - startNanos;
+      long endAllocatedBytes = getAllocatedBytes();
+      long allocatedBytes =
+          endAllocatedBytes < 0 || startAllocatedBytes < 0
+              ? -1
+              : endAllocatedBytes - startAllocatedBytes;
+
+      StringBuilder line = new StringBuilder("{");
+      appendField(line, "stage", name);
+      if (file != null) {
+        appendField(line, "file", file);
+      }
+      if (method != null) {
+        appendField(line, "method", method);
+      }
+      appendField(line, "thread", Thread.currentThread().getName());
+      appendField(line, "startMillis", startMillis);
+      appendField(line, "wallNanos", wallNanos);
+      appendField(line, "allocatedBytes", allocatedBytes);
+      counts.forEach((count, amount) -> appendField(line, count, amount));
+      line.setCharAt(line.length() - 1, '}');
+      line.append('\n');
+      write(line.toString());
+    }
+  }
+
+  private static synchronized void write(String line) {
+    try {
+      output.write(line);
+      output.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Returns the bytes allocated by the current thread so far, or -1 if unsupported. */
+  private static long getAllocatedBytes() {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    return threads instanceof com.sun.management.ThreadMXBean
+        ? ((com.sun.management.ThreadMXBean) threads)
+            .getThreadAllocatedBytes(Thread.currentThread().getId())
+        : -1;
+  }
+
+  private static void appendField(StringBuilder line, String field, long value) {
+    appendString(line, field);
+    line.append(':').append(value).append(',');
+  }
+
+  private static void appendField(StringBuilder line, String field, String value) {
+    appendString(line, field);
+    line.append(':');
+    appendString(line, value);
+    line.append(',');
+  }
+
+  /** Appends {@code text} as a JSON string. */
+  private static void appendString(StringBuilder line, String text) {
+    line.append('"');
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      switch (c) {
+        case '"':
+        case '\\':
+          line.append('\\').append(c);
+          break;
+        case '\n':
+          line.append("\\n");
+          break;
+        case '\r':
+          line.append("\\r");
+          break;
+        case '\t':
+          line.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            line.append(String.format("\\u%04x", (int) c));
+          } else {
+            line.append(c);
+          }
+      }
+    }
+    line.append('"');
+  }
+
+  // This class should not be instantiated since it is simply a collection of static functions.
+  private Metrics() {}
+}
@@ -1,19 +1,26 @@
 package com.github.codeviz.flowchart.common;
 
-import static com.google.common.base.Preconditions.checkNotNull;
-
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import org.apache.jena.ontology.Individual;
 import org.apache.jena.ontology.OntModel;
 import org.apache.jena.ontology.OntProperty;
-import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.util.FileUtils;
 
 /** Common functions for dealing with the OWL flowchart ontology. */
 public final class Utilities {
 
+  /**
+   * Returns a new model for flowchart individuals, layered over the shared
+   * {@link FlowchartSchema}; the ontology itself is only read once per JVM.
+   */
   public static OntModel createFlowchartModel() {
-    return readTurtleOwlFile(
-        ModelFactory.createOntologyModel(), Constants.FLOWCHART_ONTOLOGY_PATH);
+    return FlowchartSchema.get().createInstanceModel();
   }
 
   public static OntModel readTurtleOwlFile(OntModel model, String filePath) {
@@ -21,14 +28,26 @@ public final class Utilities {
     return model;
   }
 
+  /**
+   * Reads the OWL file into {@code model}, which may be a plain one, e.g., without inference.
+   * The file is read as RDF Thrift if it has the {@code .trdf} extension, and as Turtle otherwise.
+   *
+   * Unlike {@link Model#read(String, String)}, this does not guess the language of the file from
+   * its {@code .owl} extension.
+   */
+  public static <M extends Model> M readOwlFile(M model, String filePath) throws IOException {
+    Lang lang = filePath.endsWith(Constants.THRIFT_EXTENSION) ? Lang.RDFTHRIFT : Lang.TURTLE;
+    try (InputStream input = Files.newInputStream(Paths.get(filePath))) {
+      RDFDataMgr.read(model, input, Constants.URI_FILE_PREFIX + filePath, lang);
+    }
+    return model;
+  }
+
   /**
    * Returns the desired property if it exists in the ontology; otherwise, an exception is thrown.
    */
   public static OntProperty getProperty(String propertyLocalName) {
-    return checkNotNull(
-        flowchartModel.getOntProperty(Constants.FLOWCHART_ONTOLOGY_NAMESPACE + propertyLocalName),
-        "The property %s does not exist in the ontology.",
-        propertyLocalName);
+    return FlowchartSchema.get().getProperty(propertyLocalName);
   }
 
   /** Decides whether {@code flowchartNode} has the given property set. */
@@ -36,16 +55,6 @@ public final class Utilities {
     return flowchartNode.hasProperty(getProperty(propertyLocalName));
   }
 
-  /**
-   * A local reference to the flowchart ontology.
-   *
-   * Instances of {@link OntModel} are modified as concrete individuals are added,
-   * so they are mutable and therefore not good candidates for true constants.
-   * Ideally, we would maintain an immutable copy of the persistent ontology in {@link Constants},
-   * but it's unclear to me how we might do that.
-   */
-  private static OntModel flowchartModel = createFlowchartModel();
-
   // This class should not be instantiated since it is simply a collection of utility functions.
   private Utilities() {}
 }
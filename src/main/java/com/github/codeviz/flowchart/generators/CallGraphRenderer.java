@@ -0,0 +1,105 @@
+package com.github.codeviz.flowchart.generators;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.github.codeviz.flowchart.model.Flowchart;
+import com.github.codeviz.flowchart.model.FlowchartIndex;
+import com.github.codeviz.flowchart.model.NodeKind;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Renders the flowchart of a method together with those of the methods its processes call, as
+ * one Graphviz DOT graph.
+ *
+ * Each flowchart is drawn once, in a cluster labelled with the signature of its method, and
+ * each process is joined to the first node of every method it calls by a dashed edge. Callees
+ * are looked up in a {@link FlowchartIndex} and expanded breadth-first, up to a given depth of
+ * calls, as they are reached, so no more of the index is decoded than is drawn; a callee shared
+ * by several callers, or reached again through recursion, is linked to the cluster already drawn
+ * rather than expanded again.
+ *
+ * Renderers hold no state between calls, but the index they read must not be updated meanwhile.
+ */
+public final class CallGraphRenderer {
+
+  /** The style of the edges from processes to the methods they call. */
+  private static final String CALL_EDGE_STYLE = "dashed";
+
+  private final FlowchartIndex index;
+
+  public CallGraphRenderer(FlowchartIndex index) {
+    this.index = index;
+  }
+
+  /**
+   * Writes the DOT graph of the flowchart of the method with {@code signature}, and those of the
+   * methods it calls up to {@code depth} calls away, to {@code output}, which should be buffered.
+   */
+  public void render(String signature, int depth, Writer output) throws IOException {
+    checkArgument(depth >= 0, "The depth must not be negative: %s", depth);
+    Optional<Flowchart> root = index.getFlowchart(signature);
+    checkArgument(root.isPresent(), "No flowchart of %s in the index", signature);
+
+    // Maps the signature of every method reached to the number of its first node in the graph
+    Map<String, Integer> offsets = new LinkedHashMap<>();
+    offsets.put(signature, 0);
+    int nextOffset = root.get().size();
+    Deque<String> methods = new ArrayDeque<>();
+    methods.add(signature);
+    Map<String, Integer> levels = new LinkedHashMap<>();
+    levels.put(signature, 0);
+    List<int[]> calls = new ArrayList<>();
+    int clusterCount = 0;
+    DotWriter graph = new DotWriter(output);
+
+    //$ Start the graph
+    graph.beginGraph();
+
+    //? Are there methods left to draw?
+    while (!methods.isEmpty()) {
+      //$ Draw the flowchart of the next method in a cluster of its own
+      String method = methods.poll();
+      Flowchart flowchart = index.getFlowchart(method).get();
+      int offset = offsets.get(method);
+      graph.beginCluster(clusterCount++, method);
+      DotRenderer.renderNodes(flowchart, offset, graph);
+      graph.endCluster();
+
+      //$ Link its processes to their callees, queueing those not reached yet if not too deep
+      int level = levels.get(method);
+      for (int node = 0; node < flowchart.size(); node++) {
+        if (flowchart.getKind(node) != NodeKind.PROCESS) {
+          continue;
+        }
+        for (String callee : index.getCallees(method, node)) {
+          if (!offsets.containsKey(callee)) {
+            if (level >= depth) {
+              continue;
+            }
+            offsets.put(callee, nextOffset);
+            nextOffset += index.getFlowchart(callee).get().size();
+            levels.put(callee, level + 1);
+            methods.add(callee);
+          }
+          calls.add(new int[] {offset + node, offsets.get(callee)});
+        }
+      }
+    }
+
+    //$ Draw the calls outside the clusters, so no cluster claims the nodes of another
+    for (int[] call : calls) {
+      graph.edge(call[0], call[1], CALL_EDGE_STYLE);
+    }
+
+    //X Finish the graph
+    graph.endGraph();
+  }
+}
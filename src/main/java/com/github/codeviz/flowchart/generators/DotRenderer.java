@@ -0,0 +1,102 @@
+package com.github.codeviz.flowchart.generators;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.github.codeviz.flowchart.common.Constants;
+import com.github.codeviz.flowchart.model.Flowchart;
+import com.github.codeviz.flowchart.model.NodeKind;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Renders {@link Flowchart}s as Graphviz DOT graphs.
+ *
+ * Nodes and edges are streamed to the output through a {@link DotWriter} as the flowchart is
+ * traversed, so rendering needs no memory beyond the flowchart itself.
+ *
+ * Renderers hold no state between calls, so a single renderer may be shared
+ * by any number of threads.
+ */
+public final class DotRenderer {
+
+  /**
+   * Writes the DOT graph representing {@code abstractFlowchart} to {@code output},
+   * which should be buffered.
+   */
+  public void render(Flowchart abstractFlowchart, Writer output) throws IOException {
+    DotWriter flowchart = new DotWriter(output);
+
+    //$ Write each node followed by its outgoing edges
+    flowchart.beginGraph();
+    renderNodes(abstractFlowchart, 0, flowchart);
+
+    //X Finish the graph
+    flowchart.endGraph();
+  }
+
+  /**
+   * Writes each node of {@code abstractFlowchart} followed by its outgoing edges, numbering the
+   * nodes from {@code offset}, so several flowcharts can be drawn in one graph.
+   */
+  static void renderNodes(Flowchart abstractFlowchart, int offset, DotWriter flowchart)
+      throws IOException {
+
+    for (int node = 0; node < abstractFlowchart.size(); node++) {
+      toDot(abstractFlowchart, node, offset, flowchart);
+    }
+  }
+
+  private static void toDot(Flowchart abstractFlowchart, int node, int offset, DotWriter flowchart)
+      throws IOException {
+
+    NodeKind kind = abstractFlowchart.getKind(node);
+
+    switch (kind) {
+      case CONNECTOR:
+        flowchart.node(offset + node, "circle", "");
+        break;
+      case DECISION:
+        String condition =
+            checkNotNull(
+                abstractFlowchart.getText(node),
+                "Decision node %s does not have required data property %s.",
+                node,
+                Constants.HAS_CONDITION_LN);
+
+        flowchart.node(offset + node, "diamond", condition);
+
+        int trueBranch = abstractFlowchart.getTrueBranch(node);
+        checkArgument(
+            trueBranch != Flowchart.NONE,
+            "Decision node %s does not have required object property %s.",
+            node,
+            Constants.HAS_TRUE_BRANCH_LN);
+
+        flowchart.edge(offset + node, offset + trueBranch);
+
+        if (abstractFlowchart.getFalseBranch(node) != Flowchart.NONE) {
+          flowchart.edge(offset + node, offset + abstractFlowchart.getFalseBranch(node));
+        }
+        break;
+      case PROCESS:
+      case TERMINAL:
+        String description =
+            checkNotNull(
+                abstractFlowchart.getText(node),
+                "%s node %s does not have required data property %s.",
+                kind.getClassLocalName(),
+                node,
+                Constants.HAS_DESCRIPTION_LN);
+
+        flowchart.node(offset + node, kind == NodeKind.PROCESS ? "box" : "oval", description);
+        break;
+      default:
+        // Do nothing
+    }
+
+    if (abstractFlowchart.getNextNode(node) != Flowchart.NONE) {
+      flowchart.edge(offset + node, offset + abstractFlowchart.getNextNode(node));
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.github.codeviz.flowchart.generators;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes a Graphviz DOT graph to a {@link Writer} one statement at a time,
+ * so the graph is never held in memory.
+ *
+ * Nodes are identified by number. Statements are written as they are given, so the writer
+ * should be buffered; {@link #endGraph()} flushes it.
+ */
+public final class DotWriter {
+
+  private final Writer output;
+
+  public DotWriter(Writer output) {
+    this.output = output;
+  }
+
+  public void beginGraph() throws IOException {
+    output.write("digraph {\n");
+  }
+
+  public void node(int node, String shape, String label) throws IOException {
+    output.write("  n");
+    output.write(Integer.toString(node));
+    output.write(" [shape=");
+    writeQuoted(shape);
+    output.write(", label=");
+    writeQuoted(label);
+    output.write("];\n");
+  }
+
+  public void edge(int fromNode, int toNode) throws IOException {
+    output.write("  n");
+    output.write(Integer.toString(fromNode));
+    output.write(" -> n");
+    output.write(Integer.toString(toNode));
+    output.write(";\n");
+  }
+
+  /** Writes an edge drawn in {@code style}, e.g., {@code dashed}. */
+  public void edge(int fromNode, int toNode, String style) throws IOException {
+    output.write("  n");
+    output.write(Integer.toString(fromNode));
+    output.write(" -> n");
+    output.write(Integer.toString(toNode));
+    output.write(" [style=");
+    writeQuoted(style);
+    output.write("];\n");
+  }
+
+  /**
+   * Begins a cluster, which draws the nodes written until {@link #endCluster()} in a box labelled
+   * {@code label}. Clusters are identified by number.
+   */
+  public void beginCluster(int cluster, String label) throws IOException {
+    output.write("  subgraph cluster_");
+    output.write(Integer.toString(cluster));
+    output.write(" {\n  label=");
+    writeQuoted(label);
+    output.write(";\n");
+  }
+
+  public void endCluster() throws IOException {
+    output.write("  }\n");
+  }
+
+  public void endGraph() throws IOException {
+    output.write("}\n");
+    output.flush();
+  }
+
+  /** Writes {@code text} as a DOT quoted string. */
+  private void writeQuoted(String text) throws IOException {
+    output.write('"');
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      switch (c) {
+        case '"':
+        case '\\':
+          output.write('\\');
+          output.write(c);
+          break;
+        case '\n':
+          output.write("\\n");
+          break;
+        case '\r':
+          break;
+        default:
+          output.write(c);
+      }
+    }
+    output.write('"');
+  }
+}
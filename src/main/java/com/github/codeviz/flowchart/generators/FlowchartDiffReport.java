@@ -0,0 +1,60 @@
+package com.github.codeviz.flowchart.generators;
+
+import com.github.codeviz.flowchart.model.Flowchart;
+import com.github.codeviz.flowchart.model.FlowchartArchive;
+import com.github.codeviz.flowchart.model.FlowchartDiff;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reports how the flowcharts of two versions of a {@link FlowchartArchive} differ, e.g., for a
+ * code review to show which flowcharts a change affects, without rendering either version.
+ *
+ * Usage: {@code <old archive file> <new archive file>}. Prints a section per flowchart that was
+ * added, removed, or changed, headed by its name, with a line per changed node for the latter
+ * (see {@link FlowchartDiff#toString()}); prints nothing if every flowchart is the same.
+ * Exits with 1 if any flowchart differs, like {@code diff}.
+ */
+public final class FlowchartDiffReport {
+
+  public static void main(String[] args) throws IOException {
+    FlowchartArchive oldArchive = FlowchartArchive.open(Paths.get(args[0]));
+    FlowchartArchive newArchive = FlowchartArchive.open(Paths.get(args[1]));
+
+    //$ Compare the flowcharts of every name in either archive
+    Set<String> names = new LinkedHashSet<>(oldArchive.getNames());
+    names.addAll(newArchive.getNames());
+    boolean differ = false;
+    for (String name : names) {
+      Optional<Flowchart> oldFlowchart = oldArchive.get(name);
+      Optional<Flowchart> newFlowchart = newArchive.get(name);
+
+      //? Is the flowchart in just one of the archives?
+      if (!oldFlowchart.isPresent() || !newFlowchart.isPresent()) {
+        //$ Report it as added or removed
+        System.out.println((oldFlowchart.isPresent() ? "Removed " : "Added ") + name);
+        differ = true;
+        continue;
+      }
+
+      //? Did the flowchart change?
+      FlowchartDiff diff = FlowchartDiff.compare(oldFlowchart.get(), newFlowchart.get());
+      if (!diff.isUnchanged()) {
+        //$ Report how
+        System.out.println(
+            (diff.isStructurallyUnchanged() ? "Relabelled " : "Changed ") + name);
+        System.out.print(diff);
+        differ = true;
+      }
+    }
+
+    //X Exit with whether any flowchart differs
+    System.exit(differ ? 1 : 0);
+  }
+
+  // This class should not be instantiated since it is simply a collection of static functions.
+  private FlowchartDiffReport() {}
+}
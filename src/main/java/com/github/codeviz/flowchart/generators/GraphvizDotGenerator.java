@@ -1,112 +1,409 @@
 package com.github.codeviz.flowchart.generators;
 
-import static com.google.common.base.Preconditions.checkNotNull;
-
-import com.github.codeviz.flowchart.common.Constants;
+import com.github.codeviz.flowchart.common.FlowchartCache;
+import com.github.codeviz.flowchart.common.FlowchartStore;
+import com.github.codeviz.flowchart.common.Metrics;
 import com.github.codeviz.flowchart.common.Utilities;
-import java.io.File;
+import com.github.codeviz.flowchart.model.Flowchart;
+import com.github.codeviz.flowchart.model.FlowchartArchive;
+import com.github.codeviz.flowchart.model.FlowchartIndex;
+import com.github.codeviz.flowchart.model.FlowchartSimplifier;
+import com.github.codeviz.flowchart.model.FlowchartValidator;
+import com.github.codeviz.flowchart.model.OwlConverter;
+import java.io.BufferedWriter;
 import java.io.IOException;
-import org.anarres.graphviz.builder.GraphVizGraph;
-import org.anarres.graphviz.builder.GraphVizNode;
-import org.anarres.graphviz.builder.GraphVizScope;
-import org.apache.jena.ontology.Individual;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 import org.apache.jena.ontology.OntModel;
-import org.apache.jena.rdf.model.RDFNode;
-import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.reasoner.ValidityReport;
 
-/** Generates a Graphviz DOT file that represents the flowchart of a Codeviz OWL encoding. */
+/**
+ * Generates a Graphviz DOT file that represents the flowchart of a Codeviz OWL encoding,
+ * in Turtle or RDF Thrift, or of a {@link FlowchartArchive}.
+ *
+ * The encoding is checked by a {@link FlowchartValidator} and converted to a {@link Flowchart},
+ * so rendering it with a {@link DotRenderer} does not query the ontology model. With
+ * {@code --strict}, the encoding is also validated by the OWL reasoner, which is far slower.
+ * With {@code --spill}, the encoding is read into a {@link FlowchartStore} on disk rather than
+ * into memory, and validated and converted from there, for encodings whose triples are too many
+ * for the heap. The validator and the converter still keep an entry per node in memory, as does
+ * the flowchart, so memory use grows with the number of nodes but no longer with the encoding.
+ * Archives are read without either validation, since decoding them checks their structure.
+ * With {@code --depth}, the flowchart of a method is read from a {@link FlowchartIndex} instead,
+ * and rendered with those of the methods it calls by a {@link CallGraphRenderer}.
+ * With {@code --metrics <metrics file>}, the time and memory each stage takes are recorded
+ * (see {@link Metrics}).
+ */
 public class GraphvizDotGenerator {
 
-  private static final OntModel flowchartModel = Utilities.createFlowchartModel();
+  private static final String DEFAULT_OUTPUT_FILE_PATH = "out.dot";
+
+  /**
+   * The name of the cache of the DOT files generated in a directory, kept apart from the
+   * {@link FlowchartCache#FILE_NAME} of a {@code BatchParser} that may write to the same one.
+   */
+  private static final String CACHE_FILE_NAME = ".codeviz-dot-cache";
+
+  /** The output file path that stands for standard output. */
+  private static final String STANDARD_OUTPUT = "-";
+
+  /** Additionally validates the encoding with the OWL reasoner. */
+  private static final String STRICT_OPTION = "--strict";
+
+  /** Reads the encoding into a store on disk rather than into memory. */
+  private static final String SPILL_OPTION = "--spill";
+
+  /** Simplifies the flowchart before rendering it (see {@link FlowchartSimplifier}). */
+  private static final String SIMPLIFY_OPTION = "--simplify";
+
+  /** Also folds straight runs of processes when simplifying; implies {@code --simplify}. */
+  private static final String FOLD_OPTION = "--fold";
+
+  /** Chooses the flowchart of an archive to render, followed by its name. */
+  private static final String METHOD_OPTION = "--method";
 
-  private static final GraphVizGraph flowchart = new GraphVizGraph();
-  private static final GraphVizScope scope = new GraphVizScope.Impl();
+  /** Also renders the callees of the method, followed by how many calls deep to go. */
+  private static final String DEPTH_OPTION = "--depth";
 
+  /** Writes a DOT graph. */
+  private interface DotGraph {
+    void render(Writer output) throws IOException;
+  }
+
+  /**
+   * Usage: {@code [--strict | --spill] [--simplify] [--fold] [--method <name>]
+   * [--metrics <metrics file>] <input OWL or archive file> [<output DOT file>]}, or
+   * {@code --depth <depth> --method <signature> [--metrics <metrics file>] <index archive file>
+   * [<output DOT file>]}.
+   *
+   * With {@code --spill}, an OWL encoding is read into a temporary store on disk, which is slower
+   * but keeps its triples off the heap; only an entry per node is held in memory.
+   * The output file defaults to {@code out.dot}; {@code -} writes to standard output instead,
+   * in which case error messages go to standard error. The flowchart of an archive that holds
+   * several is chosen with {@code --method}, by its name, e.g., {@code Demo.main(String[])}.
+   * With {@code --depth}, the input is the archive of an index ({@code .codeviz-index.cvf}, see
+   * {@link FlowchartIndex}), the method is chosen by its fully-qualified signature, e.g.,
+   * {@code com.example.Demo.main(String[])}, and the methods it calls are drawn up to
+   * {@code <depth>} calls away; such graphs cannot be simplified.
+   */
+  @SuppressWarnings("try")
   public static void main(String[] args) throws IOException {
 
-    //$ Parse the input OWL flowchart encoding file into the flowchart model
-    Utilities.readTurtleOwlFile(flowchartModel, args[0] /* input file path */);
+    List<String> options = new ArrayList<>(Arrays.asList(args));
+    Metrics.enableFromOptions(options);
+    boolean strict = options.remove(STRICT_OPTION);
+    boolean spill = options.remove(SPILL_OPTION);
+    boolean foldProcesses = options.remove(FOLD_OPTION);
+    boolean simplify = options.remove(SIMPLIFY_OPTION) || foldProcesses;
+    Optional<String> method = Optional.empty();
+    int methodIndex = options.indexOf(METHOD_OPTION);
+    if (methodIndex >= 0 && methodIndex + 1 < options.size()) {
+      options.remove(methodIndex);
+      method = Optional.of(options.remove(methodIndex));
+    }
+    OptionalInt depth = OptionalInt.empty();
+    int depthIndex = options.indexOf(DEPTH_OPTION);
+    if (depthIndex >= 0 && depthIndex + 1 < options.size()) {
+      options.remove(depthIndex);
+      depth = OptionalInt.of(Integer.parseInt(options.remove(depthIndex)));
+    }
+    args = options.toArray(new String[0]);
 
-    ValidityReport report = flowchartModel.validate();
+    String inputFilePath = args[0];
+    Metrics.setCurrentFile(inputFilePath);
+    String outputFilePath = args.length > 1 ? args[1] : DEFAULT_OUTPUT_FILE_PATH;
+    boolean toStandardOutput = outputFilePath.equals(STANDARD_OUTPUT);
+    PrintStream messages = toStandardOutput ? System.err : System.out;
 
-    //? Is the encoding invalid?
-    if (!report.isClean()) {
-      //X Exit and report why the encoding is invalid
-      System.out.println("The given abstract flowchart is invalid:");
-      report.getReports().forEachRemaining(System.out::println);
+    //? Validating a spilled encoding with the OWL reasoner, which needs it in memory?
+    if (strict && spill) {
+      //X Exit with an error message
+      messages.println(STRICT_OPTION + " cannot be combined with " + SPILL_OPTION + ".");
+      System.exit(1);
+    }
+
+    //? Expanding the callees of a flowchart that cannot be expanded?
+    if (depth.isPresent()
+        && (simplify || !inputFilePath.endsWith(FlowchartIndex.ARCHIVE_FILE_NAME))) {
+      //X Exit with an error message
+      messages.println(
+          simplify
+              ? "Flowcharts cannot be simplified when rendered with their callees."
+              : DEPTH_OPTION + " requires the archive of an index, "
+                  + FlowchartIndex.ARCHIVE_FILE_NAME + ".");
       System.exit(1);
     }
 
-    //$ Build the flowchart
-    flowchartModel.listIndividuals().forEachRemaining(GraphvizDotGenerator::toGraphviz);
+    //$ Hash the input flowchart file (and with callees, the calls of the index)
+    // The files are hashed as they are read, so a spilled encoding is never held in memory whole;
+    // the options are part of the hash, since they change the DOT file
+    String inputHash =
+        FlowchartCache.hash(Paths.get(inputFilePath))
+            + (depth.isPresent()
+                ? FlowchartCache.hash(
+                        Paths.get(inputFilePath).resolveSibling(FlowchartIndex.FILE_NAME))
+                    + DEPTH_OPTION
+                    + depth.getAsInt()
+                : "")
+            + (simplify ? SIMPLIFY_OPTION : "")
+            + (foldProcesses ? FOLD_OPTION : "")
+            + method.map(name -> METHOD_OPTION + name).orElse("");
+    Path outputFile = Paths.get(outputFilePath).toAbsolutePath();
+    FlowchartCache cache =
+        FlowchartCache.load(
+            toStandardOutput ? Paths.get("") : outputFile.getParent(), CACHE_FILE_NAME);
+    String cacheKey = outputFile.getFileName().toString();
+
+    //? Was the existing DOT file generated from the same encoding, which need not be validated?
+    // With --strict, the encoding is validated again, so the cache is neither read nor written
+    if (!toStandardOutput
+        && !strict
+        && cache.isUpToDate(cacheKey, inputHash)
+        && Files.exists(outputFile)) {
+      //X Keep the existing DOT file
+      return;
+    }
+
+    //? Rendering the callees too?
+    DotGraph graph;
+    if (depth.isPresent()) {
+      //$ Look the flowchart up in the index, to be expanded as it is rendered
+      graph = readCallGraph(inputFilePath, method, depth.getAsInt(), messages);
+    } else {
+      //? Is the input an archive?
+      Flowchart abstractFlowchart;
+      if (inputFilePath.endsWith(FlowchartArchive.EXTENSION)) {
+        //$ Decode the chosen flowchart of the archive
+        abstractFlowchart = readArchivedFlowchart(inputFilePath, method, messages);
+      } else {
+        //$ Read, validate, and convert the OWL encoding
+        abstractFlowchart = readOwlFlowchart(inputFilePath, strict, spill, messages);
+      }
 
-    //X Write the Graphviz DOT file based on the flowchart encoding
-    flowchart.writeTo(new File("out.dot"));
+      //? Simplifying the flowchart?
+      if (simplify) {
+        //$ Shrink the flowchart, reporting how much
+        Flowchart simplifiedFlowchart;
+        try (Metrics.Stage stage = Metrics.start(Metrics.SIMPLIFY)) {
+          simplifiedFlowchart = FlowchartSimplifier.simplify(abstractFlowchart, foldProcesses);
+          stage
+              .count(Metrics.NODES, simplifiedFlowchart.size())
+              .count(Metrics.EDGES, simplifiedFlowchart.getEdgeCount());
+        }
+        messages.println(FlowchartSimplifier.report(abstractFlowchart, simplifiedFlowchart));
+        abstractFlowchart = simplifiedFlowchart;
+      }
+      Flowchart renderedFlowchart = abstractFlowchart;
+      graph = output -> new DotRenderer().render(renderedFlowchart, output);
+    }
+
+    //? Writing to standard output?
+    if (toStandardOutput) {
+      //X Stream the Graphviz DOT graph to standard output
+      Writer output =
+          new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+      try (Metrics.Stage stage = Metrics.start(Metrics.RENDER_DOT)) {
+        graph.render(output);
+      }
+      return;
+    }
+
+    //$ Stream the Graphviz DOT file based on the flowchart
+    Files.createDirectories(outputFile.getParent());
+    try (Metrics.Stage stage = Metrics.start(Metrics.RENDER_DOT);
+        Writer output = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+      graph.render(output);
+    }
+
+    //X Record the encoding the DOT file was generated from, unless validating strictly
+    if (!strict) {
+      cache.update(cacheKey, inputHash);
+      cache.save();
+    }
   }
 
-  private static void toGraphviz(Individual flowchartNode) {
-    GraphVizNode thisGraphVizNode = flowchart.node(scope, flowchartNode.asResource());
-
-    switch (flowchartNode.getOntClass(true).getLocalName()) {
-      case Constants.CONNECTOR_LN:
-        thisGraphVizNode.shape("circle").label("");
-        break;
-      case Constants.DECISION_LN:
-        RDFNode condition =
-            checkNotNull(
-                flowchartNode.getPropertyValue(
-                    Utilities.getProperty(Constants.HAS_CONDITION_LN)),
-                "Decision node %s does not have required data property %s.",
-                flowchartNode.getLocalName(),
-                Constants.HAS_CONDITION_LN);
-
-        thisGraphVizNode.shape("diamond").label(condition.asLiteral().getString());
-
-        Resource trueBranch =
-            checkNotNull(
-                flowchartNode.getPropertyResourceValue(
-                    Utilities.getProperty(Constants.HAS_TRUE_BRANCH_LN)),
-                "Decision node %s does not have required object property %s.",
-                flowchartNode.getLocalName(),
-                Constants.HAS_TRUE_BRANCH_LN);
-
-        flowchart.edge(scope, flowchartNode.asResource(), trueBranch);
-
-        if (Utilities.hasProperty(flowchartNode, Constants.HAS_FALSE_BRANCH_LN)) {
-          flowchart.edge(
-              scope,
-              flowchartNode.asResource(),
-              flowchartNode.getPropertyResourceValue(
-                  Utilities.getProperty(Constants.HAS_FALSE_BRANCH_LN)));
+  /**
+   * Reads the OWL encoding {@code inputFilePath}, and converts it to a {@link Flowchart} once it
+   * is validated, exiting with the reasons if it is invalid.
+   *
+   * @param strict Whether to also validate the encoding with the OWL reasoner.
+   * @param spill Whether to read the encoding into a store on disk rather than into memory.
+   */
+  private static Flowchart readOwlFlowchart(
+      String inputFilePath, boolean strict, boolean spill, PrintStream messages)
+      throws IOException {
+
+    //? Reading the encoding into a store on disk?
+    Optional<Flowchart> abstractFlowchart;
+    if (spill) {
+      //$ Stream the input OWL flowchart encoding file into a temporary store
+      try (FlowchartStore store = FlowchartStore.createTemporary()) {
+        try (Metrics.Stage stage = Metrics.start(Metrics.READ_OWL)) {
+          stage.count(Metrics.TRIPLES, store.load(inputFilePath));
         }
-        break;
-      case Constants.PROCESS_LN:
-      case Constants.TERMINAL_LN:
-        String className = flowchartNode.getOntClass(true).getLocalName();
-        RDFNode description = 
-            checkNotNull(
-                flowchartNode.getPropertyValue(
-                    Utilities.getProperty(Constants.HAS_DESCRIPTION_LN)),
-                "%s node %s does not have required data property %s.",
-                className,
-                flowchartNode.getLocalName(),
-                Constants.HAS_DESCRIPTION_LN);
-
-        thisGraphVizNode
-            .shape(className.equals(Constants.PROCESS_LN) ? "box" : "oval")
-            .label(description.asLiteral().getString());
-        break;
-      default:
-        // Do nothing
-    }
-
-    if (Utilities.hasProperty(flowchartNode, Constants.HAS_NEXT_NODE_LN)) {
-      flowchart.edge(
-          scope,
-          flowchartNode.asResource(),
-          flowchartNode.getPropertyResourceValue(
-              Utilities.getProperty(Constants.HAS_NEXT_NODE_LN)));
+
+        //$ Validate and convert the encoding as it is read back from the store
+        abstractFlowchart = convertOwlFlowchart(store.getModel(), messages);
+      }
+    } else {
+      //$ Read, validate, and convert the encoding in memory
+      abstractFlowchart = readOwlModelFlowchart(inputFilePath, strict, messages);
+    }
+
+    //? Is the encoding invalid?
+    if (!abstractFlowchart.isPresent()) {
+      //X Exit, its problems having been reported
+      System.exit(1);
+    }
+    return abstractFlowchart.get();
+  }
+
+  /**
+   * Reads the OWL encoding {@code inputFilePath} into memory, and converts it to a
+   * {@link Flowchart} once it is validated, or reports why it is invalid and returns nothing.
+   */
+  @SuppressWarnings("try")
+  private static Optional<Flowchart> readOwlModelFlowchart(
+      String inputFilePath, boolean strict, PrintStream messages) throws IOException {
+
+    //? Validating the encoding with the OWL reasoner?
+    Model flowchartModel;
+    if (strict) {
+      //$ Parse the input OWL flowchart encoding file into the flowchart model
+      OntModel ontModel;
+      try (Metrics.Stage stage = Metrics.start(Metrics.READ_OWL)) {
+        ontModel = Utilities.readOwlFile(Utilities.createFlowchartModel(), inputFilePath);
+      }
+
+      ValidityReport report;
+      try (Metrics.Stage stage = Metrics.start(Metrics.VALIDATE_WITH_REASONER)) {
+        report = ontModel.validate();
+      }
+
+      //? Is the encoding invalid?
+      if (!report.isClean()) {
+        //X Report why the encoding is invalid
+        messages.println("The given abstract flowchart is invalid:");
+        report.getReports().forEachRemaining(messages::println);
+        return Optional.empty();
+      }
+      flowchartModel = ontModel.getBaseModel();
+    } else {
+      //$ Parse the input OWL flowchart encoding file without inference
+      try (Metrics.Stage stage = Metrics.start(Metrics.READ_OWL)) {
+        flowchartModel = Utilities.readOwlFile(ModelFactory.createDefaultModel(), inputFilePath);
+      }
+    }
+
+    //X Validate and convert the encoding
+    return convertOwlFlowchart(flowchartModel, messages);
+  }
+
+  /**
+   * Converts the OWL encoding in {@code flowchartModel} to a {@link Flowchart} once its structure
+   * is validated, or reports why it is invalid and returns nothing.
+   */
+  @SuppressWarnings("try")
+  private static Optional<Flowchart> convertOwlFlowchart(
+      Model flowchartModel, PrintStream messages) {
+
+    List<String> problems;
+    try (Metrics.Stage stage = Metrics.start(Metrics.VALIDATE_STRUCTURE)) {
+      problems = FlowchartValidator.validate(flowchartModel);
+    }
+
+    //? Is the structure of the encoding invalid?
+    if (!problems.isEmpty()) {
+      //X Report why the encoding is invalid
+      messages.println("The given abstract flowchart is invalid:");
+      problems.forEach(messages::println);
+      return Optional.empty();
+    }
+
+    //X Convert the encoding to the native flowchart graph
+    Flowchart abstractFlowchart;
+    try (Metrics.Stage stage = Metrics.start(Metrics.CONVERT_FROM_OWL)) {
+      abstractFlowchart = OwlConverter.fromOwl(flowchartModel);
+      stage
+          .count(Metrics.NODES, abstractFlowchart.size())
+          .count(Metrics.EDGES, abstractFlowchart.getEdgeCount());
+    }
+    return Optional.of(abstractFlowchart);
+  }
+
+  /**
+   * Decodes the flowchart named {@code method} in the archive {@code inputFilePath}, or its only
+   * flowchart if no name is given, exiting with the names to choose from if there is no such one.
+   */
+  private static Flowchart readArchivedFlowchart(
+      String inputFilePath, Optional<String> method, PrintStream messages) throws IOException {
+
+    try (Metrics.Stage stage = Metrics.start(Metrics.READ_ARCHIVE)) {
+      FlowchartArchive archive = FlowchartArchive.open(Paths.get(inputFilePath));
+      Optional<Flowchart> flowchart = Optional.empty();
+      if (method.isPresent()) {
+        flowchart = archive.get(method.get());
+      } else if (archive.size() == 1) {
+        method = Optional.of(archive.getNames().iterator().next());
+        flowchart = archive.get(method.get());
+      }
+
+      //? Is there no such flowchart?
+      if (!flowchart.isPresent()) {
+        //X Exit and list the flowcharts of the archive
+        messages.println(
+            method.isPresent()
+                ? "The archive holds no flowchart named " + method.get() + "; it holds:"
+                : "The archive holds several flowcharts; choose one with " + METHOD_OPTION + ":");
+        archive.getNames().forEach(messages::println);
+        System.exit(1);
+      }
+      stage
+          .setMethod(method.get())
+          .count(Metrics.NODES, flowchart.get().size())
+          .count(Metrics.EDGES, flowchart.get().getEdgeCount());
+      return flowchart.get();
+    }
+  }
+
+  /**
+   * Loads the index whose archive is {@code inputFilePath}, and returns the graph of the flowchart
+   * of {@code method} with those of its callees up to {@code depth} calls away, exiting if the
+   * index holds no such flowchart.
+   */
+  @SuppressWarnings("try")
+  private static DotGraph readCallGraph(
+      String inputFilePath, Optional<String> method, int depth, PrintStream messages)
+      throws IOException {
+
+    FlowchartIndex index;
+    try (Metrics.Stage stage = Metrics.start(Metrics.READ_ARCHIVE)) {
+      index = FlowchartIndex.load(Paths.get(inputFilePath).toAbsolutePath().getParent());
+    }
+
+    //? Is there no such flowchart?
+    if (!method.isPresent() || !index.getFlowchart(method.get()).isPresent()) {
+      //X Exit with an error message
+      messages.println(
+          method.isPresent()
+              ? "The index holds no flowchart of " + method.get() + "."
+              : "Choose the method to render with " + METHOD_OPTION + ", by its signature.");
+      System.exit(1);
     }
+    CallGraphRenderer renderer = new CallGraphRenderer(index);
+    String signature = method.get();
+    return output -> renderer.render(signature, depth, output);
   }
 }
@@ -0,0 +1,377 @@
+package com.github.codeviz.flowchart.generators;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.github.codeviz.flowchart.common.FlowchartCache;
+import com.github.codeviz.flowchart.common.Metrics;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Renders Graphviz DOT graphs to images (e.g., PNG or SVG) with the Graphviz {@code dot} command,
+ * running as many {@code dot} processes at once as there are workers.
+ *
+ * Each graph is streamed to its process over standard input, and the image read back over
+ * standard output, while another thread reads its error messages, keeping only the first few KB,
+ * so they cannot fill a pipe and stall the process; nothing is written to temporary files. A
+ * process that takes longer than the timeout is killed, failing just that graph.
+ * {@link #submit} blocks while the queue of graphs waiting for a worker is full, so a producer
+ * of graphs cannot run ahead of the renderer.
+ *
+ * Images are cached in a directory, by the hash of the command, the DOT graph, and the image
+ * format, so graphs that were rendered before, by this or an earlier run, are not laid out again.
+ */
+public final class ImageRenderer implements AutoCloseable {
+
+  /** The extension of the DOT files that are rendered. */
+  private static final String DOT_EXTENSION = ".dot";
+
+  /** The name of the image cache within the directory of DOT files it serves. */
+  public static final String CACHE_DIRECTORY_NAME = ".codeviz-images";
+
+  /** Chooses the image format, followed by its name as {@code dot -T} takes it. */
+  private static final String FORMAT_OPTION = "--format";
+
+  /** Chooses the number of {@code dot} processes to run at once, followed by it. */
+  private static final String JOBS_OPTION = "--jobs";
+
+  /** Chooses how long a graph may take to render, followed by the number of seconds. */
+  private static final String TIMEOUT_OPTION = "--timeout";
+
+  /** Chooses the Graphviz command to run, followed by its path. */
+  private static final String COMMAND_OPTION = "--command";
+
+  private static final String DEFAULT_FORMAT = "png";
+  private static final String DEFAULT_COMMAND = "dot";
+  private static final long DEFAULT_TIMEOUT_SECONDS = 60;
+
+  /** How many bytes of a process's error messages are kept for the failure it reports. */
+  private static final int MAX_ERROR_BYTES = 8 * 1024;
+
+  /** How many graphs may wait for a worker, per worker, before {@link #submit} blocks. */
+  private static final int QUEUED_GRAPHS_PER_WORKER = 2;
+
+  private final String command;
+  private final String format;
+  private final long timeoutMillis;
+  private final Path cacheDirectory;
+
+  private final ExecutorService workers;
+  private final Semaphore queueSlots;
+
+  /** Kills the processes that overrun the timeout. */
+  private final ScheduledExecutorService watchdog;
+
+  /** Reads the error messages of the processes, one thread per running process. */
+  private final ExecutorService errorReaders;
+
+  /**
+   * @param command The Graphviz command to run, e.g., {@code dot}.
+   * @param format The image format, e.g., {@code png}.
+   * @param workerCount How many processes to run at once.
+   * @param timeoutMillis How long a graph may take to render.
+   * @param cacheDirectory Where to cache the images, which is created if it does not exist.
+   */
+  public ImageRenderer(
+      String command, String format, int workerCount, long timeoutMillis, Path cacheDirectory) {
+
+    checkArgument(workerCount > 0, "At least one worker is required");
+    checkArgument(timeoutMillis > 0, "The timeout must be positive");
+    this.command = command;
+    this.format = format;
+    this.timeoutMillis = timeoutMillis;
+    this.cacheDirectory = cacheDirectory;
+    this.workers = Executors.newFixedThreadPool(workerCount);
+    this.queueSlots = new Semaphore(workerCount * (1 + QUEUED_GRAPHS_PER_WORKER));
+    this.watchdog =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "dot-watchdog");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.errorReaders =
+        Executors.newCachedThreadPool(
+            runnable -> {
+              Thread thread = new Thread(runnable, "dot-error-reader");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Usage: {@code [--format <format>] [--jobs <process count>] [--timeout <seconds>]
+   * [--command <dot command>] [--metrics <metrics file>] <DOT file or directory>}.
+   *
+   * Renders the DOT file, or every DOT file within the directory, to an image next to it
+   * (e.g., {@code a/Demo/Demo.main(String[]).png}), caching the images in
+   * {@code .codeviz-images} within the directory (or the directory of the file).
+   * The format defaults to {@code png}, the number of processes to the number of available
+   * processors, and the timeout to a minute.
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    List<String> options = new ArrayList<>(Arrays.asList(args));
+    Metrics.enableFromOptions(options);
+    String format = removeOption(options, FORMAT_OPTION, DEFAULT_FORMAT);
+    int workerCount =
+        Integer.parseInt(
+            removeOption(
+                options,
+                JOBS_OPTION,
+                Integer.toString(Runtime.getRuntime().availableProcessors())));
+    long timeoutSeconds =
+        Long.parseLong(
+            removeOption(options, TIMEOUT_OPTION, Long.toString(DEFAULT_TIMEOUT_SECONDS)));
+    String command = removeOption(options, COMMAND_OPTION, DEFAULT_COMMAND);
+    Path input = Paths.get(options.get(0));
+
+    //$ Find the DOT files to render
+    List<Path> dotFiles;
+    if (Files.isDirectory(input)) {
+      try (Stream<Path> files = Files.walk(input)) {
+        dotFiles =
+            files
+                .filter(file -> file.toString().endsWith(DOT_EXTENSION))
+                .collect(Collectors.toList());
+      }
+    } else {
+      dotFiles = Arrays.asList(input);
+    }
+    Path cacheDirectory =
+        (Files.isDirectory(input) ? input : input.toAbsolutePath().getParent())
+            .resolve(CACHE_DIRECTORY_NAME);
+
+    //$ Render them all, each next to its DOT file
+    long startTime = System.nanoTime();
+    AtomicInteger failureCount = new AtomicInteger();
+    try (ImageRenderer renderer =
+        new ImageRenderer(
+            command,
+            format,
+            workerCount,
+            TimeUnit.SECONDS.toMillis(timeoutSeconds),
+            cacheDirectory)) {
+      for (Path dotFile : dotFiles) {
+        String dotFileName = dotFile.getFileName().toString();
+        Path imageFile =
+            dotFile.resolveSibling(
+                dotFileName.substring(0, dotFileName.length() - DOT_EXTENSION.length())
+                    + "."
+                    + format);
+        renderer.submit(
+            dotFile,
+            imageFile,
+            e -> {
+              failureCount.incrementAndGet();
+              System.out.println(dotFile + ": " + e.getMessage());
+            });
+      }
+    }
+
+    //X Report the throughput
+    double seconds = (System.nanoTime() - startTime) / 1e9;
+    System.out.printf(
+        "Rendered %d DOT files (%d failed) in %.2f s: %.1f files/s%n",
+        dotFiles.size(),
+        failureCount.get(),
+        seconds,
+        dotFiles.size() / seconds);
+  }
+
+  /**
+   * Queues {@code dotFile} to be rendered to {@code imageFile} by the next free worker, waiting
+   * while the queue is full. If it cannot be rendered, {@code onFailure} is called by the worker.
+   */
+  public void submit(Path dotFile, Path imageFile, Consumer<IOException> onFailure)
+      throws InterruptedException {
+
+    queueSlots.acquire();
+    try {
+      workers.execute(() -> {
+        Metrics.setCurrentFile(dotFile.toString());
+        try {
+          byte[] image = render(Files.readAllBytes(dotFile));
+          Files.write(imageFile, image);
+        } catch (IOException e) {
+          onFailure.accept(e);
+        } finally {
+          Metrics.setCurrentFile(null);
+          queueSlots.release();
+        }
+      });
+    } catch (RuntimeException e) {
+      queueSlots.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Renders the DOT graph {@code dot} to an image on the calling thread, or returns the cached
+   * image if it was rendered before.
+   */
+  @SuppressWarnings("try")
+  public byte[] render(byte[] dot) throws IOException {
+    try (Metrics.Stage stage = Metrics.start(Metrics.RENDER_IMAGE)) {
+      //? Was the graph rendered before?
+      Path cachedImageFile = cacheDirectory.resolve(getCacheKey(dot) + "." + format);
+      if (Files.exists(cachedImageFile)) {
+        //X Use the cached image
+        return Files.readAllBytes(cachedImageFile);
+      }
+
+      //$ Lay the graph out
+      byte[] image = runDot(dot);
+
+      //X Cache the image, replacing it atomically so racing workers never see part of one
+      Files.createDirectories(cacheDirectory);
+      Path temporaryFile =
+          Files.createTempFile(cacheDirectory, cachedImageFile.getFileName().toString(), ".tmp");
+      Files.write(temporaryFile, image);
+      Files.move(
+          temporaryFile,
+          cachedImageFile,
+          StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      return image;
+    }
+  }
+
+  /**
+   * Returns the hash under which the image of {@code dot} is cached, which also covers the
+   * command, since another Graphviz version or layout engine renders another image.
+   */
+  private String getCacheKey(byte[] dot) {
+    byte[] commandBytes = (command + "\n").getBytes(StandardCharsets.UTF_8);
+    byte[] keyBytes = Arrays.copyOf(commandBytes, commandBytes.length + dot.length);
+    System.arraycopy(dot, 0, keyBytes, commandBytes.length, dot.length);
+    return FlowchartCache.hash(keyBytes);
+  }
+
+  /** Streams {@code dot} through a {@code dot} process, killing it if it overruns the timeout. */
+  private byte[] runDot(byte[] dot) throws IOException {
+    Process process = new ProcessBuilder(command, "-T" + format).start();
+    ScheduledFuture<?> kill =
+        watchdog.schedule(process::destroyForcibly, timeoutMillis, TimeUnit.MILLISECONDS);
+    // Error messages are read alongside the image, so the process cannot block on them
+    Future<String> errors;
+    try {
+      errors = errorReaders.submit(() -> readErrors(process.getErrorStream()));
+    } catch (RuntimeException e) {
+      kill.cancel(false);
+      process.destroy();
+      throw e;
+    }
+    try {
+      // The graph is read whole before anything is written, so it cannot block on the image
+      try (OutputStream input = process.getOutputStream()) {
+        input.write(dot);
+      }
+      byte[] image;
+      try (InputStream output = process.getInputStream()) {
+        image = ByteStreams.toByteArray(output);
+      }
+      int exitValue = process.waitFor();
+      if (wasKilled(kill)) {
+        throw timedOut();
+      }
+      if (exitValue != 0) {
+        throw new IOException(
+            command
+                + " failed with exit code "
+                + exitValue
+                + ": "
+                + errors.get().trim());
+      }
+      return image;
+    } catch (IOException e) {
+      // Killing the process breaks its streams
+      throw wasKilled(kill) ? timedOut() : e;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for " + command);
+    } catch (ExecutionException e) {
+      throw new IOException("Could not read the error messages of " + command, e.getCause());
+    } finally {
+      kill.cancel(false);
+      // Destroying the process also ends the reading of its error messages
+      process.destroy();
+    }
+  }
+
+  /**
+   * Reads {@code errors} to its end, so the process writing them never blocks, and returns the
+   * first {@link #MAX_ERROR_BYTES} of them.
+   */
+  private static String readErrors(InputStream errors) throws IOException {
+    byte[] buffer = new byte[MAX_ERROR_BYTES];
+    int length = 0;
+    try (InputStream input = errors) {
+      int readCount;
+      while (length < buffer.length
+          && (readCount = input.read(buffer, length, buffer.length - length)) >= 0) {
+        length += readCount;
+      }
+      ByteStreams.copy(input, ByteStreams.nullOutputStream());
+    }
+    return new String(buffer, 0, length, StandardCharsets.UTF_8);
+  }
+
+  /** Decides whether the watchdog killed the process, stopping it from doing so if it did not. */
+  private static boolean wasKilled(ScheduledFuture<?> kill) {
+    return !kill.cancel(false) && !kill.isCancelled();
+  }
+
+  private IOException timedOut() {
+    return new IOException(command + " timed out after " + timeoutMillis + " ms");
+  }
+
+  /**
+   * Waits for the queued graphs to be rendered, then stops the workers. If interrupted while
+   * waiting, abandons the graphs that are still queued, and keeps the thread interrupted.
+   */
+  @Override
+  public void close() {
+    workers.shutdown();
+    try {
+      workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      workers.shutdownNow();
+    }
+    watchdog.shutdownNow();
+    errorReaders.shutdownNow();
+  }
+
+  /** Removes {@code option} and the value after it from {@code options}, returning the value. */
+  private static String removeOption(List<String> options, String option, String defaultValue) {
+    int optionIndex = options.indexOf(option);
+    if (optionIndex < 0 || optionIndex + 1 >= options.size()) {
+      return defaultValue;
+    }
+    options.remove(optionIndex);
+    return options.remove(optionIndex);
+  }
+}
@@ -0,0 +1,180 @@
+package com.github.codeviz.flowchart.model;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A flowchart held as a compact graph, independent of the OWL flowchart ontology.
+ *
+ * Nodes are numbered consecutively from 0 in the order they are added, and their kinds, texts,
+ * and outgoing edges are kept in parallel arrays indexed by node number; an edge is simply the
+ * number of the node it leads to, or {@link #NONE}. Node 0, if present, is the first node of the
+ * flowchart. See {@link OwlConverter} for the conversion to and from the ontology.
+ */
+public final class Flowchart {
+
+  /** Marks the absence of an edge. */
+  public static final int NONE = -1;
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private NodeKind[] kinds = new NodeKind[INITIAL_CAPACITY];
+  private String[] texts = new String[INITIAL_CAPACITY];
+
+  // Object properties
+  private int[] nextNodes = newEdgeArray(INITIAL_CAPACITY);
+  private int[] trueBranches = newEdgeArray(INITIAL_CAPACITY);
+  private int[] falseBranches = newEdgeArray(INITIAL_CAPACITY);
+
+  private int size = 0;
+
+  /**
+   * Adds a node to the flowchart.
+   *
+   * @param text The condition of a {@link NodeKind#DECISION}, the description of a
+   *      {@link NodeKind#PROCESS} or {@link NodeKind#TERMINAL}, or null for a
+   *      {@link NodeKind#CONNECTOR}.
+   * @return The number of the new node.
+   */
+  public int addNode(NodeKind kind, String text) {
+    if (size == kinds.length) {
+      grow();
+    }
+    kinds[size] = kind;
+    texts[size] = text;
+    return size++;
+  }
+
+  /** Returns the number of nodes in the flowchart. */
+  public int size() {
+    return size;
+  }
+
+  /** Returns the number of edges in the flowchart. */
+  public int getEdgeCount() {
+    int edgeCount = 0;
+    for (int node = 0; node < size; node++) {
+      edgeCount += (nextNodes[node] == NONE ? 0 : 1)
+          + (trueBranches[node] == NONE ? 0 : 1)
+          + (falseBranches[node] == NONE ? 0 : 1);
+    }
+    return edgeCount;
+  }
+
+  public NodeKind getKind(int node) {
+    return kinds[checkElementIndex(node, size)];
+  }
+
+  /** Returns the condition or description of {@code node}, or null if it has neither. */
+  public String getText(int node) {
+    return texts[checkElementIndex(node, size)];
+  }
+
+  /** Returns the node {@code node} flows to, or {@link #NONE}. */
+  public int getNextNode(int node) {
+    return nextNodes[checkElementIndex(node, size)];
+  }
+
+  /** Returns the node the decision {@code node} flows to if true, or {@link #NONE}. */
+  public int getTrueBranch(int node) {
+    return trueBranches[checkElementIndex(node, size)];
+  }
+
+  /** Returns the node the decision {@code node} flows to if false, or {@link #NONE}. */
+  public int getFalseBranch(int node) {
+    return falseBranches[checkElementIndex(node, size)];
+  }
+
+  /** @param node Must be a {@link NodeKind#isSingleExitNode() single-exit node}. */
+  public void setNextNode(int node, int nextNode) {
+    checkArgument(
+        getKind(node).isSingleExitNode(),
+        "Node %s is of kind %s, but expected a single-exit node",
+        node,
+        getKind(node));
+    nextNodes[node] = checkElementIndex(nextNode, size);
+  }
+
+  /** @param node Must be a {@link NodeKind#DECISION}. */
+  public void setTrueBranch(int node, int trueBranch) {
+    checkDecision(node);
+    trueBranches[node] = checkElementIndex(trueBranch, size);
+  }
+
+  /** @param node Must be a {@link NodeKind#DECISION}. */
+  public void setFalseBranch(int node, int falseBranch) {
+    checkDecision(node);
+    falseBranches[node] = checkElementIndex(falseBranch, size);
+  }
+
+  /**
+   * Decides whether control can leave {@code node} by flowing to a node that is yet to be added:
+   * true of single-exit nodes, and of decisions without a false branch.
+   */
+  public boolean hasSingleExit(int node) {
+    return getKind(node).isSingleExitNode()
+        || (getKind(node) == NodeKind.DECISION && falseBranches[node] == NONE);
+  }
+
+  /**
+   * Decides whether control cannot leave {@code node} other than through its existing edges:
+   * true of terminals, and of decisions with a false branch.
+   */
+  public boolean isTerminal(int node) {
+    return getKind(node) == NodeKind.TERMINAL
+        || (getKind(node) == NodeKind.DECISION && falseBranches[node] != NONE);
+  }
+
+  /**
+   * Decides whether {@code other} has the same nodes, numbered the same, with the same kinds,
+   * texts, and edges, so that every output of the two is the same, unlike
+   * {@link FlowchartDiff#isUnchanged()}, which ignores the numbering.
+   */
+  public boolean isIdenticalTo(Flowchart other) {
+    if (size != other.size) {
+      return false;
+    }
+    for (int node = 0; node < size; node++) {
+      if (kinds[node] != other.kinds[node]
+          || !Objects.equals(texts[node], other.texts[node])
+          || nextNodes[node] != other.nextNodes[node]
+          || trueBranches[node] != other.trueBranches[node]
+          || falseBranches[node] != other.falseBranches[node]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void checkDecision(int node) {
+    checkArgument(
+        getKind(node) == NodeKind.DECISION,
+        "Node %s is of kind %s, but expected Decision",
+        node,
+        getKind(node));
+  }
+
+  private void grow() {
+    int capacity = kinds.length * 2;
+    kinds = Arrays.copyOf(kinds, capacity);
+    texts = Arrays.copyOf(texts, capacity);
+    nextNodes = growEdgeArray(nextNodes, capacity);
+    trueBranches = growEdgeArray(trueBranches, capacity);
+    falseBranches = growEdgeArray(falseBranches, capacity);
+  }
+
+  private static int[] newEdgeArray(int capacity) {
+    int[] edges = new int[capacity];
+    Arrays.fill(edges, NONE);
+    return edges;
+  }
+
+  private static int[] growEdgeArray(int[] edges, int capacity) {
+    int[] grownEdges = Arrays.copyOf(edges, capacity);
+    Arrays.fill(grownEdges, edges.length, capacity, NONE);
+    return grownEdges;
+  }
+}
@@ -0,0 +1,318 @@
+package com.github.codeviz.flowchart.model;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A compact binary file of named {@link Flowchart}s, e.g., those of every method of a source
+ * file, as an alternative to their OWL encodings, which are verbose and slow to parse.
+ *
+ * The file is a sequence of unsigned variable-length integers (7 bits per byte, least significant
+ * group first). After a header, it holds a table of the distinct strings in the file, each a
+ * UTF-8 byte length and the bytes, so descriptions that recur across flowcharts (e.g., of their
+ * terminals) are stored once. The flowcharts follow, each as the index of its name, the byte
+ * length of its body, and the body: the number of nodes, then each node's text and kind as one
+ * integer ({@code (text index + 1) << 2 | kind}, 0 standing for no text), then the edge table,
+ * which holds the nodes each node flows to in order: its next node if it is a single-exit node,
+ * its true and false branches if it is a decision, and none if it is a terminal. Each edge is
+ * stored plus one, so 0 stands for {@link Flowchart#NONE}.
+ *
+ * Opening an archive memory-maps the file and merely indexes it: a flowchart is only decoded
+ * when it is asked for, and a string when it is first used, so loading an archive of thousands
+ * of flowcharts to render a few of them costs next to nothing. Archives are immutable, and may be
+ * read from several threads at once.
+ */
+public final class FlowchartArchive {
+
+  /** The extension of archive files. */
+  public static final String EXTENSION = ".cvf";
+
+  private static final byte[] MAGIC = {'C', 'V', 'Z', 'F'};
+  private static final int VERSION = 1;
+
+  /** The order of the kinds is part of the format. */
+  private static final NodeKind[] KINDS = NodeKind.values();
+  private static final int KIND_BITS = 2;
+  private static final int KIND_MASK = (1 << KIND_BITS) - 1;
+
+  private final ByteBuffer buffer;
+  private final int[] stringOffsets;
+  private final int[] stringLengths;
+
+  /** The strings decoded so far; racing threads decode equal strings, so none is lost. */
+  private final String[] strings;
+
+  /** Maps the name of each flowchart to the offset of its body. */
+  private final Map<String, Integer> bodyOffsets = new LinkedHashMap<>();
+
+  private FlowchartArchive(ByteBuffer buffer) {
+    this.buffer = buffer;
+    ByteBuffer input = buffer.duplicate();
+
+    //$ Check the header
+    byte[] magic = new byte[MAGIC.length];
+    input.get(magic);
+    int version = readInteger(input);
+    checkArgument(
+        Arrays.equals(magic, MAGIC) && version == VERSION,
+        "Not a flowchart archive of version %s",
+        VERSION);
+
+    //$ Index the string table
+    int stringCount = readCount(input);
+    stringOffsets = new int[stringCount];
+    stringLengths = new int[stringCount];
+    strings = new String[stringCount];
+    for (int i = 0; i < stringCount; i++) {
+      stringLengths[i] = readInteger(input);
+      stringOffsets[i] = input.position();
+      skip(input, stringLengths[i]);
+    }
+
+    //X Index the flowcharts by name
+    int flowchartCount = readCount(input);
+    for (int i = 0; i < flowchartCount; i++) {
+      String name = getString(readInteger(input));
+      int bodyLength = readInteger(input);
+      checkArgument(
+          bodyOffsets.put(name, input.position()) == null, "Duplicate flowchart %s", name);
+      skip(input, bodyLength);
+    }
+  }
+
+  /** Opens the archive {@code file} where it is memory-mapped. */
+  public static FlowchartArchive open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException(file + " is too large to be a flowchart archive");
+      }
+      return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), file.toString());
+    }
+  }
+
+  /** Opens the archive held by {@code buffer}, from its position to its limit. */
+  public static FlowchartArchive read(ByteBuffer buffer) throws IOException {
+    return read(buffer, "The buffer");
+  }
+
+  private static FlowchartArchive read(ByteBuffer buffer, String description) throws IOException {
+    try {
+      return new FlowchartArchive(buffer.slice());
+    } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new IOException(description + " is not a valid flowchart archive: " + e.getMessage());
+    }
+  }
+
+  /** Returns the number of flowcharts in the archive. */
+  public int size() {
+    return bodyOffsets.size();
+  }
+
+  /** Returns the names of the flowcharts in the archive, in the order they were written. */
+  public Set<String> getNames() {
+    return Collections.unmodifiableSet(bodyOffsets.keySet());
+  }
+
+  /**
+   * Returns the flowchart named {@code name} (wrapped in an {@link Optional}) if the archive
+   * holds one; {@link Optional#empty()} otherwise. The flowchart is decoded anew on every call.
+   */
+  public Optional<Flowchart> get(String name) throws IOException {
+    Integer bodyOffset = bodyOffsets.get(name);
+    if (bodyOffset == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(decode(bodyOffset));
+    } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new IOException("The flowchart " + name + " is corrupt: " + e.getMessage());
+    }
+  }
+
+  /** Decodes every flowchart in the archive, by name, in the order they were written. */
+  public Map<String, Flowchart> readAll() throws IOException {
+    Map<String, Flowchart> flowcharts = new LinkedHashMap<>();
+    for (String name : bodyOffsets.keySet()) {
+      flowcharts.put(name, get(name).get());
+    }
+    return flowcharts;
+  }
+
+  /**
+   * Writes {@code flowcharts}, by name, to {@code file}, which is replaced atomically, so readers
+   * never see a partly written archive.
+   */
+  public static void write(Map<String, Flowchart> flowcharts, Path file) throws IOException {
+    Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(temporaryFile))) {
+      write(flowcharts, output);
+    }
+    Files.move(
+        temporaryFile,
+        file,
+        StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /** Writes {@code flowcharts}, by name, to {@code output} as an archive. */
+  public static void write(Map<String, Flowchart> flowcharts, OutputStream output)
+      throws IOException {
+
+    //$ Encode the flowcharts, interning their names and texts
+    Map<String, Integer> stringIndices = new LinkedHashMap<>();
+    ByteArrayOutputStream bodies = new ByteArrayOutputStream();
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    for (Map.Entry<String, Flowchart> flowchart : flowcharts.entrySet()) {
+      body.reset();
+      encode(flowchart.getValue(), stringIndices, body);
+      writeInteger(bodies, intern(flowchart.getKey(), stringIndices));
+      writeInteger(bodies, body.size());
+      body.writeTo(bodies);
+    }
+
+    //$ Write the header and the string table
+    output.write(MAGIC);
+    writeInteger(output, VERSION);
+    writeInteger(output, stringIndices.size());
+    for (String string : stringIndices.keySet()) {
+      byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+      writeInteger(output, bytes.length);
+      output.write(bytes);
+    }
+
+    //X Write the flowcharts
+    writeInteger(output, flowcharts.size());
+    bodies.writeTo(output);
+  }
+
+  private static void encode(
+      Flowchart flowchart, Map<String, Integer> stringIndices, OutputStream body)
+      throws IOException {
+
+    //$ Write the text and kind of every node
+    writeInteger(body, flowchart.size());
+    for (int node = 0; node < flowchart.size(); node++) {
+      String text = flowchart.getText(node);
+      int textNumber = text == null ? 0 : intern(text, stringIndices) + 1;
+      writeInteger(body, textNumber << KIND_BITS | flowchart.getKind(node).ordinal());
+    }
+
+    //X Write the edge table
+    for (int node = 0; node < flowchart.size(); node++) {
+      NodeKind kind = flowchart.getKind(node);
+      if (kind.isSingleExitNode()) {
+        writeInteger(body, flowchart.getNextNode(node) + 1);
+      } else if (kind == NodeKind.DECISION) {
+        writeInteger(body, flowchart.getTrueBranch(node) + 1);
+        writeInteger(body, flowchart.getFalseBranch(node) + 1);
+      }
+    }
+  }
+
+  private Flowchart decode(int bodyOffset) {
+    ByteBuffer input = buffer.duplicate();
+    input.position(bodyOffset);
+
+    //$ Add every node
+    Flowchart flowchart = new Flowchart();
+    int size = readCount(input);
+    for (int node = 0; node < size; node++) {
+      int textAndKind = readInteger(input);
+      int textNumber = textAndKind >>> KIND_BITS;
+      flowchart.addNode(
+          KINDS[checkElementIndex(textAndKind & KIND_MASK, KINDS.length)],
+          textNumber == 0 ? null : getString(textNumber - 1));
+    }
+
+    //X Connect the nodes according to the edge table
+    for (int node = 0; node < size; node++) {
+      NodeKind kind = flowchart.getKind(node);
+      if (kind.isSingleExitNode()) {
+        int nextNode = readInteger(input) - 1;
+        if (nextNode != Flowchart.NONE) {
+          flowchart.setNextNode(node, nextNode);
+        }
+      } else if (kind == NodeKind.DECISION) {
+        int trueBranch = readInteger(input) - 1;
+        int falseBranch = readInteger(input) - 1;
+        if (trueBranch != Flowchart.NONE) {
+          flowchart.setTrueBranch(node, trueBranch);
+        }
+        if (falseBranch != Flowchart.NONE) {
+          flowchart.setFalseBranch(node, falseBranch);
+        }
+      }
+    }
+    return flowchart;
+  }
+
+  private String getString(int index) {
+    String string = strings[checkElementIndex(index, strings.length)];
+    if (string == null) {
+      byte[] bytes = new byte[stringLengths[index]];
+      ByteBuffer input = buffer.duplicate();
+      input.position(stringOffsets[index]);
+      input.get(bytes);
+      string = new String(bytes, StandardCharsets.UTF_8);
+      strings[index] = string;
+    }
+    return string;
+  }
+
+  private static int intern(String string, Map<String, Integer> stringIndices) {
+    Integer index = stringIndices.putIfAbsent(string, stringIndices.size());
+    return index == null ? stringIndices.size() - 1 : index;
+  }
+
+  private static void writeInteger(OutputStream output, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      output.write((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    output.write(value);
+  }
+
+  private static int readInteger(ByteBuffer input) {
+    int value = 0;
+    for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+      byte b = input.get();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        checkArgument(value >= 0, "Integer out of range at byte %s", input.position());
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Integer too long at byte " + input.position());
+  }
+
+  /** Reads a number of items that each take at least a byte, so it cannot exceed the input. */
+  private static int readCount(ByteBuffer input) {
+    int count = readInteger(input);
+    checkArgument(count <= input.remaining(), "Count %s exceeds the input", count);
+    return count;
+  }
+
+  private static void skip(ByteBuffer input, int length) {
+    checkArgument(length <= input.remaining(), "Length %s exceeds the input", length);
+    input.position(input.position() + length);
+  }
+}
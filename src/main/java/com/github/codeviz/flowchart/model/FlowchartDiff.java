@@ -0,0 +1,232 @@
+package com.github.codeviz.flowchart.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The differences between two versions of a {@link Flowchart}, e.g., of a method before and after
+ * an edit, so later stages can skip the work of redrawing a flowchart that did not change, or
+ * just relabel one whose structure did not change.
+ *
+ * Node numbers are not stable across versions (inserting a statement renumbers every node after
+ * it), so the nodes are first matched: nodes whose kind and text are unique to each version are
+ * matched to each other, as are the entries (node 0) if still unmatched and of the same kind;
+ * then, from each matched pair, the unmatched nodes they flow to along the same edges (next to
+ * next, true to true, false to false) are matched if they are of the same kind, until no more
+ * are. So a reworded process is matched through the node before it, and an inserted one is left
+ * unmatched.
+ *
+ * The unmatched nodes of the old version are removed, and those of the new version added;
+ * matched nodes whose texts differ are relabelled, and those whose edges lead to nodes that do
+ * not match are rewired. Matching takes time linear in the size of the flowcharts.
+ */
+public final class FlowchartDiff {
+
+  private final Flowchart oldFlowchart;
+  private final Flowchart newFlowchart;
+
+  /** Maps each node of the old version to the node of the new version it matches, or NONE. */
+  private final int[] newNodes;
+
+  /** Maps each node of the new version to the node of the old version it matches, or NONE. */
+  private final int[] oldNodes;
+
+  private final List<Integer> addedNodes = new ArrayList<>();
+  private final List<Integer> removedNodes = new ArrayList<>();
+  private final List<Integer> relabelledNodes = new ArrayList<>();
+  private final List<Integer> rewiredNodes = new ArrayList<>();
+
+  private FlowchartDiff(Flowchart oldFlowchart, Flowchart newFlowchart) {
+    this.oldFlowchart = oldFlowchart;
+    this.newFlowchart = newFlowchart;
+    newNodes = new int[oldFlowchart.size()];
+    oldNodes = new int[newFlowchart.size()];
+    Arrays.fill(newNodes, Flowchart.NONE);
+    Arrays.fill(oldNodes, Flowchart.NONE);
+  }
+
+  /** Compares {@code oldFlowchart} to {@code newFlowchart}, neither of which is changed. */
+  public static FlowchartDiff compare(Flowchart oldFlowchart, Flowchart newFlowchart) {
+    FlowchartDiff diff = new FlowchartDiff(oldFlowchart, newFlowchart);
+    Deque<Integer> matchedOldNodes = new ArrayDeque<>();
+
+    //$ Match the nodes whose kind and text are unique to each version, then the entries
+    Map<String, Integer> uniqueOldNodes = findUniqueNodes(oldFlowchart);
+    Map<String, Integer> uniqueNewNodes = findUniqueNodes(newFlowchart);
+    uniqueOldNodes.forEach(
+        (key, oldNode) -> {
+          Integer newNode = uniqueNewNodes.get(key);
+          if (newNode != null) {
+            diff.match(oldNode, newNode, matchedOldNodes);
+          }
+        });
+    if (oldFlowchart.size() > 0 && newFlowchart.size() > 0) {
+      diff.match(0, 0, matchedOldNodes);
+    }
+
+    //$ Match the nodes that matched nodes flow to along the same edges
+    while (!matchedOldNodes.isEmpty()) {
+      int oldNode = matchedOldNodes.poll();
+      int[] oldSuccessors = getSuccessors(oldFlowchart, oldNode);
+      int[] newSuccessors = getSuccessors(newFlowchart, diff.newNodes[oldNode]);
+      for (int i = 0; i < Math.min(oldSuccessors.length, newSuccessors.length); i++) {
+        if (oldSuccessors[i] != Flowchart.NONE && newSuccessors[i] != Flowchart.NONE) {
+          diff.match(oldSuccessors[i], newSuccessors[i], matchedOldNodes);
+        }
+      }
+    }
+
+    //X Classify every node by how it changed
+    for (int oldNode = 0; oldNode < oldFlowchart.size(); oldNode++) {
+      if (diff.newNodes[oldNode] == Flowchart.NONE) {
+        diff.removedNodes.add(oldNode);
+      }
+    }
+    for (int newNode = 0; newNode < newFlowchart.size(); newNode++) {
+      int oldNode = diff.oldNodes[newNode];
+      if (oldNode == Flowchart.NONE) {
+        diff.addedNodes.add(newNode);
+        continue;
+      }
+      if (!Objects.equals(oldFlowchart.getText(oldNode), newFlowchart.getText(newNode))) {
+        diff.relabelledNodes.add(newNode);
+      }
+      int[] oldSuccessors = getSuccessors(oldFlowchart, oldNode);
+      int[] newSuccessors = getSuccessors(newFlowchart, newNode);
+      for (int i = 0; i < oldSuccessors.length; i++) {
+        int matchedSuccessor =
+            oldSuccessors[i] == Flowchart.NONE ? Flowchart.NONE : diff.newNodes[oldSuccessors[i]];
+        if (matchedSuccessor != newSuccessors[i]) {
+          diff.rewiredNodes.add(newNode);
+          break;
+        }
+      }
+    }
+    return diff;
+  }
+
+  /** Returns the nodes of the new version that match none of the old version. */
+  public List<Integer> getAddedNodes() {
+    return Collections.unmodifiableList(addedNodes);
+  }
+
+  /** Returns the nodes of the old version that match none of the new version. */
+  public List<Integer> getRemovedNodes() {
+    return Collections.unmodifiableList(removedNodes);
+  }
+
+  /** Returns the nodes of the new version whose texts differ from those of their matches. */
+  public List<Integer> getRelabelledNodes() {
+    return Collections.unmodifiableList(relabelledNodes);
+  }
+
+  /** Returns the nodes of the new version whose edges do not match those of their matches. */
+  public List<Integer> getRewiredNodes() {
+    return Collections.unmodifiableList(rewiredNodes);
+  }
+
+  /** Returns the node of the new version that {@code oldNode} matches, or NONE. */
+  public int getNewNode(int oldNode) {
+    return newNodes[oldNode];
+  }
+
+  /** Returns the node of the old version that {@code newNode} matches, or NONE. */
+  public int getOldNode(int newNode) {
+    return oldNodes[newNode];
+  }
+
+  /** Decides whether the versions depict the same flow with the same texts. */
+  public boolean isUnchanged() {
+    return isStructurallyUnchanged() && relabelledNodes.isEmpty();
+  }
+
+  /** Decides whether the versions depict the same flow, though some texts may differ. */
+  public boolean isStructurallyUnchanged() {
+    return addedNodes.isEmpty() && removedNodes.isEmpty() && rewiredNodes.isEmpty();
+  }
+
+  /**
+   * Returns a line per changed node: {@code + }, {@code - }, or {@code ~ } followed by the kind
+   * and text of an added, removed, or relabelled node ({@code "old" -> "new"}), and {@code > }
+   * followed by those of a rewired node.
+   */
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder();
+    for (int node : removedNodes) {
+      report.append("- ").append(describe(oldFlowchart, node)).append('\n');
+    }
+    for (int node : addedNodes) {
+      report.append("+ ").append(describe(newFlowchart, node)).append('\n');
+    }
+    for (int node : relabelledNodes) {
+      report
+          .append("~ ")
+          .append(describe(oldFlowchart, oldNodes[node]))
+          .append(" -> ")
+          .append(quote(newFlowchart.getText(node)))
+          .append('\n');
+    }
+    for (int node : rewiredNodes) {
+      report.append("> ").append(describe(newFlowchart, node)).append('\n');
+    }
+    return report.toString();
+  }
+
+  /** Matches {@code oldNode} to {@code newNode} if both are unmatched and of the same kind. */
+  private void match(int oldNode, int newNode, Deque<Integer> matchedOldNodes) {
+    if (newNodes[oldNode] == Flowchart.NONE
+        && oldNodes[newNode] == Flowchart.NONE
+        && oldFlowchart.getKind(oldNode) == newFlowchart.getKind(newNode)) {
+      newNodes[oldNode] = newNode;
+      oldNodes[newNode] = oldNode;
+      matchedOldNodes.add(oldNode);
+    }
+  }
+
+  /** Maps the kind and text of each node with a text that no other node has to the node. */
+  private static Map<String, Integer> findUniqueNodes(Flowchart flowchart) {
+    Map<String, Integer> uniqueNodes = new HashMap<>();
+    for (int node = 0; node < flowchart.size(); node++) {
+      if (flowchart.getText(node) != null) {
+        // Nodes that share their key are marked by NONE
+        uniqueNodes.merge(
+            flowchart.getKind(node) + ":" + flowchart.getText(node),
+            node,
+            (firstNode, otherNode) -> Flowchart.NONE);
+      }
+    }
+    uniqueNodes.values().removeIf(node -> node == Flowchart.NONE);
+    return uniqueNodes;
+  }
+
+  /**
+   * Returns the nodes that {@code node} flows to, in the order of its edges: its next node if it
+   * is a single-exit node, its true and false branches if it is a decision, and none otherwise.
+   */
+  private static int[] getSuccessors(Flowchart flowchart, int node) {
+    NodeKind kind = flowchart.getKind(node);
+    if (kind.isSingleExitNode()) {
+      return new int[] {flowchart.getNextNode(node)};
+    } else if (kind == NodeKind.DECISION) {
+      return new int[] {flowchart.getTrueBranch(node), flowchart.getFalseBranch(node)};
+    }
+    return new int[0];
+  }
+
+  private static String describe(Flowchart flowchart, int node) {
+    String text = flowchart.getText(node);
+    return flowchart.getKind(node).getClassLocalName() + (text == null ? "" : " " + quote(text));
+  }
+
+  private static String quote(String text) {
+    return "\"" + text.replace("\n", "\\n") + "\"";
+  }
+}
@@ -0,0 +1,427 @@
+package com.github.codeviz.flowchart.model;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.SetMultimap;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * A project-wide index from the signatures of methods to their flowcharts, and from the
+ * {@code Process} nodes of each flowchart to the methods they call, so that a flowchart can be
+ * linked to the flowcharts of its callees (see
+ * {@link com.github.codeviz.flowchart.generators.CallGraphRenderer}).
+ *
+ * The index is kept in two files in the output directory it describes: {@link #FILE_NAME}, which
+ * lists the signatures of the methods of every source file with the calls of their processes,
+ * and {@link #ARCHIVE_FILE_NAME}, a {@link FlowchartArchive} of their flowcharts keyed by
+ * signature. It is built incrementally, by source file, as a batch run parses them, and saved
+ * once at the end of the run. Signatures are assumed to be unique across the project; where two
+ * source files define the same one, the index holds one of their flowcharts.
+ *
+ * Calls are recorded as references (see {@link #callReference}), and are only resolved to
+ * signatures when asked for: a reference matches the methods of the same name that can take as
+ * many arguments, and those of the named type, if any. Of several matches, those in the class of
+ * the caller are preferred; calls that remain ambiguous, like those to methods outside the
+ * project, are not linked. Flowcharts are only decoded from the archive when first asked for,
+ * after which they are memoized, so callees shared by many callers are decoded once.
+ *
+ * Source files may be updated concurrently; {@link #save()} and the queries must not run
+ * concurrently with updates.
+ */
+public final class FlowchartIndex {
+
+  /** The name of the index file within the directory of outputs it describes. */
+  public static final String FILE_NAME = ".codeviz-index";
+
+  /** The name of the archive of the indexed flowcharts within the same directory. */
+  public static final String ARCHIVE_FILE_NAME = FILE_NAME + FlowchartArchive.EXTENSION;
+
+  private static final char FIELD_SEPARATOR = '\t';
+  private static final char NODE_SEPARATOR = ';';
+  private static final char NODE_CALLS_SEPARATOR = '=';
+  private static final char CALL_SEPARATOR = ' ';
+  private static final char ARITY_SEPARATOR = '/';
+
+  private final Path file;
+  private final Path archiveFile;
+
+  /** The archive saved last, or null if there is none. */
+  private FlowchartArchive archive;
+
+  /** Maps each source file to the entries of its methods, by signature, in source order. */
+  private final Map<String, Map<String, Entry>> sources = new ConcurrentHashMap<>();
+
+  /** Whether the index changed since it was loaded or saved. */
+  private volatile boolean modified = false;
+
+  /** Whether the index changed since {@link #entries} was built. */
+  private volatile boolean stale = true;
+
+  /** The entries of every method by signature, built on the first query after an update. */
+  private Map<String, Entry> entries;
+
+  /** The signatures of every method that can be called by name, built with {@link #entries}. */
+  private Map<String, List<Signature>> callTargets;
+
+  /** The flowcharts decoded from the archive so far, by signature. */
+  private final Map<String, Flowchart> decodedFlowcharts = new HashMap<>();
+
+  private FlowchartIndex(Path directory) {
+    this.file = directory.resolve(FILE_NAME);
+    this.archiveFile = directory.resolve(ARCHIVE_FILE_NAME);
+  }
+
+  /** A method in the index. */
+  private static final class Entry {
+    final String signature;
+
+    /** The flowchart of the method, or null if it is in the archive. */
+    Flowchart flowchart;
+
+    /** The references to the methods each process calls, by process node. */
+    final SetMultimap<Integer, String> calls;
+
+    Entry(String signature, Flowchart flowchart, SetMultimap<Integer, String> calls) {
+      this.signature = signature;
+      this.flowchart = flowchart;
+      this.calls = calls;
+    }
+  }
+
+  /**
+   * Loads the index of the outputs in {@code outputDirectory}, which is empty if no index has
+   * been saved there yet. The flowcharts themselves are only read when asked for.
+   */
+  public static FlowchartIndex load(Path outputDirectory) throws IOException {
+    FlowchartIndex index = new FlowchartIndex(outputDirectory);
+    if (!Files.exists(index.file) || !Files.exists(index.archiveFile)) {
+      return index;
+    }
+    index.archive = FlowchartArchive.open(index.archiveFile);
+    for (String line : Files.readAllLines(index.file, StandardCharsets.UTF_8)) {
+      List<String> fields = Splitter.on(FIELD_SEPARATOR).splitToList(line);
+      try {
+        checkArgument(fields.size() == 3, "Expected 3 fields");
+        index
+            .sources
+            .computeIfAbsent(fields.get(0), sourceKey -> new LinkedHashMap<>())
+            .put(fields.get(1), new Entry(fields.get(1), null, parseCalls(fields.get(2))));
+      } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+        throw new IOException(index.file + " is not a valid flowchart index: " + line);
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Returns the reference to a call of the method or constructor ({@code <init>}) named
+   * {@code methodName} with {@code arity} arguments, on the type named {@code typeName} (or
+   * {@code null} if unknown), e.g., {@code Utilities.validate/2} or {@code validate/2}.
+   */
+  public static String callReference(String typeName, String methodName, int arity) {
+    return (typeName == null ? "" : typeName + ".") + methodName + ARITY_SEPARATOR + arity;
+  }
+
+  /**
+   * Replaces the methods of the source file {@code sourceKey} with those with
+   * {@code flowcharts}, keeping those with {@code keptSignatures}, which were unchanged.
+   *
+   * @param calls The references to the methods each process calls (see {@link #callReference}),
+   *      by process node, for the flowcharts whose processes call any.
+   */
+  public void update(
+      String sourceKey,
+      Map<String, Flowchart> flowcharts,
+      Map<String, SetMultimap<Integer, String>> calls,
+      Set<String> keptSignatures) {
+
+    Map<String, Entry> methods = new LinkedHashMap<>();
+    sources
+        .getOrDefault(sourceKey, Collections.emptyMap())
+        .forEach(
+            (signature, entry) -> {
+              if (keptSignatures.contains(signature)) {
+                methods.put(signature, entry);
+              }
+            });
+    flowcharts.forEach(
+        (signature, flowchart) ->
+            methods.put(
+                signature,
+                new Entry(
+                    signature,
+                    flowchart,
+                    calls.getOrDefault(signature, ImmutableSetMultimap.of()))));
+    if (methods.isEmpty()) {
+      remove(sourceKey);
+    } else {
+      sources.put(sourceKey, methods);
+      modified = true;
+      stale = true;
+    }
+  }
+
+  /** Removes the methods of the source file {@code sourceKey}. */
+  public void remove(String sourceKey) {
+    if (sources.remove(sourceKey) != null) {
+      modified = true;
+      stale = true;
+    }
+  }
+
+  /** Returns the source files with methods in the index. */
+  public Set<String> sourceKeys() {
+    return Collections.unmodifiableSet(sources.keySet());
+  }
+
+  /** Returns the signatures of every method in the index, in no particular order. */
+  public synchronized Set<String> getSignatures() {
+    return Collections.unmodifiableSet(getEntries().keySet());
+  }
+
+  /**
+   * Returns the flowchart of the method with {@code signature} (wrapped in an {@link Optional})
+   * if it is in the index; {@link Optional#empty()} otherwise. Callers must not modify it.
+   */
+  public synchronized Optional<Flowchart> getFlowchart(String signature) throws IOException {
+    Entry entry = getEntries().get(signature);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    if (entry.flowchart != null) {
+      return Optional.of(entry.flowchart);
+    }
+    Flowchart flowchart = decodedFlowcharts.get(signature);
+    if (flowchart == null) {
+      flowchart =
+          archive
+              .get(signature)
+              .orElseThrow(() -> new IOException(archiveFile + " lacks " + signature));
+      decodedFlowcharts.put(signature, flowchart);
+    }
+    return Optional.of(flowchart);
+  }
+
+  /**
+   * Returns the signatures of the methods in the index that {@code node} of the flowchart of
+   * the method with {@code signature} calls, in the order the calls were found.
+   */
+  public synchronized List<String> getCallees(String signature, int node) {
+    Entry entry = getEntries().get(signature);
+    if (entry == null || !entry.calls.containsKey(node)) {
+      return Collections.emptyList();
+    }
+    Signature caller = Signature.parse(signature);
+    List<String> callees = new ArrayList<>();
+    for (String reference : entry.calls.get(node)) {
+      resolve(reference, caller).ifPresent(callee -> {
+        if (!callees.contains(callee)) {
+          callees.add(callee);
+        }
+      });
+    }
+    return callees;
+  }
+
+  /**
+   * Writes the index back to the directory it was loaded from, if it changed, replacing both
+   * files atomically.
+   */
+  public synchronized void save() throws IOException {
+    if (!modified) {
+      return;
+    }
+    Files.createDirectories(file.toAbsolutePath().getParent());
+
+    //$ Gather every flowchart, decoding those of the unchanged methods from the old archive
+    Map<String, Map<String, Entry>> sortedSources = new TreeMap<>(sources);
+    Map<String, Flowchart> flowcharts = new LinkedHashMap<>();
+    for (Map<String, Entry> methods : sortedSources.values()) {
+      for (Entry entry : methods.values()) {
+        flowcharts.put(
+            entry.signature,
+            entry.flowchart != null ? entry.flowchart : getFlowchart(entry.signature).get());
+      }
+    }
+
+    //$ Write the archive, then the index file that refers to it
+    FlowchartArchive.write(flowcharts, archiveFile);
+    Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try (BufferedWriter output = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+      for (Map.Entry<String, Map<String, Entry>> source : sortedSources.entrySet()) {
+        for (Entry entry : source.getValue().values()) {
+          output.write(source.getKey() + FIELD_SEPARATOR + entry.signature + FIELD_SEPARATOR);
+          output.write(formatCalls(entry.calls));
+          output.newLine();
+        }
+      }
+    }
+    Files.move(
+        temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    //X Read the flowcharts from the new archive from now on, rather than holding them
+    archive = FlowchartArchive.open(archiveFile);
+    decodedFlowcharts.clear();
+    for (Map<String, Entry> methods : sources.values()) {
+      for (Entry entry : methods.values()) {
+        entry.flowchart = null;
+      }
+    }
+    modified = false;
+  }
+
+  /**
+   * Resolves {@code reference} to the signature of the method it calls, if exactly one method in
+   * the index matches it, or exactly one in the class of {@code caller}.
+   */
+  private Optional<String> resolve(String reference, Signature caller) {
+    int aritySeparatorIndex = reference.lastIndexOf(ARITY_SEPARATOR);
+    int typeSeparatorIndex = reference.lastIndexOf('.', aritySeparatorIndex);
+    String typeName = typeSeparatorIndex < 0 ? null : reference.substring(0, typeSeparatorIndex);
+    String methodName = reference.substring(typeSeparatorIndex + 1, aritySeparatorIndex);
+    int arity = Integer.parseInt(reference.substring(aritySeparatorIndex + 1));
+
+    //$ Find the methods of the name that take as many arguments (on the type, if named)
+    List<Signature> candidates =
+        callTargets
+            .getOrDefault(methodName, Collections.emptyList())
+            .stream()
+            .filter(candidate -> candidate.accepts(arity))
+            .filter(candidate -> typeName == null || candidate.className.equals(typeName))
+            .collect(Collectors.toList());
+
+    //? Are there several?
+    if (candidates.size() > 1) {
+      //$ Prefer those of the class of the caller
+      candidates =
+          candidates
+              .stream()
+              .filter(candidate -> candidate.qualifiedClassName.equals(caller.qualifiedClassName))
+              .collect(Collectors.toList());
+    }
+    //X Link the call only if a single method remains
+    return candidates.size() == 1
+        ? Optional.of(candidates.get(0).signature)
+        : Optional.empty();
+  }
+
+  private Map<String, Entry> getEntries() {
+    if (stale) {
+      stale = false;
+      entries = new HashMap<>();
+      callTargets = new HashMap<>();
+      for (Map<String, Entry> methods : sources.values()) {
+        for (Entry entry : methods.values()) {
+          entries.put(entry.signature, entry);
+        }
+      }
+      for (String signature : entries.keySet()) {
+        Signature parsed = Signature.parse(signature);
+        if (parsed.isCallable) {
+          callTargets.computeIfAbsent(parsed.methodName, name -> new ArrayList<>()).add(parsed);
+        }
+      }
+    }
+    return entries;
+  }
+
+  /** The parts of a signature in the form that {@code MethodCollector} gives them. */
+  private static final class Signature {
+    final String signature;
+    final String qualifiedClassName;
+    final String className;
+    final String methodName;
+    final int parameterCount;
+    final boolean isVarArgs;
+
+    /** Whether the method can be called by name, unlike a lambda. */
+    final boolean isCallable;
+
+    private Signature(String signature) {
+      this.signature = signature;
+
+      //$ Strip the number that disambiguates a repeated signature
+      String body = signature.replaceFirst("#\\d+$", "");
+      int parametersIndex = body.lastIndexOf('(');
+      isCallable = parametersIndex > 0 && body.endsWith(")");
+
+      //$ Split the qualified method name into the class and the method
+      String qualifiedMethodName = parametersIndex < 0 ? body : body.substring(0, parametersIndex);
+      int methodSeparatorIndex = qualifiedMethodName.lastIndexOf('.');
+      qualifiedClassName =
+          methodSeparatorIndex < 0 ? "" : qualifiedMethodName.substring(0, methodSeparatorIndex);
+      className = qualifiedClassName.substring(qualifiedClassName.lastIndexOf('.') + 1);
+      methodName = qualifiedMethodName.substring(methodSeparatorIndex + 1);
+
+      //X Count the parameters, minding the commas within type arguments
+      String parameters =
+          isCallable ? body.substring(parametersIndex + 1, body.length() - 1) : "";
+      int count = parameters.isEmpty() ? 0 : 1;
+      int depth = 0;
+      for (char c : parameters.toCharArray()) {
+        if (c == '<') {
+          depth++;
+        } else if (c == '>') {
+          depth--;
+        } else if (c == ',' && depth == 0) {
+          count++;
+        }
+      }
+      parameterCount = count;
+      isVarArgs = parameters.endsWith("...");
+    }
+
+    static Signature parse(String signature) {
+      return new Signature(signature);
+    }
+
+    /** Decides whether the method can be called with {@code arity} arguments. */
+    boolean accepts(int arity) {
+      return arity == parameterCount || (isVarArgs && arity >= parameterCount - 1);
+    }
+  }
+
+  /** Parses calls in the form {@code node=reference reference;node=reference}. */
+  private static SetMultimap<Integer, String> parseCalls(String text) {
+    SetMultimap<Integer, String> calls = LinkedHashMultimap.create();
+    for (String nodeCalls : Splitter.on(NODE_SEPARATOR).omitEmptyStrings().split(text)) {
+      int separatorIndex = nodeCalls.indexOf(NODE_CALLS_SEPARATOR);
+      calls.putAll(
+          Integer.parseInt(nodeCalls.substring(0, separatorIndex)),
+          Splitter.on(CALL_SEPARATOR).split(nodeCalls.substring(separatorIndex + 1)));
+    }
+    return calls;
+  }
+
+  private static String formatCalls(SetMultimap<Integer, String> calls) {
+    StringBuilder text = new StringBuilder();
+    for (Map.Entry<Integer, Collection<String>> nodeCalls : calls.asMap().entrySet()) {
+      if (text.length() > 0) {
+        text.append(NODE_SEPARATOR);
+      }
+      text.append(nodeCalls.getKey()).append(NODE_CALLS_SEPARATOR);
+      text.append(String.join(String.valueOf(CALL_SEPARATOR), nodeCalls.getValue()));
+    }
+    return text.toString();
+  }
+}
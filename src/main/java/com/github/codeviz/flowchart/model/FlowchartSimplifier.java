@@ -0,0 +1,235 @@
+package com.github.codeviz.flowchart.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shrinks {@link Flowchart}s without changing the control flow they depict, so they are cheaper
+ * for Graphviz to lay out: chains of connectors are collapsed into their last connector,
+ * terminals with equal descriptions are merged, and, optionally, straight runs of processes are
+ * folded into a single process whose description has a line per process.
+ *
+ * Each pass visits every node a constant number of times, so simplification takes time linear
+ * in the size of the flowchart.
+ */
+public final class FlowchartSimplifier {
+
+  /** Separates the descriptions of the processes that are folded into one. */
+  private static final String FOLDED_DESCRIPTION_SEPARATOR = "\n";
+
+  /**
+   * Returns a simplified copy of {@code flowchart}, which is left unchanged. Node 0 of the copy
+   * replaces node 0 of {@code flowchart}; the other nodes keep their relative order.
+   *
+   * @param foldProcesses Whether to fold each straight run of processes into one process.
+   */
+  public static Flowchart simplify(Flowchart flowchart, boolean foldProcesses) {
+    int size = flowchart.size();
+    Flowchart simplifiedFlowchart = new Flowchart();
+    if (size == 0) {
+      return simplifiedFlowchart;
+    }
+
+    //$ Find the node that replaces each node
+    int[] replacements = new int[size];
+    mergeTerminals(flowchart, replacements);
+    collapseConnectors(flowchart, replacements);
+    int entry = replacements[0];
+
+    //$ Find the processes that are folded into the first process of their run
+    int[] foldedInto = new int[size];
+    Arrays.fill(foldedInto, Flowchart.NONE);
+    if (foldProcesses) {
+      foldProcesses(flowchart, replacements, entry, foldedInto);
+    }
+
+    //$ Add the remaining nodes, starting with the entry
+    int[] numbers = new int[size];
+    int[] lastNodes = new int[size];
+    Arrays.fill(numbers, Flowchart.NONE);
+    addNode(flowchart, entry, replacements, foldedInto, simplifiedFlowchart, numbers, lastNodes);
+    for (int node = 0; node < size; node++) {
+      if (node != entry && replacements[node] == node && foldedInto[node] == Flowchart.NONE) {
+        addNode(
+            flowchart, node, replacements, foldedInto, simplifiedFlowchart, numbers, lastNodes);
+      }
+    }
+
+    //X Connect the remaining nodes, each run of processes flowing on from its last process
+    for (int node = 0; node < size; node++) {
+      int number = numbers[node];
+      if (number == Flowchart.NONE) {
+        continue;
+      }
+      int nextNode = replace(flowchart.getNextNode(lastNodes[node]), replacements);
+      int trueBranch = replace(flowchart.getTrueBranch(node), replacements);
+      int falseBranch = replace(flowchart.getFalseBranch(node), replacements);
+      if (nextNode != Flowchart.NONE) {
+        simplifiedFlowchart.setNextNode(number, numbers[nextNode]);
+      }
+      if (trueBranch != Flowchart.NONE) {
+        simplifiedFlowchart.setTrueBranch(number, numbers[trueBranch]);
+      }
+      if (falseBranch != Flowchart.NONE) {
+        simplifiedFlowchart.setFalseBranch(number, numbers[falseBranch]);
+      }
+    }
+    return simplifiedFlowchart;
+  }
+
+  /**
+   * Returns a report of the nodes and edges of {@code flowchart} before and after it was
+   * {@link #simplify(Flowchart, boolean) simplified} to {@code simplifiedFlowchart}.
+   */
+  public static String report(Flowchart flowchart, Flowchart simplifiedFlowchart) {
+    return String.format(
+        "Simplified the flowchart from %d nodes and %d edges to %d nodes and %d edges.",
+        flowchart.size(),
+        flowchart.getEdgeCount(),
+        simplifiedFlowchart.size(),
+        simplifiedFlowchart.getEdgeCount());
+  }
+
+  /** Replaces every terminal by the first terminal with an equal description. */
+  private static void mergeTerminals(Flowchart flowchart, int[] replacements) {
+    Map<String, Integer> terminals = new HashMap<>();
+    for (int node = 0; node < flowchart.size(); node++) {
+      replacements[node] = node;
+      if (flowchart.getKind(node) == NodeKind.TERMINAL) {
+        Integer terminal = terminals.putIfAbsent(flowchart.getText(node), node);
+        if (terminal != null) {
+          replacements[node] = terminal;
+        }
+      }
+    }
+  }
+
+  /**
+   * Replaces every connector that flows to another connector by the last connector of the chain.
+   * Connectors that flow to each other in a cycle are kept.
+   */
+  private static void collapseConnectors(Flowchart flowchart, int[] replacements) {
+    int[] chain = new int[flowchart.size()];
+    for (int node = 0; node < flowchart.size(); node++) {
+      if (!isChainedConnector(flowchart, node) || replacements[node] != node) {
+        continue;
+      }
+
+      //$ Follow the chain until a connector that ends it or whose replacement is known
+      int length = 0;
+      int last = node;
+      while (isChainedConnector(flowchart, last) && replacements[last] == last) {
+        // Marks the connector as on the chain, so a cycle ends the chain
+        replacements[last] = Flowchart.NONE;
+        chain[length++] = last;
+        last = flowchart.getNextNode(last);
+      }
+
+      //X Replace every connector on the chain by the connector that ends it
+      boolean isCycle = replacements[last] == Flowchart.NONE;
+      for (int i = 0; i < length; i++) {
+        replacements[chain[i]] = isCycle ? chain[i] : replacements[last];
+      }
+    }
+  }
+
+  private static boolean isChainedConnector(Flowchart flowchart, int node) {
+    int nextNode = flowchart.getNextNode(node);
+    return flowchart.getKind(node) == NodeKind.CONNECTOR
+        && nextNode != Flowchart.NONE
+        && flowchart.getKind(nextNode) == NodeKind.CONNECTOR;
+  }
+
+  /**
+   * Marks every process that is only reached from the process before it as folded into the first
+   * process of its run, in {@code foldedInto}. The entry is never folded.
+   */
+  private static void foldProcesses(
+      Flowchart flowchart, int[] replacements, int entry, int[] foldedInto) {
+
+    //$ Count the edges into each remaining node, and find those reached from a process
+    int size = flowchart.size();
+    int[] inDegrees = new int[size];
+    boolean[] followsProcess = new boolean[size];
+    inDegrees[entry]++;
+    for (int node = 0; node < size; node++) {
+      if (replacements[node] != node) {
+        continue;
+      }
+      int nextNode = replace(flowchart.getNextNode(node), replacements);
+      countEdge(nextNode, inDegrees);
+      countEdge(replace(flowchart.getTrueBranch(node), replacements), inDegrees);
+      countEdge(replace(flowchart.getFalseBranch(node), replacements), inDegrees);
+      if (nextNode != Flowchart.NONE && flowchart.getKind(node) == NodeKind.PROCESS) {
+        followsProcess[nextNode] = true;
+      }
+    }
+
+    //X Fold the run that follows each process that is not itself folded
+    for (int node = 0; node < size; node++) {
+      if (flowchart.getKind(node) != NodeKind.PROCESS
+          || isFoldable(flowchart, node, inDegrees, followsProcess)) {
+        continue;
+      }
+      // Only the process before a foldable process reaches it, so the run cannot loop back
+      int nextNode = replace(flowchart.getNextNode(node), replacements);
+      while (nextNode != Flowchart.NONE
+          && isFoldable(flowchart, nextNode, inDegrees, followsProcess)) {
+        foldedInto[nextNode] = node;
+        nextNode = replace(flowchart.getNextNode(nextNode), replacements);
+      }
+    }
+  }
+
+  /** Decides whether {@code node} is a process that is only reached from another process. */
+  private static boolean isFoldable(
+      Flowchart flowchart, int node, int[] inDegrees, boolean[] followsProcess) {
+
+    return flowchart.getKind(node) == NodeKind.PROCESS
+        && inDegrees[node] == 1
+        && followsProcess[node];
+  }
+
+  /**
+   * Adds {@code node} to {@code simplifiedFlowchart}, with the descriptions of the processes
+   * folded into it, and records its number and the last node of its run.
+   */
+  private static void addNode(
+      Flowchart flowchart,
+      int node,
+      int[] replacements,
+      int[] foldedInto,
+      Flowchart simplifiedFlowchart,
+      int[] numbers,
+      int[] lastNodes) {
+
+    String text = flowchart.getText(node);
+    int last = node;
+    int nextNode = replace(flowchart.getNextNode(node), replacements);
+    if (nextNode != Flowchart.NONE && foldedInto[nextNode] == node) {
+      StringBuilder description = new StringBuilder(text);
+      while (nextNode != Flowchart.NONE && foldedInto[nextNode] == node) {
+        description.append(FOLDED_DESCRIPTION_SEPARATOR).append(flowchart.getText(nextNode));
+        last = nextNode;
+        nextNode = replace(flowchart.getNextNode(nextNode), replacements);
+      }
+      text = description.toString();
+    }
+    numbers[node] = simplifiedFlowchart.addNode(flowchart.getKind(node), text);
+    lastNodes[node] = last;
+  }
+
+  private static void countEdge(int node, int[] inDegrees) {
+    if (node != Flowchart.NONE) {
+      inDegrees[node]++;
+    }
+  }
+
+  private static int replace(int node, int[] replacements) {
+    return node == Flowchart.NONE ? Flowchart.NONE : replacements[node];
+  }
+
+  // This class should not be instantiated since it is simply a collection of static functions.
+  private FlowchartSimplifier() {}
+}
@@ -0,0 +1,227 @@
+package com.github.codeviz.flowchart.model;
+
+import com.github.codeviz.flowchart.common.Constants;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.jena.vocabulary.RDF;
+
+/**
+ * Checks that the flowchart individuals in a model satisfy the constraints of the OWL flowchart
+ * ontology that {@link OwlConverter#fromOwl(Model)} relies on, without running a reasoner.
+ *
+ * Every statement is visited a constant number of times, so validation takes time linear in the
+ * size of the model, whereas {@link org.apache.jena.ontology.OntModel#validate()} grows far
+ * faster with the number of individuals. Only the direct types of individuals are considered.
+ */
+public final class FlowchartValidator {
+
+  private static final String[] PROPERTY_LOCAL_NAMES = {
+    Constants.HAS_CONDITION_LN,
+    Constants.HAS_DESCRIPTION_LN,
+    Constants.HAS_FALSE_BRANCH_LN,
+    Constants.HAS_NEXT_NODE_LN,
+    Constants.HAS_TRUE_BRANCH_LN
+  };
+
+  /**
+   * Returns a description of every violation of the ontology's constraints by the flowchart
+   * individuals in {@code model}, or an empty list if there are none:
+   * <ul>
+   *   <li>decisions must have a condition and a true branch,
+   *       and processes and terminals must have a description;
+   *   <li>every property is functional and irreflexive, and may only be used on the node classes
+   *       in its domain (e.g., only single-exit nodes may have a next node);
+   *   <li>edges must lead to flowchart nodes, and conditions and descriptions must be literals;
+   *   <li>each individual must belong to only one node class.
+   * </ul>
+   */
+  public static List<String> validate(Model model) {
+    List<String> problems = new ArrayList<>();
+
+    //$ Find the individuals of every flowchart node class
+    Map<Resource, NodeKind> kinds = new HashMap<>();
+    model.listStatements(null, RDF.type, (RDFNode) null).forEachRemaining(type -> {
+      Optional<NodeKind> kind = getKind(type.getObject());
+      if (kind.isPresent()) {
+        NodeKind previousKind = kinds.put(type.getSubject(), kind.get());
+        if (previousKind != null && previousKind != kind.get()) {
+          problems.add(
+              String.format(
+                  "%s is an individual of both %s and %s.",
+                  type.getSubject(),
+                  previousKind.getClassLocalName(),
+                  kind.get().getClassLocalName()));
+        }
+      }
+    });
+
+    //$ Check the properties of each individual
+    for (Map.Entry<Resource, NodeKind> individual : kinds.entrySet()) {
+      validate(individual.getKey(), individual.getValue(), kinds, problems);
+    }
+
+    //X Check that only flowchart nodes have flowchart properties
+    for (String propertyLocalName : PROPERTY_LOCAL_NAMES) {
+      model
+          .listSubjectsWithProperty(getProperty(model, propertyLocalName))
+          .filterDrop(kinds::containsKey)
+          .forEachRemaining(subject ->
+              problems.add(
+                  String.format(
+                      "%s has property %s, but is not an individual of a flowchart node class.",
+                      subject,
+                      propertyLocalName)));
+    }
+    return problems;
+  }
+
+  private static void validate(
+      Resource individual, NodeKind kind, Map<Resource, NodeKind> kinds, List<String> problems) {
+
+    //$ Check each of the individual's flowchart properties
+    Multiset<String> propertyLocalNames = HashMultiset.create();
+    StmtIterator statements = individual.listProperties();
+    while (statements.hasNext()) {
+      Statement statement = statements.next();
+      Property property = statement.getPredicate();
+      if (!Constants.FLOWCHART_ONTOLOGY_NAMESPACE.equals(property.getNameSpace())) {
+        continue;
+      }
+      String propertyLocalName = property.getLocalName();
+      RDFNode value = statement.getObject();
+      switch (propertyLocalName) {
+        case Constants.HAS_CONDITION_LN:
+        case Constants.HAS_DESCRIPTION_LN:
+          if (!value.isLiteral()) {
+            problems.add(
+                String.format(
+                    "Property %s of %s is %s, which is not a literal.",
+                    propertyLocalName,
+                    individual,
+                    value));
+          }
+          break;
+        case Constants.HAS_FALSE_BRANCH_LN:
+        case Constants.HAS_NEXT_NODE_LN:
+        case Constants.HAS_TRUE_BRANCH_LN:
+          if (value.equals(individual)) {
+            problems.add(
+                String.format(
+                    "Property %s of %s refers to the node itself.", propertyLocalName, individual));
+          } else if (!kinds.containsKey(value)) {
+            problems.add(
+                String.format(
+                    "Property %s of %s refers to %s, which is not a flowchart node.",
+                    propertyLocalName,
+                    individual,
+                    value));
+          }
+          break;
+        default:
+          // Not a flowchart property
+          continue;
+      }
+      if (!isPermitted(kind, propertyLocalName)) {
+        problems.add(
+            String.format(
+                "%s node %s has property %s, which its class does not permit.",
+                kind.getClassLocalName(),
+                individual,
+                propertyLocalName));
+      }
+      propertyLocalNames.add(propertyLocalName);
+    }
+
+    //$ Check that no property has several values
+    for (Multiset.Entry<String> propertyLocalName : propertyLocalNames.entrySet()) {
+      if (propertyLocalName.getCount() > 1) {
+        problems.add(
+            String.format(
+                "%s node %s has %s values of functional property %s.",
+                kind.getClassLocalName(),
+                individual,
+                propertyLocalName.getCount(),
+                propertyLocalName.getElement()));
+      }
+    }
+
+    //X Check that the required properties are present
+    switch (kind) {
+      case DECISION:
+        checkRequired(
+            individual, kind, propertyLocalNames, "data", Constants.HAS_CONDITION_LN, problems);
+        checkRequired(
+            individual, kind, propertyLocalNames, "object", Constants.HAS_TRUE_BRANCH_LN, problems);
+        break;
+      case PROCESS:
+      case TERMINAL:
+        checkRequired(
+            individual, kind, propertyLocalNames, "data", Constants.HAS_DESCRIPTION_LN, problems);
+        break;
+      default:
+        // Connectors have no required properties
+    }
+  }
+
+  private static void checkRequired(
+      Resource individual,
+      NodeKind kind,
+      Multiset<String> propertyLocalNames,
+      String propertyType,
+      String propertyLocalName,
+      List<String> problems) {
+
+    if (!propertyLocalNames.contains(propertyLocalName)) {
+      problems.add(
+          String.format(
+              "%s node %s does not have required %s property %s.",
+              kind.getClassLocalName(),
+              individual,
+              propertyType,
+              propertyLocalName));
+    }
+  }
+
+  /** Decides whether the ontology permits nodes of {@code kind} to have the given property. */
+  private static boolean isPermitted(NodeKind kind, String propertyLocalName) {
+    switch (propertyLocalName) {
+      case Constants.HAS_CONDITION_LN:
+      case Constants.HAS_FALSE_BRANCH_LN:
+      case Constants.HAS_TRUE_BRANCH_LN:
+        return kind == NodeKind.DECISION;
+      case Constants.HAS_DESCRIPTION_LN:
+        return kind == NodeKind.PROCESS || kind == NodeKind.TERMINAL;
+      case Constants.HAS_NEXT_NODE_LN:
+        return kind.isSingleExitNode();
+      default:
+        return true;
+    }
+  }
+
+  /** Returns the kind of node that an individual of {@code type} is, if any. */
+  private static Optional<NodeKind> getKind(RDFNode type) {
+    if (!type.isURIResource()
+        || !Constants.FLOWCHART_ONTOLOGY_NAMESPACE.equals(type.asResource().getNameSpace())) {
+      return Optional.empty();
+    }
+    return NodeKind.fromClassLocalName(type.asResource().getLocalName());
+  }
+
+  private static Property getProperty(Model model, String propertyLocalName) {
+    return model.createProperty(Constants.FLOWCHART_ONTOLOGY_NAMESPACE + propertyLocalName);
+  }
+
+  // This class should not be instantiated since it is simply a collection of static functions.
+  private FlowchartValidator() {}
+}
@@ -0,0 +1,43 @@
+package com.github.codeviz.flowchart.model;
+
+import com.github.codeviz.flowchart.common.Constants;
+import java.util.Optional;
+
+/** The concrete classes of flowchart nodes in the OWL flowchart ontology. */
+public enum NodeKind {
+  CONNECTOR(Constants.CONNECTOR_LN, true),
+  DECISION(Constants.DECISION_LN, false),
+  PROCESS(Constants.PROCESS_LN, true),
+  TERMINAL(Constants.TERMINAL_LN, false);
+
+  private final String classLocalName;
+  private final boolean singleExitNode;
+
+  private NodeKind(String classLocalName, boolean singleExitNode) {
+    this.classLocalName = classLocalName;
+    this.singleExitNode = singleExitNode;
+  }
+
+  /** Returns the local name of the ontology class corresponding to this kind. */
+  public String getClassLocalName() {
+    return classLocalName;
+  }
+
+  /** Decides whether this kind is a subclass of {@code SingleExitNode} in the ontology. */
+  public boolean isSingleExitNode() {
+    return singleExitNode;
+  }
+
+  /**
+   * Returns the kind (wrapped in an {@link Optional}) corresponding to the ontology class
+   *    with the given local name if one exists; {@link Optional#empty()} otherwise.
+   */
+  public static Optional<NodeKind> fromClassLocalName(String classLocalName) {
+    for (NodeKind kind : values()) {
+      if (kind.classLocalName.equals(classLocalName)) {
+        return Optional.of(kind);
+      }
+    }
+    return Optional.empty();
+  }
+}
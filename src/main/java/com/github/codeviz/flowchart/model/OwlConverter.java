@@ -0,0 +1,334 @@
+package com.github.codeviz.flowchart.model;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.github.codeviz.flowchart.common.Constants;
+import com.github.codeviz.flowchart.common.FlowchartSchema;
+import com.google.common.net.UrlEscapers;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFWriter;
+import org.apache.jena.vocabulary.RDF;
+
+/**
+ * Converts between {@link Flowchart}s and their encoding as individuals of the OWL flowchart
+ * ontology, using the vocabulary in {@link Constants}.
+ *
+ * Individuals are named after their flowchart and node number (see {@link #getIndividualUri}),
+ * rather than being blank nodes, and node numbers follow the order of the source, so the same
+ * flowchart is always encoded with the same names.
+ */
+public final class OwlConverter {
+
+  /** Precedes the node number in the URI of an individual. */
+  private static final String NODE_FRAGMENT_PREFIX = "#n";
+
+  /**
+   * Orders individuals by the flowchart they belong to, then by node number, so flowcharts are
+   * numbered the same however the model orders its individuals.
+   */
+  private static final Comparator<Resource> INDIVIDUAL_ORDER =
+      Comparator.comparing(OwlConverter::getFlowchartId)
+          .thenComparingInt(OwlConverter::getNodeNumber);
+
+  private static final String[] EDGE_PROPERTY_LOCAL_NAMES = {
+    Constants.HAS_NEXT_NODE_LN, Constants.HAS_TRUE_BRANCH_LN, Constants.HAS_FALSE_BRANCH_LN
+  };
+
+  /**
+   * Adds an individual for each node of {@code flowchart} to {@code model}, along with the
+   * properties encoding the nodes' texts and edges.
+   *
+   * @param name The name of the flowchart, e.g., the signature of its method, after which its
+   *      individuals are named.
+   * @return The individuals, indexed by node number.
+   */
+  public static List<Resource> toOwl(Flowchart flowchart, String name, Model model) {
+    forEachTriple(flowchart, name, model.getGraph()::add);
+    List<Resource> individuals = new ArrayList<>(flowchart.size());
+    for (int node = 0; node < flowchart.size(); node++) {
+      individuals.add(model.createResource(getIndividualUri(name, node)));
+    }
+    return individuals;
+  }
+
+  /**
+   * Writes the encoding of {@code flowchart}, together with the ontology, to {@code output} in
+   * {@code format}, which must be a streaming format, e.g., {@link RDFFormat#TURTLE_BLOCKS} or
+   * {@link RDFFormat#RDF_THRIFT}.
+   *
+   * The output is canonical: the prefixes in order, then each node in order, with its class,
+   * text, and edges (next, true, false), then the ontology in the order of its file (see
+   * {@link FlowchartSchema#getTriples()}). So equal flowcharts of the same name are always
+   * written as the same bytes, unlike writing a model, which follows its hash order.
+   *
+   * @param name The name of the flowchart, e.g., the signature of its method, after which its
+   *      individuals are named.
+   */
+  public static void writeOwl(
+      Flowchart flowchart, String name, RDFFormat format, OutputStream output) {
+
+    FlowchartSchema schema = FlowchartSchema.get();
+    StreamRDF stream = StreamRDFWriter.getWriterStream(output, format);
+    stream.start();
+    schema.getNsPrefixes().forEach(stream::prefix);
+    forEachTriple(flowchart, name, stream::triple);
+    schema.getTriples().forEach(stream::triple);
+    stream.finish();
+  }
+
+  /**
+   * Returns the URI of the individual of {@code node} of the flowchart named {@code name},
+   * e.g., {@code https://github.com/JustisAllen/Codeviz/flowcharts/Demo.main(String%5B%5D)#n0}.
+   */
+  public static String getIndividualUri(String name, int node) {
+    return Constants.FLOWCHART_INDIVIDUAL_NAMESPACE
+        + UrlEscapers.urlPathSegmentEscaper().escape(name)
+        + NODE_FRAGMENT_PREFIX
+        + node;
+  }
+
+  /** Passes the triples encoding {@code flowchart} to {@code action}, node by node. */
+  private static void forEachTriple(Flowchart flowchart, String name, Consumer<Triple> action) {
+    Node type = RDF.type.asNode();
+    Node[] edgeProperties = new Node[EDGE_PROPERTY_LOCAL_NAMES.length];
+    for (int i = 0; i < edgeProperties.length; i++) {
+      edgeProperties[i] = getPropertyNode(EDGE_PROPERTY_LOCAL_NAMES[i]);
+    }
+    for (int node = 0; node < flowchart.size(); node++) {
+      NodeKind kind = flowchart.getKind(node);
+      Node individual = getIndividualNode(name, node);
+      action.accept(
+          Triple.create(
+              individual,
+              type,
+              NodeFactory.createURI(
+                  Constants.FLOWCHART_ONTOLOGY_NAMESPACE + kind.getClassLocalName())));
+      if (flowchart.getText(node) != null) {
+        action.accept(
+            Triple.create(
+                individual,
+                getPropertyNode(
+                    kind == NodeKind.DECISION
+                        ? Constants.HAS_CONDITION_LN
+                        : Constants.HAS_DESCRIPTION_LN),
+                NodeFactory.createLiteral(flowchart.getText(node))));
+      }
+      int[] successors = {
+        flowchart.getNextNode(node), flowchart.getTrueBranch(node), flowchart.getFalseBranch(node)
+      };
+      for (int i = 0; i < successors.length; i++) {
+        if (successors[i] != Flowchart.NONE) {
+          action.accept(
+              Triple.create(
+                  individual, edgeProperties[i], getIndividualNode(name, successors[i])));
+        }
+      }
+    }
+  }
+
+  /**
+   * Builds a {@link Flowchart} from the flowchart individuals in {@code model}.
+   *
+   * Individuals named after their node numbers (see {@link #getIndividualUri}) keep them, so a
+   * flowchart converts back to the same node numbers it was written with. Otherwise, e.g., for
+   * blank nodes, nodes are numbered breadth-first from the individuals that no other individual
+   * flows to, so the first node of a flowchart becomes node 0. If {@code model} holds several
+   * flowcharts, they become disconnected parts of the result, ordered by name.
+   *
+   * @throws IllegalArgumentException If an individual flows to a resource that is not
+   *      an individual of a flowchart node class, or has an edge its class does not permit.
+   */
+  public static Flowchart fromOwl(Model model) {
+
+    //$ Find the individuals of every flowchart node class
+    Map<Resource, NodeKind> kinds = new LinkedHashMap<>();
+    for (NodeKind kind : NodeKind.values()) {
+      model
+          .listResourcesWithProperty(RDF.type, getResource(model, kind.getClassLocalName()))
+          .forEachRemaining(individual -> kinds.put(individual, kind));
+    }
+
+    //? Are all the individuals named after their node numbers?
+    List<Resource> individuals;
+    if (kinds.keySet().stream().allMatch(individual -> getNodeNumber(individual) >= 0)) {
+      //$ Keep their numbers, ordering the flowcharts by name
+      individuals = new ArrayList<>(kinds.keySet());
+      individuals.sort(INDIVIDUAL_ORDER);
+    } else {
+      //$ Number them breadth-first from those that are not flowed to
+      individuals = orderBreadthFirst(model, kinds);
+    }
+    Map<Resource, Integer> numbers = new HashMap<>();
+    for (int node = 0; node < individuals.size(); node++) {
+      numbers.put(individuals.get(node), node);
+    }
+
+    //$ Add the nodes
+    Flowchart flowchart = new Flowchart();
+    for (Resource individual : individuals) {
+      NodeKind kind = kinds.get(individual);
+      Statement text =
+          individual.getProperty(
+              getProperty(
+                  model,
+                  kind == NodeKind.DECISION
+                      ? Constants.HAS_CONDITION_LN
+                      : Constants.HAS_DESCRIPTION_LN));
+      flowchart.addNode(
+          kind, text == null || kind == NodeKind.CONNECTOR ? null : text.getString());
+    }
+
+    //X Add the edges
+    for (int node = 0; node < individuals.size(); node++) {
+      Resource individual = individuals.get(node);
+      int nextNode = getSuccessor(model, numbers, individual, Constants.HAS_NEXT_NODE_LN);
+      if (nextNode != Flowchart.NONE) {
+        flowchart.setNextNode(node, nextNode);
+      }
+      int trueBranch = getSuccessor(model, numbers, individual, Constants.HAS_TRUE_BRANCH_LN);
+      if (trueBranch != Flowchart.NONE) {
+        flowchart.setTrueBranch(node, trueBranch);
+      }
+      int falseBranch = getSuccessor(model, numbers, individual, Constants.HAS_FALSE_BRANCH_LN);
+      if (falseBranch != Flowchart.NONE) {
+        flowchart.setFalseBranch(node, falseBranch);
+      }
+    }
+    return flowchart;
+  }
+
+  /**
+   * Orders the individuals of {@code kinds} breadth-first from those that no other individual
+   * flows to, so the first node of a flowchart comes first.
+   */
+  private static List<Resource> orderBreadthFirst(Model model, Map<Resource, NodeKind> kinds) {
+    //$ Find the individuals that are flowed to
+    Set<Resource> successors = new HashSet<>();
+    for (Resource individual : kinds.keySet()) {
+      for (String propertyLocalName : EDGE_PROPERTY_LOCAL_NAMES) {
+        Resource successor =
+            individual.getPropertyResourceValue(getProperty(model, propertyLocalName));
+        if (successor != null) {
+          successors.add(successor);
+        }
+      }
+    }
+
+    //X Order the individuals breadth-first from those that are not flowed to
+    Set<Resource> numbered = new HashSet<>();
+    List<Resource> individuals = new ArrayList<>(kinds.size());
+    List<Resource> roots = new ArrayList<>(kinds.keySet());
+    roots.sort(
+        Comparator.comparing((Resource individual) -> successors.contains(individual))
+            .thenComparing(INDIVIDUAL_ORDER));
+    Deque<Resource> queue = new ArrayDeque<>();
+    for (Resource root : roots) {
+      if (!numbered.add(root)) {
+        continue;
+      }
+      individuals.add(root);
+      queue.add(root);
+      while (!queue.isEmpty()) {
+        Resource individual = queue.remove();
+        for (String propertyLocalName : EDGE_PROPERTY_LOCAL_NAMES) {
+          Resource successor =
+              individual.getPropertyResourceValue(getProperty(model, propertyLocalName));
+          if (successor != null
+              && kinds.containsKey(successor)
+              && numbered.add(successor)) {
+            individuals.add(successor);
+            queue.add(successor);
+          }
+        }
+      }
+    }
+    return individuals;
+  }
+
+  /**
+   * Returns the URI of the flowchart of {@code individual} if it is named after its node number,
+   * and its URI or blank node label otherwise.
+   */
+  private static String getFlowchartId(Resource individual) {
+    if (individual.isAnon()) {
+      return individual.getId().getLabelString();
+    }
+    int separatorIndex = individual.getURI().lastIndexOf(NODE_FRAGMENT_PREFIX);
+    return separatorIndex < 0
+        ? individual.getURI()
+        : individual.getURI().substring(0, separatorIndex);
+  }
+
+  /** Returns the node number {@code individual} is named after, or -1 if it is not. */
+  private static int getNodeNumber(Resource individual) {
+    if (individual.isAnon()) {
+      return -1;
+    }
+    String uri = individual.getURI();
+    int separatorIndex = uri.lastIndexOf(NODE_FRAGMENT_PREFIX);
+    try {
+      return separatorIndex < 0
+          ? -1
+          : Integer.parseInt(uri.substring(separatorIndex + NODE_FRAGMENT_PREFIX.length()));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  /** Returns the number of the node {@code individual} flows to through the given property. */
+  private static int getSuccessor(
+      Model model, Map<Resource, Integer> numbers, Resource individual, String propertyLocalName) {
+
+    Resource successor =
+        individual.getPropertyResourceValue(getProperty(model, propertyLocalName));
+    if (successor == null) {
+      return Flowchart.NONE;
+    }
+    checkArgument(
+        numbers.containsKey(successor),
+        "Property %s of %s refers to %s, which is not a flowchart node.",
+        propertyLocalName,
+        individual,
+        successor);
+    return numbers.get(successor);
+  }
+
+  private static Resource getResource(Model model, String classLocalName) {
+    return model.createResource(Constants.FLOWCHART_ONTOLOGY_NAMESPACE + classLocalName);
+  }
+
+  private static Property getProperty(Model model, String propertyLocalName) {
+    return model.createProperty(Constants.FLOWCHART_ONTOLOGY_NAMESPACE + propertyLocalName);
+  }
+
+  private static Node getPropertyNode(String propertyLocalName) {
+    return NodeFactory.createURI(Constants.FLOWCHART_ONTOLOGY_NAMESPACE + propertyLocalName);
+  }
+
+  private static Node getIndividualNode(String name, int node) {
+    return NodeFactory.createURI(getIndividualUri(name, node));
+  }
+
+  // This class should not be instantiated since it is simply a collection of static functions.
+  private OwlConverter() {}
+}
@@ -0,0 +1,682 @@
+package com.github.codeviz.flowchart.parsers;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.github.codeviz.flowchart.common.FlowchartCache;
+import com.github.codeviz.flowchart.common.Metrics;
+import com.github.codeviz.flowchart.model.Flowchart;
+import com.github.codeviz.flowchart.model.FlowchartArchive;
+import com.github.codeviz.flowchart.model.FlowchartIndex;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Parses every source file in a source tree that there is a {@link Parser} for into the Codeviz
+ * OWL representation of flowcharts, writing one output file per annotated method into a directory
+ * that mirrors the source tree (e.g., {@code a/Demo.java} yields
+ * {@code a/Demo/Demo.main(String[]).owl}).
+ *
+ * Files are parsed independently of one another on a fixed-size pool of worker threads,
+ * each parse using its own flowchart model.
+ *
+ * Files are first scanned for Codeviz comments where they are memory-mapped
+ * (see {@link Parser#mayContainFlowcharts(ByteBuffer)}), and those without any are skipped
+ * without being read or parsed.
+ *
+ * Runs are incremental: the content hashes of the files and methods that were parsed are kept
+ * in a {@link FlowchartCache} in the output directory, and on the next run, unchanged files are
+ * skipped without being parsed, and only the changed methods of changed Java files are translated
+ * and written (files in other languages are translated as a whole). Deleting the output directory
+ * therefore forces a full rebuild. Instead of the whole tree, {@link #update(Collection)} parses
+ * just the given files, e.g., those a {@link WatchDaemon} saw change.
+ *
+ * Flowcharts can also (or instead) be rendered to Graphviz DOT files next to the OWL files,
+ * or written to a {@link FlowchartArchive} per source file ({@code a/Demo/flowcharts.cvf}),
+ * which is rewritten with the flowcharts of the unchanged methods carried over;
+ * the hashes cover the output formats and the version of the output encoding, so changing either
+ * regenerates every output.
+ * With an archive, the flowcharts of changed methods are also compared to their archived
+ * versions (see {@link Flowchart#isIdenticalTo}), and their DOT and OWL files are only rewritten
+ * if their flowcharts changed, down to the numbering of their nodes, e.g., not for edits to code
+ * that no Codeviz comment describes, or if they were last written in other formats.
+ *
+ * Optionally, a {@link FlowchartIndex} of every flowchart in the tree, and of the methods their
+ * processes call, is kept in the output directory, e.g., to render a flowchart together with
+ * those of its callees; it is updated with each file parsed and saved at the end of each run.
+ */
+public class BatchParser {
+
+  private static final String JAVA_EXTENSION = ".java";
+
+  /** Renders the flowcharts to DOT files. */
+  private static final String DOT_OPTION = "--dot";
+
+  /** Writes the flowcharts to OWL files, which is the default unless another format is given. */
+  private static final String OWL_OPTION = "--owl";
+
+  /** Writes the flowcharts of each source file to a {@link FlowchartArchive}. */
+  private static final String BINARY_OPTION = "--binary";
+
+  /** Keeps a {@link FlowchartIndex} of the whole tree. */
+  private static final String INDEX_OPTION = "--index";
+
+  /**
+   * Matches the names of the output files of any format, which includes the OWL files written in
+   * RDF Thrift and the images rendered from the DOT files in whatever format was chosen, so any
+   * file with an extension; hidden files, such as caches, are not outputs.
+   */
+  private static final String OUTPUT_FILE_GLOB = "[!.]*.*";
+
+  /** Separates the source file from the method signature in the cache keys of methods. */
+  private static final String METHOD_KEY_SEPARATOR = "::";
+
+  private final Path sourceRoot;
+  private final Path outputRoot;
+  private final int threadCount;
+  private final boolean writeDot;
+  private final boolean writeOwl;
+  private final boolean writeBinary;
+
+  /** The index of the whole tree, or null if none is kept. */
+  private final FlowchartIndex index;
+
+  /**
+   * Distinguishes the hashes of outputs in formats other than the default, OWL only, and of those
+   * written by other versions of the output encoding.
+   */
+  private final String outputFormatTag;
+
+  private final FlowchartParser parser = new FlowchartParser();
+  private final FlowchartCache cache;
+  private final Set<String> seenSourceKeys = ConcurrentHashMap.newKeySet();
+  private final Set<String> reparsedSourceKeys = ConcurrentHashMap.newKeySet();
+  private final Set<String> liveMethodKeys = ConcurrentHashMap.newKeySet();
+
+  private final AtomicInteger fileCount = new AtomicInteger();
+  private final AtomicInteger unchangedFileCount = new AtomicInteger();
+  private final AtomicInteger unannotatedFileCount = new AtomicInteger();
+  private final AtomicInteger methodCount = new AtomicInteger();
+  private final AtomicInteger failureCount = new AtomicInteger();
+
+  public BatchParser(Path sourceRoot, Path outputRoot, Options options) throws IOException {
+    checkArgument(
+        options.writeDot || options.writeOwl || options.writeBinary,
+        "At least one output format is required");
+    this.sourceRoot = sourceRoot;
+    this.outputRoot = outputRoot;
+    this.threadCount = options.threadCount;
+    this.writeDot = options.writeDot;
+    this.writeOwl = options.writeOwl;
+    this.writeBinary = options.writeBinary;
+    this.outputFormatTag =
+        "v"
+            + FlowchartCache.OUTPUT_VERSION
+            + (writeDot ? "+dot" : "")
+            + (writeOwl ? "" : "-owl")
+            + (writeBinary ? "+cvf" : "")
+            + (options.writeIndex ? "+index" : "");
+    this.cache = FlowchartCache.load(outputRoot);
+    this.index = options.writeIndex ? FlowchartIndex.load(outputRoot) : null;
+  }
+
+  /**
+   * The settings of a {@link BatchParser}, which by default writes OWL files only, on a worker
+   * thread per available processor.
+   */
+  public static final class Options {
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+    private boolean writeDot = false;
+    private boolean writeOwl = true;
+    private boolean writeBinary = false;
+    private boolean writeIndex = false;
+
+    /**
+     * Reads the output formats of {@link BatchParser#main} from {@code args}, removing them, so
+     * only the positional arguments are left.
+     */
+    static Options removeFrom(List<String> args) {
+      boolean writeDot = args.remove(DOT_OPTION);
+      boolean writeBinary = args.remove(BINARY_OPTION);
+      return new Options()
+          .writeDot(writeDot)
+          .writeBinary(writeBinary)
+          .writeOwl(args.remove(OWL_OPTION) || !(writeDot || writeBinary))
+          .writeIndex(args.remove(INDEX_OPTION));
+    }
+
+    /** Sets how many files are parsed at once. */
+    public Options threadCount(int threadCount) {
+      checkArgument(threadCount > 0, "The thread count must be positive: %s", threadCount);
+      this.threadCount = threadCount;
+      return this;
+    }
+
+    /** Sets whether to render each flowchart to a Graphviz DOT file. */
+    public Options writeDot(boolean writeDot) {
+      this.writeDot = writeDot;
+      return this;
+    }
+
+    /** Sets whether to write each flowchart to an OWL file. */
+    public Options writeOwl(boolean writeOwl) {
+      this.writeOwl = writeOwl;
+      return this;
+    }
+
+    /** Sets whether to write the flowcharts of each source file to an archive. */
+    public Options writeBinary(boolean writeBinary) {
+      this.writeBinary = writeBinary;
+      return this;
+    }
+
+    /** Sets whether to keep a {@link FlowchartIndex} of the whole tree. */
+    public Options writeIndex(boolean writeIndex) {
+      this.writeIndex = writeIndex;
+      return this;
+    }
+  }
+
+  /**
+   * Usage: {@code [--dot] [--binary] [--owl] [--index] [--metrics <metrics file>]
+   * <source directory> [<output directory>] [<thread count>]}.
+   *
+   * The output directory defaults to {@code out},
+   * and the thread count to the number of available processors.
+   * OWL files are written unless {@code --dot} or {@code --binary} is given without
+   * {@code --owl}.
+   * With {@code --index}, a {@link FlowchartIndex} of the tree is kept in the output directory.
+   * With {@code --metrics}, the time and memory each stage takes on each file are recorded
+   * (see {@link Metrics}).
+   */
+  public static void main(String[] args) throws IOException {
+    List<String> arguments = new ArrayList<>(Arrays.asList(args));
+    Metrics.enableFromOptions(arguments);
+    Options options = Options.removeFrom(arguments);
+    args = arguments.toArray(new String[0]);
+
+    Path sourceRoot = Paths.get(args[0]);
+    Path outputRoot = Paths.get(args.length > 1 ? args[1] : "out");
+    if (args.length > 2) {
+      options.threadCount(Integer.parseInt(args[2]));
+    }
+
+    new BatchParser(sourceRoot, outputRoot, options).run();
+  }
+
+  /** Parses the whole source tree, then reports the aggregate throughput. */
+  public void run() throws IOException {
+    long startTime = System.nanoTime();
+    resetCounts();
+
+    //$ Parse every source file in the tree that there is a parser for
+    try (Stream<Path> files = Files.walk(sourceRoot)) {
+      parseFiles(files.filter(file -> Parsers.supports(file) && Files.isRegularFile(file)));
+    }
+
+    //$ Save the hashes (and the index) for the next run, forgetting the files that were not seen
+    pruneCache(true);
+    cache.save();
+    if (index != null) {
+      index.save();
+    }
+
+    //X Report the aggregate throughput
+    report(startTime);
+  }
+
+  /**
+   * Parses just {@code sourceFiles} within the source tree, then reports the aggregate
+   * throughput. The outputs of those that no longer exist are removed, as are those of the files
+   * within them if they were directories.
+   */
+  public void update(Collection<Path> sourceFiles) throws IOException {
+    long startTime = System.nanoTime();
+    resetCounts();
+
+    //$ Remove the outputs of the files that were deleted
+    List<Path> existingFiles = new ArrayList<>();
+    for (Path sourceFile : sourceFiles) {
+      if (Files.exists(sourceFile)) {
+        if (Parsers.supports(sourceFile) && Files.isRegularFile(sourceFile)) {
+          existingFiles.add(sourceFile);
+        }
+      } else {
+        removeSourceFiles(sourceRoot.relativize(sourceFile).toString());
+      }
+    }
+
+    //$ Parse the others
+    parseFiles(existingFiles.stream());
+
+    //$ Save the hashes (and the index) for the next update
+    pruneCache(false);
+    cache.save();
+    if (index != null) {
+      index.save();
+    }
+
+    //X Report the aggregate throughput
+    report(startTime);
+  }
+
+  /** Parses {@code sourceFiles} on a pool of worker threads, waiting for them to finish. */
+  private void parseFiles(Stream<Path> sourceFiles) {
+    ExecutorService workers = Executors.newFixedThreadPool(threadCount);
+
+    //$ Queue every source file
+    try {
+      sourceFiles.forEach(file -> workers.execute(() -> parseFile(file)));
+    } finally {
+      workers.shutdown();
+    }
+
+    //X Wait for the workers to drain the queue
+    try {
+      workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      workers.shutdownNow();
+    }
+  }
+
+  private void resetCounts() {
+    seenSourceKeys.clear();
+    reparsedSourceKeys.clear();
+    liveMethodKeys.clear();
+    fileCount.set(0);
+    unchangedFileCount.set(0);
+    unannotatedFileCount.set(0);
+    methodCount.set(0);
+    failureCount.set(0);
+  }
+
+  private void report(long startTime) {
+    double seconds = (System.nanoTime() - startTime) / 1e9;
+    System.out.printf(
+        "Parsed %d files (%d unchanged, %d without Codeviz comments, %d failed) and %d methods"
+            + " in %.2f s: %.1f files/s, %.1f methods/s%n",
+        fileCount.get(),
+        unchangedFileCount.get(),
+        unannotatedFileCount.get(),
+        failureCount.get(),
+        methodCount.get(),
+        seconds,
+        fileCount.get() / seconds,
+        methodCount.get() / seconds);
+  }
+
+  @SuppressWarnings("try")
+  private void parseFile(Path sourceFile) {
+    fileCount.incrementAndGet();
+    String sourceKey = sourceRoot.relativize(sourceFile).toString();
+    seenSourceKeys.add(sourceKey);
+    Metrics.setCurrentFile(sourceKey);
+    try (Metrics.Stage stage = Metrics.start(Metrics.FILE)) {
+      //? Does the file have no Codeviz comments at all?
+      if (!mayContainFlowcharts(sourceFile)) {
+        //X Skip the file without reading or parsing it, removing any outputs it had
+        unannotatedFileCount.incrementAndGet();
+        reparsedSourceKeys.add(sourceKey);
+        cache.remove(sourceKey);
+        deleteOutputFiles(getOutputDirectory(sourceFile), fileName -> true);
+        if (index != null) {
+          index.remove(sourceKey);
+        }
+        return;
+      }
+
+      //$ Hash the source file
+      byte[] source = Files.readAllBytes(sourceFile);
+      String sourceHash = FlowchartCache.hash(source) + outputFormatTag;
+
+      //? Is the file unchanged since the last run?
+      if (cache.isUpToDate(sourceKey, sourceHash)) {
+        //X Skip the file
+        unchangedFileCount.incrementAndGet();
+        return;
+      }
+      reparsedSourceKeys.add(sourceKey);
+
+      Path outputDirectory = getOutputDirectory(sourceFile);
+
+      //? Is the file a Java file?
+      if (sourceKey.endsWith(JAVA_EXTENSION)) {
+        //$ Translate only the methods that changed
+        parseJavaFile(sourceKey, source, outputDirectory);
+      } else {
+        //$ Translate the whole file with the parser for its language
+        parseOtherFile(sourceKey, sourceFile, source, outputDirectory);
+      }
+
+      //X Record the hash the outputs were produced from
+      cache.update(sourceKey, sourceHash);
+    } catch (IOException
+        | com.github.javaparser.ParseException
+        | java.text.ParseException
+        | RuntimeException e) {
+      failureCount.incrementAndGet();
+      cache.remove(sourceKey);
+      System.out.println(sourceFile + ": " + e.getMessage());
+    } finally {
+      Metrics.setCurrentFile(null);
+    }
+  }
+
+  /**
+   * Decides whether {@code sourceFile} may contain Codeviz comments, according to the parser for
+   * its language. The file is scanned where it is memory-mapped, rather than read onto the heap.
+   */
+  private static boolean mayContainFlowcharts(Path sourceFile) throws IOException {
+    try (FileChannel channel = FileChannel.open(sourceFile, StandardOpenOption.READ)) {
+      return Parsers.forFile(sourceFile)
+          .get()
+          .mayContainFlowcharts(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Translates the methods of a Java file that changed since the last run,
+   * and writes their flowcharts to {@code outputDirectory}.
+   */
+  @SuppressWarnings("try")
+  private void parseJavaFile(String sourceKey, byte[] source, Path outputDirectory)
+      throws IOException, com.github.javaparser.ParseException, java.text.ParseException {
+
+    //$ Parse the Java file into a (GitHub) JavaParser AST
+    CompilationUnit javaAst;
+    try (Metrics.Stage stage = Metrics.start(Metrics.PARSE_SOURCE)) {
+      javaAst = com.github.javaparser.JavaParser.parse(new ByteArrayInputStream(source));
+    }
+    String packagePrefix = MethodCollector.getPackagePrefix(javaAst);
+
+    //$ Find the methods that changed since the last run
+    Map<String, BlockStmt> changedMethods = new LinkedHashMap<>();
+    Map<String, String> methodHashes = new HashMap<>();
+    Set<String> currentOutputFileNames = new HashSet<>();
+    Set<String> unchangedOutputFileNames = new HashSet<>();
+    Set<String> unchangedSignatures = new HashSet<>();
+    for (Map.Entry<String, BlockStmt> method : MethodCollector.collect(javaAst).entrySet()) {
+      String methodKey = sourceKey + METHOD_KEY_SEPARATOR + method.getKey();
+      String methodHash = FlowchartCache.hash(method.getValue().toString()) + outputFormatTag;
+      methodHashes.put(methodKey, methodHash);
+      liveMethodKeys.add(methodKey);
+      String outputFileName = getOutputFileBaseName(method.getKey(), packagePrefix);
+      currentOutputFileNames.add(outputFileName);
+      if (cache.isUpToDate(methodKey, methodHash)) {
+        unchangedOutputFileNames.add(outputFileName);
+        unchangedSignatures.add(method.getKey());
+      } else {
+        changedMethods.put(method.getKey(), method.getValue());
+      }
+    }
+
+    //$ Parse the changed methods to the flowchart abstract syntax, with their calls if indexed
+    Map<String, Flowchart> flowcharts;
+    Map<String, SetMultimap<Integer, String>> calls = index == null ? null : new HashMap<>();
+    try (Metrics.Stage stage = Metrics.start(Metrics.TRANSLATE)) {
+      flowcharts = parser.parse(changedMethods, calls);
+      for (Flowchart flowchart : flowcharts.values()) {
+        stage
+            .count(Metrics.METHODS, 1)
+            .count(Metrics.NODES, flowchart.size())
+            .count(Metrics.EDGES, flowchart.getEdgeCount());
+      }
+    }
+
+    //$ Remove the outputs of changed methods that no longer have top-level comments
+    Set<String> uncommentedOutputFileNames =
+        changedMethods
+            .keySet()
+            .stream()
+            .filter(signature -> !flowcharts.containsKey(signature))
+            .map(signature -> getOutputFileBaseName(signature, packagePrefix))
+            .collect(Collectors.toSet());
+
+    //$ Read the archived flowcharts of the methods that still exist
+    Map<String, Flowchart> archivedFlowcharts =
+        writeBinary
+            ? readArchivedFlowcharts(outputDirectory, currentOutputFileNames::contains)
+            : new HashMap<>();
+
+    //$ Find the changed methods whose outputs would be identical to their existing ones
+    Set<String> sameSignatures = new HashSet<>();
+    flowcharts.forEach(
+        (signature, flowchart) -> {
+          Flowchart archivedFlowchart =
+              archivedFlowcharts.get(getOutputFileBaseName(signature, packagePrefix));
+          String methodKey = sourceKey + METHOD_KEY_SEPARATOR + signature;
+          if (archivedFlowchart != null
+              && cache.getHashSuffix(methodKey).equals(Optional.of(outputFormatTag))
+              && archivedFlowchart.isIdenticalTo(flowchart)) {
+            sameSignatures.add(signature);
+          }
+        });
+
+    //$ Keep the archived flowcharts of the unchanged methods
+    archivedFlowcharts.keySet().retainAll(unchangedOutputFileNames);
+
+    //$ Remove the outputs of methods that no longer exist
+    deleteOutputFiles(
+        outputDirectory,
+        fileName ->
+            !currentOutputFileNames.contains(fileName)
+                || uncommentedOutputFileNames.contains(fileName));
+
+    //$ Write the output files to the mirrored location in the output tree
+    writeFlowcharts(flowcharts, packagePrefix, outputDirectory, archivedFlowcharts, sameSignatures);
+    methodCount.addAndGet(flowcharts.size());
+    if (index != null) {
+      index.update(sourceKey, flowcharts, calls, unchangedSignatures);
+    }
+
+    //X Record the hashes the outputs were produced from
+    methodHashes.forEach(cache::update);
+  }
+
+  /**
+   * Translates a file in another language with the {@link Parser} for the language,
+   * and writes its flowcharts to {@code outputDirectory}.
+   */
+  private void parseOtherFile(
+      String sourceKey, Path sourceFile, byte[] source, Path outputDirectory)
+      throws IOException, java.text.ParseException {
+
+    //$ Parse every annotated method to the flowchart abstract syntax
+    Map<String, Flowchart> flowcharts =
+        Parsers.forFile(sourceFile).get().parse(new ByteArrayInputStream(source));
+
+    //$ Remove the outputs of methods that no longer have flowcharts
+    Set<String> currentOutputFileNames =
+        flowcharts
+            .keySet()
+            .stream()
+            .map(signature -> getOutputFileBaseName(signature, ""))
+            .collect(Collectors.toSet());
+    deleteOutputFiles(outputDirectory, fileName -> !currentOutputFileNames.contains(fileName));
+
+    //X Write the output files to the mirrored location in the output tree
+    writeFlowcharts(
+        flowcharts, "", outputDirectory, Collections.emptyMap(), Collections.emptySet());
+    methodCount.addAndGet(flowcharts.size());
+    if (index != null) {
+      index.update(sourceKey, flowcharts, Collections.emptyMap(), Collections.emptySet());
+    }
+  }
+
+  /**
+   * Writes {@code flowcharts} to {@code outputDirectory} in every output format, archiving them
+   * together with {@code archivedFlowcharts}, which are named by their output files.
+   *
+   * @param sameSignatures The signatures of the flowcharts that are the same as those their
+   *      existing output files were written from, which are not written again.
+   */
+  private void writeFlowcharts(
+      Map<String, Flowchart> flowcharts,
+      String packagePrefix,
+      Path outputDirectory,
+      Map<String, Flowchart> archivedFlowcharts,
+      Set<String> sameSignatures)
+      throws IOException {
+
+    Map<String, Flowchart> changedFlowcharts =
+        Maps.filterKeys(flowcharts, signature -> !sameSignatures.contains(signature));
+    if (writeDot) {
+      JavaParser.renderFlowcharts(changedFlowcharts, packagePrefix, outputDirectory);
+    }
+    if (writeOwl) {
+      JavaParser.writeFlowcharts(changedFlowcharts, packagePrefix, outputDirectory);
+    }
+    if (writeBinary) {
+      Map<String, Flowchart> allFlowcharts = new LinkedHashMap<>(archivedFlowcharts);
+      flowcharts.forEach(
+          (signature, flowchart) ->
+              allFlowcharts.put(getOutputFileBaseName(signature, packagePrefix), flowchart));
+      JavaParser.writeArchive(allFlowcharts, "", outputDirectory);
+    }
+  }
+
+  /**
+   * Decodes the flowcharts in the archive in {@code outputDirectory}, if any, whose names match
+   * {@code isKept}.
+   */
+  @SuppressWarnings("try")
+  private static Map<String, Flowchart> readArchivedFlowcharts(
+      Path outputDirectory, Predicate<String> isKept) throws IOException {
+
+    Map<String, Flowchart> archivedFlowcharts = new LinkedHashMap<>();
+    Path archiveFile = outputDirectory.resolve(JavaParser.ARCHIVE_FILE_NAME);
+    if (Files.exists(archiveFile)) {
+      try (Metrics.Stage stage = Metrics.start(Metrics.READ_ARCHIVE)) {
+        FlowchartArchive archive = FlowchartArchive.open(archiveFile);
+        for (String name : archive.getNames()) {
+          if (isKept.test(name)) {
+            archivedFlowcharts.put(name, archive.get(name).get());
+          }
+        }
+      }
+    }
+    return archivedFlowcharts;
+  }
+
+  /**
+   * Forgets the cache entries of the files within the source tree at {@code sourceKey},
+   * which no longer exist, and of their methods, removing their outputs and index entries.
+   */
+  private void removeSourceFiles(String sourceKey) throws IOException {
+    String directoryPrefix = sourceKey + File.separator;
+    if (index != null) {
+      for (String indexedSourceKey : index.sourceKeys()) {
+        if (indexedSourceKey.equals(sourceKey) || indexedSourceKey.startsWith(directoryPrefix)) {
+          index.remove(indexedSourceKey);
+        }
+      }
+    }
+    for (String key : cache.keys()) {
+      int separatorIndex = key.indexOf(METHOD_KEY_SEPARATOR);
+      String keySourceKey = separatorIndex < 0 ? key : key.substring(0, separatorIndex);
+      if (keySourceKey.equals(sourceKey) || keySourceKey.startsWith(directoryPrefix)) {
+        if (separatorIndex < 0) {
+          deleteOutputFiles(getOutputDirectory(sourceRoot.resolve(key)), fileName -> true);
+        }
+        cache.remove(key);
+      }
+    }
+  }
+
+  /**
+   * Forgets the cache entries of methods that no longer exist in the files that were parsed,
+   * and if {@code pruneUnseenFiles}, of the files that were not seen (and their methods),
+   * removing the outputs and index entries of the latter.
+   */
+  private void pruneCache(boolean pruneUnseenFiles) throws IOException {
+    if (index != null && pruneUnseenFiles) {
+      for (String sourceKey : index.sourceKeys()) {
+        if (!seenSourceKeys.contains(sourceKey)) {
+          index.remove(sourceKey);
+        }
+      }
+    }
+    for (String key : cache.keys()) {
+      int separatorIndex = key.indexOf(METHOD_KEY_SEPARATOR);
+      String sourceKey = separatorIndex < 0 ? key : key.substring(0, separatorIndex);
+      if (!seenSourceKeys.contains(sourceKey)) {
+        if (!pruneUnseenFiles) {
+          continue;
+        }
+        if (separatorIndex < 0) {
+          deleteOutputFiles(getOutputDirectory(sourceRoot.resolve(sourceKey)), fileName -> true);
+        }
+        cache.remove(key);
+      } else if (separatorIndex >= 0
+          && reparsedSourceKeys.contains(sourceKey)
+          && !liveMethodKeys.contains(key)) {
+        cache.remove(key);
+      }
+    }
+  }
+
+  /**
+   * Deletes the output files directly within {@code outputDirectory} whose names, without their
+   * extensions, match.
+   */
+  private static void deleteOutputFiles(
+      Path outputDirectory, Predicate<String> fileBaseNameFilter) throws IOException {
+
+    if (!Files.isDirectory(outputDirectory)) {
+      return;
+    }
+    try (DirectoryStream<Path> outputFiles =
+        Files.newDirectoryStream(outputDirectory, OUTPUT_FILE_GLOB)) {
+      for (Path outputFile : outputFiles) {
+        String fileName = outputFile.getFileName().toString();
+        // The output directories of nested source directories are not output files
+        if (Files.isRegularFile(outputFile)
+            && fileBaseNameFilter.test(fileName.substring(0, fileName.lastIndexOf('.')))) {
+          Files.delete(outputFile);
+        }
+      }
+    }
+  }
+
+  /** Returns the name of the output files of the method with {@code signature}, sans extension. */
+  private static String getOutputFileBaseName(String signature, String packagePrefix) {
+    return JavaParser.getOutputFileName(signature, packagePrefix, "");
+  }
+
+  /** Returns the directory in the output tree that mirrors {@code sourceFile}. */
+  private Path getOutputDirectory(Path sourceFile) {
+    String relativePath = sourceRoot.relativize(sourceFile).toString();
+    return outputRoot.resolve(relativePath.substring(0, relativePath.lastIndexOf('.')));
+  }
+}
@@ -0,0 +1,63 @@
+package com.github.codeviz.flowchart.parsers;
+
+import com.github.codeviz.flowchart.model.FlowchartIndex;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects references to the methods and constructors called within an AST node, which a
+ * {@link FlowchartIndex} resolves to the flowcharts of a project (see
+ * {@link FlowchartIndex#callReference}).
+ *
+ * Without symbol resolution, a call is only known by its name and number of arguments, and by
+ * the type it is called on where that is written as a type name (e.g.,
+ * {@code Utilities.validate(a, b)}, or {@code new Demo()}); calls on other scopes, such as
+ * fields or variables, are unqualified.
+ */
+final class CallCollector extends VoidVisitorAdapter<Set<String>> {
+
+  /** Collectors hold no state, so one is shared. */
+  private static final CallCollector INSTANCE = new CallCollector();
+
+  /** Adds references to the methods and constructors called within {@code node} to the set. */
+  static void collect(Node node, Set<String> references) {
+    node.accept(INSTANCE, references);
+  }
+
+  @Override
+  public void visit(MethodCallExpr call, Set<String> references) {
+    references.add(
+        FlowchartIndex.callReference(
+            getTypeName(call.getScope()), call.getName(), getArity(call.getArgs())));
+    super.visit(call, references);
+  }
+
+  @Override
+  public void visit(ObjectCreationExpr creation, Set<String> references) {
+    references.add(
+        FlowchartIndex.callReference(
+            creation.getType().getName(), "<init>", getArity(creation.getArgs())));
+    super.visit(creation, references);
+  }
+
+  /** Returns the name of the type that {@code scope} names, or null if it is not a type name. */
+  private static String getTypeName(Expression scope) {
+    // By convention, only type names start with an upper-case letter
+    return scope instanceof NameExpr
+            && Character.isUpperCase(((NameExpr) scope).getName().charAt(0))
+        ? ((NameExpr) scope).getName()
+        : null;
+  }
+
+  private static int getArity(List<Expression> args) {
+    return args == null ? 0 : args.size();
+  }
+
+  private CallCollector() {}
+}
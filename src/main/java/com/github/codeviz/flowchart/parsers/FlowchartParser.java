@@ -0,0 +1,933 @@
+package com.github.codeviz.flowchart.parsers;
+
+import com.github.codeviz.flowchart.model.Flowchart;
+import com.github.codeviz.flowchart.model.NodeKind;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.comments.Comment;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.BreakStmt;
+import com.github.javaparser.ast.stmt.CatchClause;
+import com.github.javaparser.ast.stmt.ContinueStmt;
+import com.github.javaparser.ast.stmt.DoStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.ast.stmt.ForeachStmt;
+import com.github.javaparser.ast.stmt.IfStmt;
+import com.github.javaparser.ast.stmt.LabeledStmt;
+import com.github.javaparser.ast.stmt.ReturnStmt;
+import com.github.javaparser.ast.stmt.Statement;
+import com.github.javaparser.ast.stmt.SwitchEntryStmt;
+import com.github.javaparser.ast.stmt.SwitchStmt;
+import com.github.javaparser.ast.stmt.ThrowStmt;
+import com.github.javaparser.ast.stmt.TryStmt;
+import com.github.javaparser.ast.stmt.WhileStmt;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.SetMultimap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+
+/**
+ * Translates the Codeviz comments of (GitHub) JavaParser ASTs into {@link Flowchart}s.
+ *
+ * A {@code ?} comment on an if, while, for, for-each, do-while, switch, or try statement
+ * (see {@link #parse(BlockStmt, Flowchart)}) is translated into one or more {@code Decision}s,
+ * whose branches are the top-level constructs of the statement's branches; loops flow back to
+ * their decisions, and the branches of a statement are joined by a {@code Connector}
+ * where control can leave more than one of them.
+ *
+ * Optionally, the methods that each {@code Process} calls are recorded too (see
+ * {@link CallCollector}): those called by the statements from its comment up to the next Codeviz
+ * comment of the same sequence, so a {@link com.github.codeviz.flowchart.model.FlowchartIndex}
+ * can link the process to their flowcharts.
+ *
+ * Parsers hold no state between calls, and every call builds new flowcharts,
+ * so a single parser may be shared by any number of threads.
+ */
+public final class FlowchartParser {
+
+  /**
+   * Parses every method, constructor, and block lambda of {@code javaAst}
+   * that has top-level Codeviz comments into a flowchart of its own.
+   *
+   * The AST is traversed once to find the methods, regardless of how many there are.
+   *
+   * @return The flowcharts keyed by the fully-qualified signatures of their methods
+   *    (see {@link MethodCollector}), in source order.
+   */
+  public Map<String, Flowchart> parse(CompilationUnit javaAst)
+      throws java.text.ParseException {
+
+    return parse(MethodCollector.collect(javaAst));
+  }
+
+  /**
+   * Parses each of the given method bodies that has top-level Codeviz comments
+   * into a flowchart of its own.
+   *
+   * @param methods Method bodies keyed by the signatures of their methods.
+   * @return The flowcharts keyed by the signatures of their methods, in iteration order.
+   */
+  public Map<String, Flowchart> parse(Map<String, BlockStmt> methods)
+      throws java.text.ParseException {
+
+    return parse(methods, null);
+  }
+
+  /**
+   * Parses each of the given method bodies that has top-level Codeviz comments
+   * into a flowchart of its own, recording the methods its processes call.
+   *
+   * @param methods Method bodies keyed by the signatures of their methods.
+   * @param calls Receives, for each flowchart whose processes call methods, the references to
+   *      those methods (see {@link CallCollector}) keyed by process node, under its signature;
+   *      or null if the calls are not wanted.
+   * @return The flowcharts keyed by the signatures of their methods, in iteration order.
+   */
+  public Map<String, Flowchart> parse(
+      Map<String, BlockStmt> methods, Map<String, SetMultimap<Integer, String>> calls)
+      throws java.text.ParseException {
+
+    Map<String, Flowchart> flowcharts = new LinkedHashMap<>();
+    for (Map.Entry<String, BlockStmt> method : methods.entrySet()) {
+      Flowchart flowchart = new Flowchart();
+      SetMultimap<Integer, String> methodCalls = calls == null ? null : LinkedHashMultimap.create();
+      if (parse(method.getValue(), flowchart, methodCalls).isPresent()) {
+        flowcharts.put(method.getKey(), flowchart);
+        if (calls != null && !methodCalls.isEmpty()) {
+          calls.put(method.getKey(), methodCalls);
+        }
+      }
+    }
+    return flowcharts;
+  }
+
+  /**
+   * Attempts to parse the given method body into the flowchart abstract syntax.
+   *
+   * Nested constructs are parsed with an explicit stack of the sequences being parsed rather than
+   * by recursion, so arbitrarily deep nesting (e.g., long {@code else if} chains) cannot
+   * overflow the call stack. Every top-level construct of a sequence is visited once.
+   *
+   * @param flowchart The flowchart to which the nodes are added.
+   * @return The number of the first flowchart node of the resulting AST
+   *    (wrapped in an {@link OptionalInt}) if it exists; {@link OptionalInt#empty()} otherwise.
+   */
+  public OptionalInt parse(BlockStmt methodBody, Flowchart flowchart)
+      throws java.text.ParseException {
+
+    return parse(methodBody, flowchart, null);
+  }
+
+  /**
+   * Attempts to parse the given method body into the flowchart abstract syntax, as
+   * {@link #parse(BlockStmt, Flowchart)} does, recording the methods its processes call.
+   *
+   * @param calls Receives the references to the methods each process node calls
+   *      (see {@link CallCollector}), or null if they are not wanted.
+   */
+  public OptionalInt parse(
+      BlockStmt methodBody, Flowchart flowchart, SetMultimap<Integer, String> calls)
+      throws java.text.ParseException {
+
+    //$ Start with the top-level constructs of the method
+    Sequence method = new Sequence(methodBody.getChildrenNodes().iterator(), null);
+    Deque<Sequence> sequences = new ArrayDeque<>();
+    sequences.push(method);
+
+    //? Is there a sequence left to parse?
+    while (!sequences.isEmpty()) {
+      Sequence sequence = sequences.peek();
+
+      //? Can we flow beyond the innermost sequence so far, and does it have another construct?
+      if (sequence.canFlowOn(flowchart) && sequence.nodes.hasNext()) {
+        //$ Attempt to parse a comment of the construct,
+        //> descending into the construct if it is a compound statement
+        Node node = sequence.nodes.next();
+        Optional<Comment> comment = getComment(node, sequence.attributedComments);
+        Optional<Sequence> branch =
+            comment.isPresent()
+                ? parseComment(comment.get(), node, sequence, flowchart)
+                : Optional.empty();
+        if (branch.isPresent()) {
+          sequences.push(branch.get());
+        } else if (calls != null
+            && sequence.exit != Flowchart.NONE
+            && flowchart.getKind(sequence.exit) == NodeKind.PROCESS) {
+          // The statements after a process comment are those the process describes
+          CallCollector.collect(node, calls.get(sequence.exit));
+        }
+        continue;
+      }
+
+      //$ Finish the sequence, moving on to the next branch of its construct if there is one
+      sequences.pop();
+      if (sequence.construct != null) {
+        sequence.construct.finish(sequence, flowchart).ifPresent(sequences::push);
+      }
+    }
+
+    //X Return the first flowchart node, if any
+    return method.entry == Flowchart.NONE ? OptionalInt.empty() : OptionalInt.of(method.entry);
+  }
+
+  /**
+   * Returns the {@link Comment} (wrapped in an {@link Optional}) associated with {@code node}
+   *    (potentially itself) if one exists; {@link Optional#empty()} otherwise.
+   *
+   * @param attributedComments The comments attributed to nodes by the parser rather than by
+   *      (GitHub) JavaParser.
+   */
+  private static Optional<Comment> getComment(Node node, Map<Node, Comment> attributedComments) {
+    Comment comment = null;
+    if (node instanceof Comment) {
+      comment = (Comment) node;
+    } else if (node.hasComment()) {
+      comment = node.getComment();
+    } else {
+      comment = attributedComments.get(node);
+    }
+    return Optional.ofNullable(comment);
+  }
+
+  /**
+   * Attempts to parse {@code comment} to an appropriate node of the flowchart abstract syntax,
+   * and if successfully parsed, appends the new node to {@code sequence}.
+   *
+   * @param commentedNode The construct of the sequence that {@code comment} describes, or the
+   *      comment itself if it stands alone.
+   * @return The first branch of the compound statement (wrapped in an {@link Optional}) if
+   *    {@code comment} is parsed to one, which must be parsed next;
+   *    {@link Optional#empty()} otherwise.
+   */
+  private static Optional<Sequence> parseComment(
+      Comment comment, Node commentedNode, Sequence sequence, Flowchart flowchart)
+      throws java.text.ParseException {
+
+    String commentStr = comment.getContent();
+    switch (commentStr.charAt(0)) {
+      case '$':
+        sequence.append(
+            flowchart, flowchart.addNode(NodeKind.PROCESS, commentStr.substring(1).trim()));
+        return Optional.empty();
+      case '?':
+        return parseCompound(comment, commentedNode, sequence, flowchart);
+      case 'X':
+        sequence.append(
+            flowchart, flowchart.addNode(NodeKind.TERMINAL, commentStr.substring(1).trim()));
+        return Optional.empty();
+      default:
+        // Not a Codeviz comment
+        return Optional.empty();
+    }
+  }
+
+  /**
+   * Attempts to parse {@code comment} to the {@code Decision}s of a conditional, loop, switch,
+   * or try statement, and if successfully parsed, appends them to {@code sequence}.
+   *
+   * @param commentedNode The construct that {@code comment} describes.
+   * @return The first branch of the statement (wrapped in an {@link Optional}) if successfully
+   *    parsed and it has one; {@link Optional#empty()} otherwise.
+   */
+  private static Optional<Sequence> parseCompound(
+      Comment comment, Node commentedNode, Sequence sequence, Flowchart flowchart)
+      throws java.text.ParseException {
+
+    String text = comment.getContent().substring(1).trim();
+
+    // Labels (e.g., of loops that are broken out of) do not affect the flow of their statements
+    while (commentedNode instanceof LabeledStmt) {
+      commentedNode = ((LabeledStmt) commentedNode).getStmt();
+    }
+
+    //? Is the statement one with branches?
+    Construct construct;
+    if (commentedNode instanceof IfStmt) {
+      construct = new Conditional(sequence, text, (IfStmt) commentedNode);
+    } else if (commentedNode instanceof WhileStmt) {
+      construct = new Loop(sequence, text, ((WhileStmt) commentedNode).getBody());
+    } else if (commentedNode instanceof ForStmt) {
+      construct = new Loop(sequence, text, ((ForStmt) commentedNode).getBody());
+    } else if (commentedNode instanceof ForeachStmt) {
+      construct = new Loop(sequence, text, ((ForeachStmt) commentedNode).getBody());
+    } else if (commentedNode instanceof DoStmt) {
+      construct = new DoLoop(sequence, text, ((DoStmt) commentedNode).getBody());
+    } else if (commentedNode instanceof SwitchStmt) {
+      construct = new Switch(sequence, text, (SwitchStmt) commentedNode);
+    } else if (commentedNode instanceof TryStmt) {
+      construct = new Try(sequence, text, (TryStmt) commentedNode);
+    } else {
+      //X Indicate failure to parse the statement to nodes in the flowchart abstract syntax
+      return Optional.empty();
+    }
+
+    //X Add the nodes that precede its branches, and continue with its first branch
+    return construct.start(flowchart);
+  }
+
+  /**
+   * Joins the paths by which control leaves a construct, i.e., the nodes of {@code openNodes},
+   * which must satisfy {@link Flowchart#hasSingleExit(int)}, and the true branches of the
+   * decisions of {@code openDecisions}, which are yet to be set.
+   *
+   * @return The only open node if it is the only path, a new {@code Connector} that every path
+   *    flows to if there are several, or {@code fallback} if there are none.
+   */
+  private static int join(
+      List<Integer> openNodes, List<Integer> openDecisions, int fallback, Flowchart flowchart) {
+
+    if (openNodes.isEmpty() && openDecisions.isEmpty()) {
+      return fallback;
+    }
+    if (openNodes.size() == 1 && openDecisions.isEmpty()) {
+      return openNodes.get(0);
+    }
+    int connectorNode = flowchart.addNode(NodeKind.CONNECTOR, null);
+    for (int node : openNodes) {
+      setNextNode(flowchart, node, connectorNode);
+    }
+    for (int decisionNode : openDecisions) {
+      flowchart.setTrueBranch(decisionNode, connectorNode);
+    }
+    return connectorNode;
+  }
+
+  /** Decides whether control can leave {@code node}, which may be {@link Flowchart#NONE}. */
+  private static boolean flowsOn(Flowchart flowchart, int node) {
+    return node != Flowchart.NONE && flowchart.hasSingleExit(node);
+  }
+
+  /** Returns the top-level constructs of a branch. */
+  private static Iterator<Node> getTopLevelNodes(Statement stmt) {
+    return stmt instanceof BlockStmt
+        ? ((BlockStmt) stmt).getChildrenNodes().iterator()
+        : Iterators.singletonIterator(stmt);
+  }
+
+  /** @param currentNode Must satisfy {@link Flowchart#hasSingleExit(int)}. */
+  private static void setNextNode(Flowchart flowchart, int currentNode, int nextNode) {
+    if (flowchart.getKind(currentNode).isSingleExitNode()) {
+      flowchart.setNextNode(currentNode, nextNode);
+    } else {
+      flowchart.setFalseBranch(currentNode, nextNode);
+    }
+  }
+
+  /** A method body or branch whose top-level constructs are being parsed in order. */
+  private static final class Sequence {
+    final Iterator<Node> nodes;
+
+    /** The construct of which the sequence is a branch, or null for a method body. */
+    final Construct construct;
+
+    /** The first flowchart node of the sequence so far, or {@link Flowchart#NONE}. */
+    int entry = Flowchart.NONE;
+
+    /** The node from which control leaves the sequence so far, or {@link Flowchart#NONE}. */
+    int exit = Flowchart.NONE;
+
+    /**
+     * The comments attributed to nodes of the method by the parser (see
+     * {@link Try#attributeComments}), which every sequence of the method shares.
+     */
+    final Map<Node, Comment> attributedComments;
+
+    Sequence(Iterator<Node> nodes, Construct construct) {
+      this.nodes = nodes;
+      this.construct = construct;
+      this.attributedComments =
+          construct == null ? new IdentityHashMap<>() : construct.sequence.attributedComments;
+    }
+
+    /** Decides whether control can flow from the sequence so far to another node. */
+    boolean canFlowOn(Flowchart flowchart) {
+      return exit == Flowchart.NONE || flowchart.hasSingleExit(exit);
+    }
+
+    /** Appends {@code node} to the sequence, which must be able to flow on. */
+    void append(Flowchart flowchart, int node) {
+      if (entry == Flowchart.NONE) {
+        entry = node;
+      } else {
+        setNextNode(flowchart, exit, node);
+      }
+      exit = node;
+    }
+  }
+
+  /** A compound statement with a Codeviz comment, whose branches are parsed one after another. */
+  private abstract static class Construct {
+    /** The sequence the statement belongs to. */
+    final Sequence sequence;
+
+    /** The text of the statement's comment. */
+    final String text;
+
+    Construct(Sequence sequence, String text) {
+      this.sequence = sequence;
+      this.text = text;
+    }
+
+    /** Adds the nodes that precede the branches, and returns the first branch to parse, if any. */
+    abstract Optional<Sequence> start(Flowchart flowchart);
+
+    /**
+     * Connects the finished {@code branch}, and returns the next branch to parse, if any.
+     * After the last branch, the construct is joined, and the exit of {@link #sequence} is set
+     * to the node from which control leaves it.
+     */
+    abstract Optional<Sequence> finish(Sequence branch, Flowchart flowchart)
+        throws java.text.ParseException;
+  }
+
+  /** An if statement, whose else branch is optional. */
+  private static final class Conditional extends Construct {
+    final IfStmt ifStmt;
+    int decisionNode;
+
+    /** The node from which control leaves the true branch, once it is parsed. */
+    int lastTrueBranchNode = Flowchart.NONE;
+
+    Conditional(Sequence sequence, String text, IfStmt ifStmt) {
+      super(sequence, text);
+      this.ifStmt = ifStmt;
+    }
+
+    @Override
+    Optional<Sequence> start(Flowchart flowchart) {
+      decisionNode = flowchart.addNode(NodeKind.DECISION, text);
+      sequence.append(flowchart, decisionNode);
+      return Optional.of(new Sequence(getTopLevelNodes(ifStmt.getThenStmt()), this));
+    }
+
+    @Override
+    Optional<Sequence> finish(Sequence branch, Flowchart flowchart)
+        throws java.text.ParseException {
+
+      //? Is the branch the false branch?
+      if (lastTrueBranchNode != Flowchart.NONE) {
+        if (branch.entry != Flowchart.NONE) {
+          flowchart.setFalseBranch(decisionNode, branch.entry);
+        }
+        //X Join the branches
+        join(branch.exit, flowchart);
+        return Optional.empty();
+      }
+
+      //$ Connect the true branch, which must not be empty
+      if (branch.entry == Flowchart.NONE) {
+        throw new java.text.ParseException(
+            "No comments within indicated if statement.", ifStmt.getThenStmt().getBeginLine());
+      }
+      flowchart.setTrueBranch(decisionNode, branch.entry);
+      lastTrueBranchNode = branch.exit;
+
+      //? No false branch?
+      if (ifStmt.getElseStmt() == null) {
+        //X Join the true branch with the decision
+        join(Flowchart.NONE, flowchart);
+        return Optional.empty();
+      }
+
+      //X Continue with the false branch
+      return Optional.of(new Sequence(getTopLevelNodes(ifStmt.getElseStmt()), this));
+    }
+
+    /**
+     * @param lastFalseBranchNode The last node of the false branch, or {@link Flowchart#NONE}
+     *      if it is empty.
+     */
+    private void join(int lastFalseBranchNode, Flowchart flowchart) {
+      List<Integer> openNodes = new ArrayList<>(2);
+      if (flowchart.hasSingleExit(lastTrueBranchNode)) {
+        openNodes.add(lastTrueBranchNode);
+      }
+      // Without an else branch, the decision itself flows on if false
+      int falseNode =
+          lastFalseBranchNode == Flowchart.NONE ? decisionNode : lastFalseBranchNode;
+      if (flowchart.hasSingleExit(falseNode)) {
+        openNodes.add(falseNode);
+      }
+      sequence.exit =
+          FlowchartParser.join(openNodes, Collections.emptyList(), decisionNode, flowchart);
+    }
+  }
+
+  /**
+   * A while, for, or for-each loop: the decision's true branch is the body, which flows back to
+   * the decision, and its false branch leaves the loop.
+   */
+  private static final class Loop extends Construct {
+    final Statement body;
+    int decisionNode;
+
+    Loop(Sequence sequence, String text, Statement body) {
+      super(sequence, text);
+      this.body = body;
+    }
+
+    @Override
+    Optional<Sequence> start(Flowchart flowchart) {
+      decisionNode = flowchart.addNode(NodeKind.DECISION, text);
+      sequence.append(flowchart, decisionNode);
+      return Optional.of(new Sequence(getTopLevelNodes(body), this));
+    }
+
+    @Override
+    Optional<Sequence> finish(Sequence branch, Flowchart flowchart)
+        throws java.text.ParseException {
+
+      if (branch.entry == Flowchart.NONE) {
+        throw new java.text.ParseException(
+            "No comments within indicated loop.", body.getBeginLine());
+      }
+      flowchart.setTrueBranch(decisionNode, branch.entry);
+      if (flowsOn(flowchart, branch.exit)) {
+        setNextNode(flowchart, branch.exit, decisionNode);
+      }
+      // The decision remains the exit of the sequence, and is left when false
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * A do-while loop: the body comes first, and flows to the decision,
+   * whose true branch flows back to the body.
+   */
+  private static final class DoLoop extends Construct {
+    final Statement body;
+
+    DoLoop(Sequence sequence, String text, Statement body) {
+      super(sequence, text);
+      this.body = body;
+    }
+
+    @Override
+    Optional<Sequence> start(Flowchart flowchart) {
+      return Optional.of(new Sequence(getTopLevelNodes(body), this));
+    }
+
+    @Override
+    Optional<Sequence> finish(Sequence branch, Flowchart flowchart)
+        throws java.text.ParseException {
+
+      if (branch.entry == Flowchart.NONE) {
+        throw new java.text.ParseException(
+            "No comments within indicated loop.", body.getBeginLine());
+      }
+      sequence.append(flowchart, branch.entry);
+      sequence.exit = branch.exit;
+
+      // The condition is only reached if control can leave the body
+      if (flowsOn(flowchart, branch.exit)) {
+        int decisionNode = flowchart.addNode(NodeKind.DECISION, text);
+        setNextNode(flowchart, branch.exit, decisionNode);
+        flowchart.setTrueBranch(decisionNode, branch.entry);
+        sequence.exit = decisionNode;
+      }
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * A switch statement: a chain of decisions, one per case, each of which flows to its case if
+   * true and to the next decision if false; the last flows to the default case, if there is one.
+   *
+   * Cases without statements are grouped with the next case (e.g., {@code case 1: case 2:}),
+   * and a case flows into the next one unless it ends with a break, continue, return, or throw.
+   */
+  private static final class Switch extends Construct {
+    /** The top-level constructs of each group of cases. */
+    final List<List<Node>> caseNodes = new ArrayList<>();
+
+    /** The labels of each group of cases, or null for the group with the default case. */
+    final List<String> caseLabels = new ArrayList<>();
+
+    final List<Boolean> fallsThrough = new ArrayList<>();
+
+    int[] decisionNodes;
+    int[] entries;
+    int[] exits;
+    int currentCase = -1;
+
+    Switch(Sequence sequence, String text, SwitchStmt switchStmt)
+        throws java.text.ParseException {
+
+      super(sequence, text);
+      if (switchStmt.getEntries() == null || switchStmt.getEntries().isEmpty()) {
+        throw new java.text.ParseException(
+            "No cases within indicated switch statement.", switchStmt.getBeginLine());
+      }
+
+      //$ Group the cases that share statements
+      List<String> labels = new ArrayList<>();
+      boolean isDefault = false;
+      List<SwitchEntryStmt> entries = switchStmt.getEntries();
+      for (int i = 0; i < entries.size(); i++) {
+        SwitchEntryStmt entry = entries.get(i);
+        if (entry.getLabel() == null) {
+          isDefault = true;
+        } else {
+          labels.add(entry.getLabel().toString());
+        }
+        List<Statement> stmts = entry.getStmts();
+        if ((stmts == null || stmts.isEmpty()) && i < entries.size() - 1) {
+          continue;
+        }
+
+        //$ Flatten the blocks of the group's statements
+        List<Node> nodes = new ArrayList<>();
+        for (Node node : entry.getChildrenNodes()) {
+          if (node == entry.getLabel()) {
+            continue;
+          }
+          if (node instanceof BlockStmt) {
+            nodes.addAll(node.getChildrenNodes());
+          } else {
+            nodes.add(node);
+          }
+        }
+        caseNodes.add(nodes);
+        caseLabels.add(isDefault ? null : String.join(", ", labels));
+        fallsThrough.add(stmts == null || !endsAbruptly(stmts.get(stmts.size() - 1)));
+        labels.clear();
+        isDefault = false;
+      }
+    }
+
+    @Override
+    Optional<Sequence> start(Flowchart flowchart) {
+      decisionNodes = new int[caseNodes.size()];
+      entries = new int[caseNodes.size()];
+      exits = new int[caseNodes.size()];
+
+      //$ Add every decision before any case, so that the first decision precedes the cases even
+      //> when the default case comes first
+      for (int i = 0; i < caseNodes.size(); i++) {
+        String labels = caseLabels.get(i);
+        decisionNodes[i] =
+            labels == null
+                ? Flowchart.NONE
+                : flowchart.addNode(NodeKind.DECISION, text + " (case " + labels + ")");
+      }
+      return nextCase(flowchart);
+    }
+
+    @Override
+    Optional<Sequence> finish(Sequence branch, Flowchart flowchart) {
+      entries[currentCase] = branch.entry;
+      exits[currentCase] = branch.exit;
+      return nextCase(flowchart);
+    }
+
+    /** Returns the statements of the next group of cases to parse, if any. */
+    private Optional<Sequence> nextCase(Flowchart flowchart) {
+      currentCase++;
+      if (currentCase == caseNodes.size()) {
+        join(flowchart);
+        return Optional.empty();
+      }
+      return Optional.of(new Sequence(caseNodes.get(currentCase).iterator(), this));
+    }
+
+    /** Chains the decisions, and connects the cases to them, to each other, and to the exit. */
+    private void join(Flowchart flowchart) {
+      int caseCount = caseNodes.size();
+
+      //? Is the default case the only one?
+      if (caseCount == 1 && decisionNodes[0] == Flowchart.NONE) {
+        //X Append it as is
+        if (entries[0] != Flowchart.NONE) {
+          sequence.append(flowchart, entries[0]);
+          sequence.exit = exits[0];
+        }
+        return;
+      }
+
+      //$ Find where control goes on entering each case, which is the exit for an empty case
+      //> that does not fall through to one that is not
+      int[] targets = new int[caseCount];
+      for (int i = caseCount - 1; i >= 0; i--) {
+        targets[i] =
+            entries[i] != Flowchart.NONE || !fallsThrough.get(i) || i == caseCount - 1
+                ? entries[i]
+                : targets[i + 1];
+      }
+
+      //$ Chain the decisions, each flowing to its case if true
+      List<Integer> openNodes = new ArrayList<>();
+      List<Integer> openDecisions = new ArrayList<>();
+      int firstDecisionNode = Flowchart.NONE;
+      int lastDecisionNode = Flowchart.NONE;
+      int defaultTarget = Flowchart.NONE;
+      for (int i = 0; i < caseCount; i++) {
+        int decisionNode = decisionNodes[i];
+        if (decisionNode == Flowchart.NONE) {
+          defaultTarget = targets[i];
+          continue;
+        }
+        if (lastDecisionNode == Flowchart.NONE) {
+          firstDecisionNode = decisionNode;
+        } else {
+          flowchart.setFalseBranch(lastDecisionNode, decisionNode);
+        }
+        if (targets[i] == Flowchart.NONE) {
+          openDecisions.add(decisionNode);
+        } else {
+          flowchart.setTrueBranch(decisionNode, targets[i]);
+        }
+        lastDecisionNode = decisionNode;
+      }
+
+      //$ Flow to the default case if no case matches, or else leave the switch, unless the last
+      //> decision already leaves it if true (i.e., its case is empty), which one edge shows
+      if (defaultTarget == Flowchart.NONE) {
+        if (!openDecisions.contains(lastDecisionNode)) {
+          openNodes.add(lastDecisionNode);
+        }
+      } else {
+        flowchart.setFalseBranch(lastDecisionNode, defaultTarget);
+      }
+
+      //$ Flow from each case into the next, or else leave the switch
+      for (int i = 0; i < caseCount; i++) {
+        if (!flowsOn(flowchart, exits[i])) {
+          continue;
+        }
+        if (fallsThrough.get(i) && i < caseCount - 1 && targets[i + 1] != Flowchart.NONE) {
+          setNextNode(flowchart, exits[i], targets[i + 1]);
+        } else {
+          openNodes.add(exits[i]);
+        }
+      }
+
+      //X Join the paths that leave the switch
+      sequence.append(flowchart, firstDecisionNode);
+      sequence.exit = FlowchartParser.join(openNodes, openDecisions, firstDecisionNode, flowchart);
+    }
+
+    /** Decides whether control cannot fall through {@code stmt} to the next statement. */
+    private static boolean endsAbruptly(Statement stmt) {
+      while (stmt instanceof BlockStmt) {
+        List<Statement> stmts = ((BlockStmt) stmt).getStmts();
+        if (stmts == null || stmts.isEmpty()) {
+          return false;
+        }
+        stmt = stmts.get(stmts.size() - 1);
+      }
+      return stmt instanceof BreakStmt
+          || stmt instanceof ContinueStmt
+          || stmt instanceof ReturnStmt
+          || stmt instanceof ThrowStmt;
+    }
+  }
+
+  /**
+   * A try statement: the decision's true branch is the try block, and its false branch the catch
+   * clauses, chained by a decision per caught type but the last; the finally block follows.
+   * Without catch clauses, the try and finally blocks are simply appended.
+   */
+  private static final class Try extends Construct {
+    final TryStmt tryStmt;
+    final List<CatchClause> catchClauses;
+
+    int decisionNode = Flowchart.NONE;
+
+    /** The try block, then each catch clause, and then the finally block. */
+    int currentBlock = 0;
+    final int[] catchDecisionNodes;
+    final int[] entries;
+    final int[] exits;
+
+    Try(Sequence sequence, String text, TryStmt tryStmt) {
+      super(sequence, text);
+      this.tryStmt = tryStmt;
+      this.catchClauses =
+          tryStmt.getCatchs() == null ? Collections.emptyList() : tryStmt.getCatchs();
+      this.catchDecisionNodes = new int[catchClauses.size()];
+      this.entries = new int[catchClauses.size() + 1];
+      this.exits = new int[catchClauses.size() + 1];
+    }
+
+    @Override
+    Optional<Sequence> start(Flowchart flowchart) {
+      if (!catchClauses.isEmpty()) {
+        decisionNode = flowchart.addNode(NodeKind.DECISION, text);
+        sequence.append(flowchart, decisionNode);
+      }
+      return Optional.of(new Sequence(getTopLevelNodes(tryStmt.getTryBlock()), this));
+    }
+
+    @Override
+    Optional<Sequence> finish(Sequence branch, Flowchart flowchart) {
+
+      //? Is the block the finally block?
+      if (currentBlock > catchClauses.size()) {
+        //X Append it
+        if (branch.entry != Flowchart.NONE) {
+          sequence.append(flowchart, branch.entry);
+          sequence.exit = branch.exit;
+        }
+        return Optional.empty();
+      }
+
+      entries[currentBlock] = branch.entry;
+      exits[currentBlock] = branch.exit;
+      currentBlock++;
+
+      //? Is there another catch clause?
+      if (currentBlock <= catchClauses.size()) {
+        //X Continue with it, adding its decision unless it is the last
+        CatchClause catchClause = catchClauses.get(currentBlock - 1);
+        if (currentBlock < catchClauses.size()) {
+          catchDecisionNodes[currentBlock - 1] =
+              flowchart.addNode(
+                  NodeKind.DECISION,
+                  catchClause
+                          .getExcept()
+                          .getTypes()
+                          .stream()
+                          .map(Object::toString)
+                          .collect(Collectors.joining(" or "))
+                      + "?");
+        }
+        attributeComments(catchClause, sequence.attributedComments);
+        return Optional.of(new Sequence(getTopLevelNodes(catchClause.getCatchBlock()), this));
+      }
+
+      //$ Join the try block and catch clauses
+      join(flowchart);
+
+      //? Is there a finally block that can be reached?
+      if (tryStmt.getFinallyBlock() == null || !sequence.canFlowOn(flowchart)) {
+        //X Finish
+        return Optional.empty();
+      }
+
+      //X Continue with the finally block
+      currentBlock++;
+      return Optional.of(new Sequence(getTopLevelNodes(tryStmt.getFinallyBlock()), this));
+    }
+
+    /**
+     * Attributes the comments within {@code catchClause} to the statements they precede, adding
+     * them to {@code attributedComments} rather than changing the AST, so it can be parsed again.
+     *
+     * (GitHub) JavaParser leaves every comment within a catch block as an orphan comment of the
+     * clause's parameter, so without this, the Codeviz comments of catch blocks would be lost.
+     */
+    private static void attributeComments(
+        CatchClause catchClause, Map<Node, Comment> attributedComments) {
+
+      List<Comment> orphanComments = catchClause.getExcept().getOrphanComments();
+      if (orphanComments.isEmpty()) {
+        return;
+      }
+
+      //$ List the statements within the block in order of position
+      List<Statement> stmts = new ArrayList<>();
+      Deque<Node> nodes = new ArrayDeque<>(catchClause.getCatchBlock().getChildrenNodes());
+      while (!nodes.isEmpty()) {
+        Node node = nodes.pop();
+        if (node instanceof Statement) {
+          stmts.add((Statement) node);
+        }
+        List<Node> children = node.getChildrenNodes();
+        for (int i = children.size() - 1; i >= 0; i--) {
+          nodes.push(children.get(i));
+        }
+      }
+
+      //X Attribute each comment to the first statement after it,
+      //> unless another comment comes between them
+      List<Comment> comments = new ArrayList<>(orphanComments);
+      comments.sort(
+          Comparator.comparingInt(Comment::getBeginLine).thenComparingInt(Comment::getBeginColumn));
+      int stmtIndex = 0;
+      for (int i = 0; i < comments.size(); i++) {
+        Comment comment = comments.get(i);
+        while (stmtIndex < stmts.size() && !follows(stmts.get(stmtIndex), comment)) {
+          stmtIndex++;
+        }
+        Statement stmt = stmtIndex < stmts.size() ? stmts.get(stmtIndex) : null;
+        if (stmt != null
+            && !stmt.hasComment()
+            && !attributedComments.containsKey(stmt)
+            && (i == comments.size() - 1 || !follows(stmt, comments.get(i + 1)))) {
+          attributedComments.put(stmt, comment);
+        }
+      }
+    }
+
+    /** Decides whether {@code node} begins after {@code comment} ends. */
+    private static boolean follows(Node node, Comment comment) {
+      return node.getBeginLine() > comment.getEndLine()
+          || (node.getBeginLine() == comment.getEndLine()
+              && node.getBeginColumn() > comment.getEndColumn());
+    }
+
+    private void join(Flowchart flowchart) {
+
+      //? Are there no catch clauses?
+      if (catchClauses.isEmpty()) {
+        //X Append the try block as is
+        if (entries[0] != Flowchart.NONE) {
+          sequence.append(flowchart, entries[0]);
+          sequence.exit = exits[0];
+        }
+        return;
+      }
+
+      List<Integer> openNodes = new ArrayList<>();
+      List<Integer> openDecisions = new ArrayList<>();
+
+      //$ Flow to the try block if true
+      if (entries[0] == Flowchart.NONE) {
+        openDecisions.add(decisionNode);
+      } else {
+        flowchart.setTrueBranch(decisionNode, entries[0]);
+      }
+      if (flowsOn(flowchart, exits[0])) {
+        openNodes.add(exits[0]);
+      }
+
+      //$ Flow to the catch clauses if false, through the decisions for their types
+      int lastDecisionNode = decisionNode;
+      for (int i = 0; i < catchClauses.size(); i++) {
+        int target = entries[i + 1];
+        if (i < catchClauses.size() - 1) {
+          int catchDecisionNode = catchDecisionNodes[i];
+          flowchart.setFalseBranch(lastDecisionNode, catchDecisionNode);
+          if (target == Flowchart.NONE) {
+            openDecisions.add(catchDecisionNode);
+          } else {
+            flowchart.setTrueBranch(catchDecisionNode, target);
+          }
+          lastDecisionNode = catchDecisionNode;
+        } else if (target == Flowchart.NONE) {
+          openNodes.add(lastDecisionNode);
+        } else {
+          flowchart.setFalseBranch(lastDecisionNode, target);
+        }
+        if (flowsOn(flowchart, exits[i + 1])) {
+          openNodes.add(exits[i + 1]);
+        }
+      }
+
+      //X Join the paths that leave the try statement
+      sequence.exit = FlowchartParser.join(openNodes, openDecisions, decisionNode, flowchart);
+    }
+  }
+}
@@ -1,410 +1,335 @@
 package com.github.codeviz.flowchart.parsers;
 
-import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.base.Preconditions.checkNotNull;
-
 import com.github.codeviz.flowchart.common.Constants;
-import com.github.codeviz.flowchart.common.Utilities;
-import com.github.javaparser.ast.CompilationUnit;
-import com.github.javaparser.ast.Node;
-import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
-import com.github.javaparser.ast.body.MethodDeclaration;
-import com.github.javaparser.ast.comments.Comment;
-import com.github.javaparser.ast.stmt.BlockStmt;
-import com.github.javaparser.ast.stmt.IfStmt;
-import com.github.javaparser.ast.stmt.Statement;
-import com.google.common.collect.Iterators;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import com.github.codeviz.flowchart.common.Metrics;
+import com.github.codeviz.flowchart.generators.DotRenderer;
+import com.github.codeviz.flowchart.model.Flowchart;
+import com.github.codeviz.flowchart.model.FlowchartArchive;
+import com.github.codeviz.flowchart.model.FlowchartSimplifier;
+import com.github.codeviz.flowchart.model.OwlConverter;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.util.Iterator;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import org.apache.jena.ontology.Individual;
-import org.apache.jena.ontology.OntClass;
-import org.apache.jena.ontology.OntModel;
-import org.apache.jena.ontology.OntProperty;
-import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.riot.RDFFormat;
 
 /**
- * Parses a Java file into the Codeviz OWL representation of a flowchart.
+ * Parses a source file into the Codeviz OWL representation of a flowchart.
  *
- * TODO: Optimize. Consider using a data structure to reduce/remove recursion.
- * Also consider creating a(n ideally language independent (via OWL?)) 'Parser' interface,
- * and removing the actual parsing logic from this class.
+ * Methods are first translated into {@link Flowchart}s by the {@link Parser} for the language of
+ * the file (see {@link Parsers}), and are only converted to OWL when they are written out.
+ * With {@code --dot}, the flowcharts are instead rendered straight to Graphviz DOT files in the
+ * same process, so no OWL is written or read back unless {@code --owl} is also given.
+ * With {@code --binary}, they are (also) written to a single {@link FlowchartArchive},
+ * which is far more compact and faster to load than OWL.
  */
 public class JavaParser {
 
-  private static final OntModel flowchartModel = Utilities.createFlowchartModel();
+  /** Renders the flowcharts directly to DOT files instead of OWL files. */
+  private static final String DOT_OPTION = "--dot";
 
-  public static void main(String[] args) throws IOException, java.text.ParseException {    
+  /** Writes the OWL files even when rendering DOT files. */
+  private static final String OWL_OPTION = "--owl";
 
-    //$ Parse the input Java file into a (GitHub) JavaParser AST
-    CompilationUnit javaAst = null;
-    try (FileInputStream inputFile = new FileInputStream(args[0] /* input file path */)) {
-      javaAst = com.github.javaparser.JavaParser.parse(inputFile);
-    } catch (IOException | com.github.javaparser.ParseException e) {
-      System.out.println(e.getMessage());
+  /** Writes the flowcharts to a {@link FlowchartArchive} instead of OWL files. */
+  private static final String BINARY_OPTION = "--binary";
+
+  /** Writes the OWL files in RDF Thrift rather than Turtle; implies {@code --owl}. */
+  private static final String THRIFT_OPTION = "--thrift";
+
+  /** Simplifies the flowcharts before rendering them (see {@link FlowchartSimplifier}). */
+  private static final String SIMPLIFY_OPTION = "--simplify";
+
+  /** Also folds straight runs of processes when simplifying; implies {@code --simplify}. */
+  private static final String FOLD_OPTION = "--fold";
+
+  /** Keeps the outputs of a source tree up to date as it changes (see {@link WatchDaemon}). */
+  private static final String WATCH_OPTION = "--watch";
+
+  /** Keeps an index of the flowcharts of a source tree (see {@link BatchParser}). */
+  private static final String INDEX_OPTION = "--index";
+
+  private static final String DOT_EXTENSION = ".dot";
+  private static final String OWL_EXTENSION = ".owl";
+
+  /** The name of the archive holding the flowcharts of a source file. */
+  static final String ARCHIVE_FILE_NAME = "flowcharts" + FlowchartArchive.EXTENSION;
+
+  /**
+   * Usage: {@code [--dot [--simplify] [--fold]] [--binary] [--owl] [--thrift] [--index] <input
+   * file or directory> [<output directory>]}, or {@code --watch [--dot] [--binary] [--owl]
+   * [--index] <directory> [<output directory>]}.
+   *
+   * The output directory defaults to {@code out}. OWL files are written unless another output
+   * format is chosen without {@code --owl}; with {@code --thrift}, they are encoded in RDF Thrift
+   * (as {@code .trdf} files) rather than Turtle, for single files only (it is rejected for
+   * directories). The archive written with {@code --binary} is named {@code flowcharts.cvf}.
+   * Directories are handled by {@link BatchParser}, or with {@code --watch}, by a
+   * {@link WatchDaemon}, which keep an index of the flowcharts of the tree with {@code --index}
+   * (which is rejected for single files). Simplification only applies to the rendered DOT files
+   * of a single file (it is rejected for directories), so the other outputs always hold the
+   * flowcharts as parsed. With {@code --metrics <metrics file>}, the time and memory each stage
+   * takes are recorded (see {@link Metrics}).
+   */
+  public static void main(String[] args)
+      throws IOException, java.text.ParseException, InterruptedException {
+
+    List<String> options = new ArrayList<>(Arrays.asList(args));
+    Metrics.enableFromOptions(options);
+    boolean watch = options.remove(WATCH_OPTION);
+    String[] treeArgs = options.toArray(new String[0]);
+    boolean toDot = options.remove(DOT_OPTION);
+    boolean toBinary = options.remove(BINARY_OPTION);
+    boolean toThrift = options.remove(THRIFT_OPTION);
+    boolean toOwl = options.remove(OWL_OPTION) || toThrift || !(toDot || toBinary);
+    boolean foldProcesses = options.remove(FOLD_OPTION);
+    boolean simplify = options.remove(SIMPLIFY_OPTION) || foldProcesses;
+    boolean index = options.remove(INDEX_OPTION);
+    args = options.toArray(new String[0]);
+
+    //? Is the input a source tree rather than a single file?
+    if (Files.isDirectory(Paths.get(args[0]))) {
+      //? Simplifying, which only applies to the DOT files of a single file?
+      if (simplify) {
+        //X Exit with an error message
+        System.out.println(
+            SIMPLIFY_OPTION + " and " + FOLD_OPTION + " only apply to a single input file.");
+        System.exit(1);
+      }
+
+      //? Writing RDF Thrift, which only applies to the OWL files of a single file?
+      if (toThrift) {
+        //X Exit with an error message
+        System.out.println(THRIFT_OPTION + " only applies to a single input file.");
+        System.exit(1);
+      }
+
+      //? Watching the tree?
+      if (watch) {
+        //X Keep the outputs of every source file in the tree up to date until interrupted
+        WatchDaemon.main(treeArgs);
+        return;
+      }
+      //X Parse every source file in the tree into the output directory
+      BatchParser.main(treeArgs);
+      return;
+    }
+
+    //? Indexing, which needs a source tree?
+    if (index) {
+      //X Exit with an error message
+      System.out.println(INDEX_OPTION + " needs a source directory rather than a single file.");
       System.exit(1);
     }
 
-    //$ Find the "main" method
-    String methodToParse = "main";
-    Optional<MethodDeclaration> mainMethod = getMethod(methodToParse, javaAst);
+    //$ Find the parser for the language of the input file
+    Path inputFile = Paths.get(args[0] /* input file path */);
+    Metrics.setCurrentFile(inputFile.toString());
+    Optional<Parser> parser = Parsers.forFile(inputFile);
 
-    //? No "main" method detected?
-    if (!mainMethod.isPresent()) {
+    //? No parser for the language?
+    if (!parser.isPresent()) {
       //X Exit with an error message
-      System.out.println("No \"" + methodToParse + "\" method detected in file.");
+      System.out.println("No parser for the language of " + inputFile + ".");
       System.exit(1);
     }
 
-    //$ Parse the method to the flowchart abstract syntax
-    Optional<Individual> abstractFlowchart = Optional.empty();
-    try {
-      abstractFlowchart = parse(mainMethod.get());
-    } catch (java.text.ParseException e) {
+    //$ Parse every annotated method to the flowchart abstract syntax
+    Map<String, Flowchart> flowcharts = Collections.emptyMap();
+    try (InputStream input = Files.newInputStream(inputFile)) {
+      flowcharts = parser.get().parse(input);
+    } catch (IOException | java.text.ParseException e) {
       System.out.println(e.getMessage());
       System.exit(1);
     }
 
-    //? No top-level comments in method?
-    if (!abstractFlowchart.isPresent()) {
+    //? No top-level comments in any method?
+    if (flowcharts.isEmpty()) {
       //X Exit with an error message
-      System.out.println("No top-level comments to parse in \"" + methodToParse + "\" method.");
+      System.out.println("No top-level comments to parse in any method.");
       System.exit(1);
     }
 
-    //$ Write the OWL file based on the flowchart AST
-    RDFDataMgr.write(
-        new FileOutputStream("out.owl"), flowchartModel.getBaseModel(), RDFFormat.TURTLE_BLOCKS);
-  }
+    Path outputDirectory =
+        Paths.get(args.length > 1 ? args[1] : "out" /* output directory path */);
 
-  /**
-   * Returns the {@link MethodDeclaration} (wrapped in an {@link Optional}) in {@code javaAst}
-   *    corresponding to the method with the specified {@code methodName}
-   *    --{@link Optional#empty()} if a method with the name does not exist.
-   */
-  public static Optional<MethodDeclaration> getMethod(String methodName, CompilationUnit javaAst) {
-    for (Node node : javaAst.getChildrenNodes()) {
-      if (node instanceof ClassOrInterfaceDeclaration) {
-        for (Node classMember : node.getChildrenNodes()) {
-          if (classMember instanceof MethodDeclaration) {
-            MethodDeclaration method = (MethodDeclaration) classMember;
-            if (method.getName().equals(methodName)) {
-              return Optional.of(method);
-            }
-          }
-        }
-      }
+    //? Rendering DOT files directly?
+    if (toDot) {
+      //$ Write a DOT file for each method's flowchart, simplified if desired
+      renderFlowcharts(
+          simplify ? simplifyFlowcharts(flowcharts, foldProcesses) : flowcharts,
+          "",
+          outputDirectory);
     }
-    return Optional.empty();
-  }
-
-  /**
-   * Attempts to parse the given {@link MethodDeclaration} into the flowchart abstract syntax.
-   *
-   * @return The {@link Individual} (wrapped in an {@link Optional})
-   *    representing the first flowchart node of the resulting AST if it exists;
-   *    {@link Optional#empty()} otherwise.
-   */
-  private static Optional<Individual> parse(MethodDeclaration method)
-      throws java.text.ParseException {
-
-    //$ Get the top-level constructs of the method
-    Iterator<Node> topLevelNodes = method.getBody().getChildrenNodes().iterator();
-
-    //$ Find the first top-level comment that parses to a node in the flowchart abstract syntax
-    Optional<Individual> firstFlowchartNode = findFlowchartNode(topLevelNodes, Optional.empty());
 
-    //? No such comment?
-    if (!firstFlowchartNode.isPresent()) {
-      //X Finish prematurely
-      return Optional.empty();
+    //? Writing an archive?
+    if (toBinary) {
+      //$ Write every method's flowchart to a single archive
+      writeArchive(flowcharts, "", outputDirectory);
     }
 
-    //% The flowchart node representing the found comment is saved
-    //> to return at the end of the function
-
-    Optional<Individual> currentNode = firstFlowchartNode;
-    Optional<Individual> nextNode;
-
-    //? Can we flow from the current node to another node,
-    //> and is there another appropriate top-level comment
-    //> that can be parsed to a node in the flowchart abstract syntax?
-    while (currentNode.filter(node -> hasSingleExit(node)).isPresent()
-        && (nextNode = findFlowchartNode(topLevelNodes, currentNode)).isPresent()) {
-      
-      //% The current node flows to the next node
-      //$ Set this new node as the current node
-      currentNode = nextNode;
+    //? Writing OWL files?
+    if (toOwl) {
+      //X Write an OWL file for each method's flowchart
+      writeFlowcharts(flowcharts, "", outputDirectory, toThrift);
     }
-
-    //X Return the first flowchart node
-    return firstFlowchartNode;
   }
 
   /**
-   * Searches {@code nodes} for the first comment that can be parsed
-   * into an {@link Individual} of the flowchart abstract syntax,
-   * and if found, causes the {@code currentNode} to flow to the new node.
-   *
-   * @param nodes The iterator over the top-level nodes of a Java construct
-   *      (e.g., method, if statement). The iterator is mutated as a side effect
-   *      of searching it.
-   * @param currentNode The node to which the found node is intended to flow.
-   *      If present, this node must satisfy {@link #hasSingleExit(FlowchartNode)}.
-   * @return The first {@link Individual} (wrapped in an {@link Optional})
-   *    of an appropriate {@link Comment} if one exists; {@link Optional#empty()} otherwise.
+   * Writes each of {@code flowcharts} to its own OWL file in {@code outputDirectory},
+   * named after its method's signature relative to {@code packagePrefix}.
    */
-  private static Optional<Individual> findFlowchartNode(
-      Iterator<Node> nodes, Optional<Individual> currentNode) throws java.text.ParseException {
-
-    //? Is there another node to consider?
-    while (nodes.hasNext()) {
-
-      //$ Attempt to extract a comment from the node
-      Optional<Comment> comment = getComment(nodes.next());
-
-      //? Failure?
-      if (!comment.isPresent()) {
-        continue;
-      }
+  static void writeFlowcharts(
+      Map<String, Flowchart> flowcharts, String packagePrefix, Path outputDirectory)
+      throws IOException {
 
-      //$ Attempt to parse the comment to a node in the flowchart abstract syntax
-      Optional<Individual> flowchartNode = parseComment(comment.get(), currentNode);
-
-      //? Success?
-      if (flowchartNode.isPresent()) {
-        //X Return the node
-        return flowchartNode;
-      }         
-    }
-
-    //X Indicate failure to find another comment that can be parsed
-    //> into a node in the flowchart abstract syntax
-    return Optional.empty();
+    writeFlowcharts(flowcharts, packagePrefix, outputDirectory, false);
   }
 
   /**
-   * Returns the {@link Comment} (wrapped in an {@link Optional}) associated with {@code node}
-   *    (potentially itself) if one exists; {@link Optional#empty()} otherwise.
+   * Writes each of {@code flowcharts} to its own OWL file in {@code outputDirectory},
+   * named after its method's signature relative to {@code packagePrefix}.
+   *
+   * @param thrift Whether to encode the files in RDF Thrift rather than Turtle.
    */
-  private static Optional<Comment> getComment(Node node) {
-    Comment comment = null;
-    if (node instanceof Comment) {
-      comment = (Comment) node;           
-    } else if (node.hasComment()) {
-      comment = node.getComment();
+  @SuppressWarnings("try")
+  static void writeFlowcharts(
+      Map<String, Flowchart> flowcharts,
+      String packagePrefix,
+      Path outputDirectory,
+      boolean thrift)
+      throws IOException {
+
+    RDFFormat format = thrift ? RDFFormat.RDF_THRIFT : RDFFormat.TURTLE_BLOCKS;
+    String extension = thrift ? Constants.THRIFT_EXTENSION : OWL_EXTENSION;
+    if (!flowcharts.isEmpty()) {
+      Files.createDirectories(outputDirectory);
+    }
+    for (Map.Entry<String, Flowchart> flowchart : flowcharts.entrySet()) {
+      try (Metrics.Stage stage = startStage(Metrics.WRITE_OWL, flowchart)) {
+        Path outputFile =
+            outputDirectory.resolve(
+                getOutputFileName(flowchart.getKey(), packagePrefix, extension));
+        try (OutputStream output =
+            new BufferedOutputStream(Files.newOutputStream(outputFile))) {
+          OwlConverter.writeOwl(flowchart.getValue(), flowchart.getKey(), format, output);
+        }
+      }
     }
-    return Optional.ofNullable(comment);
   }
 
   /**
-   * Attempts to parse {@code comment} to an appropriate {@link Individual}
-   * of the flowchart abstract syntax, and if successfully parsed,
-   * causes the {@code currentNode} to flow to the new node.
-   *
-   * @param currentNode The node to which the found node is intended to flow.
-   *      If present, this node must satisfy {@link #hasSingleExit(FlowchartNode)}.
-   * @return The {@link Individual} (wrapped in an {@link Optional})
-   *    representing {@code comment} if {@code comment} can be parsed to one; 
-   *    {@link Optional#empty()} otherwise.
+   * Writes {@code flowcharts} to the archive {@code flowcharts.cvf} in {@code outputDirectory},
+   * each named like its OWL file, without the extension, e.g., {@code Demo.main(String[])}.
    */
-  private static Optional<Individual> parseComment(
-      Comment comment, Optional<Individual> currentNode) throws java.text.ParseException {
-
-    Optional<Individual> flowchartNode;
-    String commentStr = comment.getContent();
-    switch (commentStr.charAt(0)) {
-      case '$':
-        Individual processNode = createFlowchartNode(Constants.PROCESS_LN);
-        setProperty(processNode, Constants.HAS_DESCRIPTION_LN, commentStr.substring(1).trim());
-        flowchartNode = Optional.of(processNode);
-        currentNode.ifPresent(node -> setNextNode(node, flowchartNode.get()));
-        break;
-      case '?':
-        flowchartNode = parseConditional(comment, currentNode);
-        break;
-      case 'X':
-        Individual terminalNode = createFlowchartNode(Constants.TERMINAL_LN);
-        setProperty(terminalNode, Constants.HAS_DESCRIPTION_LN, commentStr.substring(1).trim());
-        flowchartNode = Optional.of(terminalNode);
-        currentNode.ifPresent(node -> setNextNode(node, flowchartNode.get()));
-        break;
-      default:
-        // Not a Codeviz comment
-        flowchartNode = Optional.empty();
+  static void writeArchive(
+      Map<String, Flowchart> flowcharts, String packagePrefix, Path outputDirectory)
+      throws IOException {
+
+    if (flowcharts.isEmpty()) {
+      return;
+    }
+    try (Metrics.Stage stage = Metrics.start(Metrics.WRITE_ARCHIVE)) {
+      Map<String, Flowchart> namedFlowcharts = new LinkedHashMap<>();
+      for (Map.Entry<String, Flowchart> flowchart : flowcharts.entrySet()) {
+        namedFlowcharts.put(
+            getOutputFileName(flowchart.getKey(), packagePrefix, ""), flowchart.getValue());
+        stage
+            .count(Metrics.METHODS, 1)
+            .count(Metrics.NODES, flowchart.getValue().size())
+            .count(Metrics.EDGES, flowchart.getValue().getEdgeCount());
+      }
+      Files.createDirectories(outputDirectory);
+      FlowchartArchive.write(namedFlowcharts, outputDirectory.resolve(ARCHIVE_FILE_NAME));
     }
-    return flowchartNode;
   }
 
   /**
-   * Attempts to parse {@code comment} to an appropriate {@code Decision},
-   * and if successfully parsed, causes the {@code currentNode} to flow to the new node.
+   * Returns a simplified copy of each of {@code flowcharts}, reporting how much each shrank.
+   *
+   * @param foldProcesses Whether to fold each straight run of processes into one process.
    */
-  private static Optional<Individual> parseConditional(
-      Comment comment, Optional<Individual> currentNode) throws java.text.ParseException {
-
-    Node commentedNode = comment.getCommentedNode();
-
-    //? Is the conditional an if statement?
-    if (commentedNode instanceof IfStmt) {
-      Individual ifFlowchartNode = createFlowchartNode(Constants.DECISION_LN);
-      setProperty(
-        ifFlowchartNode, Constants.HAS_CONDITION_LN, comment.getContent().substring(1).trim());
-      currentNode.ifPresent(node -> setNextNode(node, ifFlowchartNode));
-      IfStmt ifStmt = (IfStmt) commentedNode;
-      Individual lastTrueBranchNode = parseTrueBranch(ifStmt.getThenStmt(), ifFlowchartNode);
-      Optional<Individual> lastFalseBranchNode =
-          parseFalseBranch(Optional.ofNullable(ifStmt.getElseStmt()), ifFlowchartNode);
-
-      if ((!lastFalseBranchNode.isPresent()
-              || lastFalseBranchNode.filter(node -> isTerminal(node)).isPresent())
-          && isTerminal(lastTrueBranchNode)) {
-        return Optional.of(ifFlowchartNode);
-      } else if (lastFalseBranchNode.filter(node -> isTerminal(node)).isPresent()
-          && hasSingleExit(lastTrueBranchNode)) {
-        return Optional.of(lastTrueBranchNode);
-      } else if (lastFalseBranchNode.filter(node -> hasSingleExit(node)).isPresent()
-          && isTerminal(lastTrueBranchNode)) {
-        return lastFalseBranchNode;
-      } else {
-        Individual connectorNode = createFlowchartNode(Constants.CONNECTOR_LN);
-        setNextNode(lastTrueBranchNode, connectorNode);
-        setNextNode(lastFalseBranchNode.get(), connectorNode);
-        return Optional.of(connectorNode);
+  @SuppressWarnings("try")
+  static Map<String, Flowchart> simplifyFlowcharts(
+      Map<String, Flowchart> flowcharts, boolean foldProcesses) {
+
+    Map<String, Flowchart> simplifiedFlowcharts = new LinkedHashMap<>();
+    for (Map.Entry<String, Flowchart> flowchart : flowcharts.entrySet()) {
+      Flowchart simplifiedFlowchart;
+      try (Metrics.Stage stage = startStage(Metrics.SIMPLIFY, flowchart)) {
+        simplifiedFlowchart = FlowchartSimplifier.simplify(flowchart.getValue(), foldProcesses);
       }
+      System.out.println(
+          flowchart.getKey()
+              + ": "
+              + FlowchartSimplifier.report(flowchart.getValue(), simplifiedFlowchart));
+      simplifiedFlowcharts.put(flowchart.getKey(), simplifiedFlowchart);
     }
-
-    //X Indicate failure to parse the conditional to nodes in the flowchart abstract syntax
-    return Optional.empty();
-  }
-
-  private static Individual parseTrueBranch(Statement stmt, Individual decisionNode)
-      throws java.text.ParseException {
-
-    checkArgument(
-        hasClass(decisionNode, Constants.DECISION_LN),
-        "Argument is of class %s, but expected Decision",
-        decisionNode.getOntClass(true).getLocalName());
-
-    //$ Get the top-level constructs of the true branch
-    Iterator<Node> topLevelNodes = stmt instanceof BlockStmt
-        ? ((BlockStmt) stmt).getChildrenNodes().iterator()
-        : Iterators.singletonIterator(stmt);
-
-    //$ Find the first top-level comment that parses to a node in the flowchart abstract syntax
-    Optional<Individual> firstFlowchartNode =
-        findFlowchartNode(topLevelNodes, Optional.empty());
-
-    setProperty(
-        decisionNode,
-        Constants.HAS_TRUE_BRANCH_LN,
-        firstFlowchartNode.orElseThrow(
-            () -> new java.text.ParseException(
-                "No comments within indicated if statement.", stmt.getBeginLine())));
-
-    return parseRestOfBranch(topLevelNodes, firstFlowchartNode.get());
+    return simplifiedFlowcharts;
   }
 
-  private static Optional<Individual> parseFalseBranch(
-      Optional<Statement> maybeStmt, Individual decisionNode) throws java.text.ParseException {
-
-    checkArgument(
-        hasClass(decisionNode, Constants.DECISION_LN),
-        "Argument is of class %s, but expected Decision",
-        decisionNode.getOntClass(true).getLocalName());
+  /**
+   * Renders each of {@code flowcharts} to its own Graphviz DOT file in {@code outputDirectory},
+   * named after its method's signature relative to {@code packagePrefix}.
+   */
+  @SuppressWarnings("try")
+  static void renderFlowcharts(
+      Map<String, Flowchart> flowcharts, String packagePrefix, Path outputDirectory)
+      throws IOException {
 
-    if (!maybeStmt.isPresent()) {
-      return Optional.empty();
+    if (!flowcharts.isEmpty()) {
+      Files.createDirectories(outputDirectory);
     }
-    Statement stmt = maybeStmt.get();
-
-    //$ Get the top-level constructs of the false branch
-    Iterator<Node> topLevelNodes = stmt instanceof BlockStmt
-        ? ((BlockStmt) stmt).getChildrenNodes().iterator()
-        : Iterators.singletonIterator(stmt);
-
-    //$ Find the first top-level comment that parses to a node in the flowchart abstract syntax
-    Optional<Individual> firstFlowchartNode = findFlowchartNode(topLevelNodes, Optional.empty());
-
-    //? No such comment?
-    if (!firstFlowchartNode.isPresent()) {
-      //X Finish prematurely
-      return Optional.empty();
+    DotRenderer renderer = new DotRenderer();
+    for (Map.Entry<String, Flowchart> flowchart : flowcharts.entrySet()) {
+      Path outputFile =
+          outputDirectory.resolve(
+              getOutputFileName(flowchart.getKey(), packagePrefix, DOT_EXTENSION));
+      try (Metrics.Stage stage = startStage(Metrics.RENDER_DOT, flowchart);
+          Writer output = Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8)) {
+        renderer.render(flowchart.getValue(), output);
+      }
     }
-
-    setProperty(decisionNode, Constants.HAS_FALSE_BRANCH_LN, firstFlowchartNode.get());
-    return Optional.of(parseRestOfBranch(topLevelNodes, firstFlowchartNode.get()));
   }
 
-  private static Individual parseRestOfBranch(Iterator<Node> nodes, Individual firstNode)
-      throws java.text.ParseException {
-
-    if (isTerminal(firstNode)) {
-      return firstNode;
-    }
-
-    Optional<Individual> currentNode = Optional.of(firstNode);
-    Optional<Individual> nextNode;
-
-    //? Is there another appropriate top-level comment?
-    while ((nextNode = findFlowchartNode(nodes, currentNode))
-        .filter(node -> hasSingleExit(node)).isPresent()) {
-      currentNode = nextNode;
+  /** Starts timing {@code stage} on the method's {@code flowchart}. */
+  private static Metrics.Stage startStage(String stage, Map.Entry<String, Flowchart> flowchart) {
+    Metrics.Stage startedStage = Metrics.start(stage).setMethod(flowchart.getKey());
+    if (Metrics.isEnabled()) {
+      startedStage
+          .count(Metrics.NODES, flowchart.getValue().size())
+          .count(Metrics.EDGES, flowchart.getValue().getEdgeCount());
     }
-
-    //X Return the last flowchart node
-    return currentNode.get();
-  }
-
-  /** @param currentNode Must satisfy {@link #hasSingleExit(Individual)}. */
-  private static void setNextNode(Individual currentNode, Individual nextNode) {
-    setProperty(
-        currentNode,
-        hasClass(currentNode, Constants.SINGLE_EXIT_NODE_LN)
-            ? Constants.HAS_NEXT_NODE_LN
-            : Constants.HAS_FALSE_BRANCH_LN,
-        nextNode);
-  }
-
-  private static boolean isTerminal(Individual flowchartNode) {
-    return hasClass(flowchartNode, Constants.TERMINAL_LN)
-        || (hasClass(flowchartNode, Constants.DECISION_LN)
-            && Utilities.hasProperty(flowchartNode, Constants.HAS_FALSE_BRANCH_LN));
-  }
-
-  private static boolean hasSingleExit(Individual flowchartNode) {
-    return hasClass(flowchartNode, Constants.SINGLE_EXIT_NODE_LN)
-        || (hasClass(flowchartNode, Constants.DECISION_LN)
-            && !Utilities.hasProperty(flowchartNode, Constants.HAS_FALSE_BRANCH_LN));
-  }
-
-  private static Individual createFlowchartNode(String classLocalName) {
-    OntClass flowchartNodeClass =
-        checkNotNull(
-            flowchartModel.getOntClass(Constants.FLOWCHART_ONTOLOGY_NAMESPACE + classLocalName),
-            "The flowchart node class %s does not exist in the ontology.",
-            classLocalName);
-    return  flowchartNodeClass.createIndividual();
-  }
-
-  private static void setProperty(
-      Individual flowchartNode, String propertyLocalName, String value) {
-
-    flowchartNode.setPropertyValue(
-        Utilities.getProperty(propertyLocalName), flowchartModel.createLiteral(value, false));
+    return startedStage;
   }
 
-  private static void setProperty(
-      Individual thisNode, String propertyLocalName, Individual thatNode) {
-
-    thisNode.setPropertyValue(Utilities.getProperty(propertyLocalName), thatNode);
+  /**
+   * Returns the name of the OWL file holding the flowchart of the method with {@code signature},
+   * relative to {@code packagePrefix}.
+   */
+  static String getOutputFileName(String signature, String packagePrefix) {
+    return getOutputFileName(signature, packagePrefix, OWL_EXTENSION);
   }
 
-  /** Decides whether {@code flowchartNode} is a member of the given class. */
-  private static boolean hasClass(Individual flowchartNode, String classLocalName) {
-    return flowchartNode.hasOntClass(Constants.FLOWCHART_ONTOLOGY_NAMESPACE + classLocalName);
+  /**
+   * Returns the name of the file with {@code extension} holding the flowchart of the method with
+   * {@code signature}, relative to {@code packagePrefix}.
+   */
+  static String getOutputFileName(String signature, String packagePrefix, String extension) {
+    // Characters that are unsafe in file names (e.g., of generic parameter types) are replaced
+    return signature.substring(packagePrefix.length()).replaceAll("[<>:\"/\\\\|?*]", "_")
+        + extension;
   }
 }
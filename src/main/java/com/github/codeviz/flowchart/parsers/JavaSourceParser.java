@@ -0,0 +1,77 @@
+package com.github.codeviz.flowchart.parsers;
+
+import com.github.codeviz.flowchart.common.Metrics;
+import com.github.codeviz.flowchart.model.Flowchart;
+import com.github.javaparser.ast.CompilationUnit;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@link Parser} for Java, which parses source into a (GitHub) JavaParser AST
+ * and translates it with a {@link FlowchartParser}.
+ *
+ * Source without any Codeviz comments, as found by a {@link MarkerScanner},
+ * is not parsed into an AST at all.
+ */
+public final class JavaSourceParser implements Parser {
+
+  private final FlowchartParser translator = new FlowchartParser();
+
+  @Override
+  @SuppressWarnings("try")
+  public Map<String, Flowchart> parse(InputStream source)
+      throws IOException, java.text.ParseException {
+
+    byte[] sourceBytes = ByteStreams.toByteArray(source);
+
+    //? No Codeviz comments anywhere in the source?
+    if (!mayContainFlowcharts(ByteBuffer.wrap(sourceBytes))) {
+      //X Skip building the AST
+      return Collections.emptyMap();
+    }
+
+    //$ Parse the source into a (GitHub) JavaParser AST
+    CompilationUnit javaAst;
+    try (Metrics.Stage stage = Metrics.start(Metrics.PARSE_SOURCE)) {
+      javaAst = com.github.javaparser.JavaParser.parse(new ByteArrayInputStream(sourceBytes));
+    } catch (com.github.javaparser.ParseException e) {
+      java.text.ParseException parseException =
+          new java.text.ParseException(
+              e.getMessage(),
+              e.currentToken == null || e.currentToken.next == null
+                  ? 0
+                  : e.currentToken.next.beginLine);
+      parseException.initCause(e);
+      throw parseException;
+    }
+
+    //$ Parse every annotated method to the flowchart abstract syntax
+    String packagePrefix = MethodCollector.getPackagePrefix(javaAst);
+    Map<String, Flowchart> flowcharts = new LinkedHashMap<>();
+    try (Metrics.Stage stage = Metrics.start(Metrics.TRANSLATE)) {
+      for (Map.Entry<String, Flowchart> flowchart : translator.parse(javaAst).entrySet()) {
+        flowcharts.put(
+            flowchart.getKey().substring(packagePrefix.length()), flowchart.getValue());
+        stage
+            .count(Metrics.METHODS, 1)
+            .count(Metrics.NODES, flowchart.getValue().size())
+            .count(Metrics.EDGES, flowchart.getValue().getEdgeCount());
+      }
+    }
+
+    //X Return the flowcharts keyed relative to the package
+    return flowcharts;
+  }
+
+  /** Scans {@code source} for Codeviz comments with a {@link MarkerScanner}. */
+  @Override
+  public boolean mayContainFlowcharts(ByteBuffer source) {
+    return MarkerScanner.containsMarker(source);
+  }
+}
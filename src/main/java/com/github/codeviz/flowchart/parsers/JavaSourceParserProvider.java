@@ -0,0 +1,18 @@
+package com.github.codeviz.flowchart.parsers;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+
+/** Provides the {@link JavaSourceParser} for {@code .java} files. */
+public final class JavaSourceParserProvider implements ParserProvider {
+
+  @Override
+  public Set<String> getFileExtensions() {
+    return ImmutableSet.of(".java");
+  }
+
+  @Override
+  public Parser create() {
+    return new JavaSourceParser();
+  }
+}
@@ -0,0 +1,42 @@
+package com.github.codeviz.flowchart.parsers;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A comment-only lexer that decides whether source code may contain Codeviz comments
+ * (e.g., {@code //$ ...} or {@code /*? ...}) without parsing it.
+ *
+ * Only comment openers are recognized. String literals and comment bodies are not skipped,
+ * since their syntax differs between the C-family languages (e.g., Kotlin's raw strings), and
+ * misreading one could hide a Codeviz comment; a marker within a string merely costs a full parse.
+ *
+ * Source is scanned as bytes, which is exact for ASCII-compatible encodings such as UTF-8,
+ * since the comment openers and markers are all ASCII.
+ */
+public final class MarkerScanner {
+
+  /**
+   * Decides whether the bytes of {@code source} between its position and its limit may contain
+   * a Codeviz comment. The position of {@code source} is left unchanged.
+   */
+  public static boolean containsMarker(ByteBuffer source) {
+    // A comment opener is two bytes long, and must be followed by a marker
+    int end = source.limit() - 2;
+    for (int i = source.position(); i < end; i++) {
+      if (source.get(i) == '/'
+          && (source.get(i + 1) == '/' || source.get(i + 1) == '*')
+          && isMarker(source.get(i + 2))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Decides whether {@code b} is the first character of the content of a Codeviz comment. */
+  private static boolean isMarker(byte b) {
+    return b == '$' || b == '?' || b == 'X';
+  }
+
+  // This class should not be instantiated since it is simply a collection of static functions.
+  private MarkerScanner() {}
+}
@@ -0,0 +1,162 @@
+package com.github.codeviz.flowchart.parsers;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.EnumConstantDeclaration;
+import com.github.javaparser.ast.body.EnumDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.expr.LambdaExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.visitor.VoidVisitorAdapter;
+import com.google.common.base.Strings;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the body of every method, constructor, and block lambda in a {@link CompilationUnit}
+ * in a single traversal of its AST, keyed by fully-qualified signature.
+ *
+ * Signatures take the form {@code com.example.Outer.Inner.method(int,String[])};
+ * constructors are named {@code <init>}, anonymous classes are numbered after their enclosing
+ * scope (e.g., {@code com.example.Outer.method()$1}), and lambdas likewise
+ * (e.g., {@code com.example.Outer.method()$lambda$0}).
+ */
+final class MethodCollector extends VoidVisitorAdapter<Object> {
+
+  /** Indices into the entries of {@link #counts}. */
+  private static final int ANONYMOUS_CLASSES = 0;
+  private static final int LAMBDAS = 1;
+
+  private final String packagePrefix;
+
+  /** The bodies found so far, in source order. */
+  private final Map<String, BlockStmt> bodies = new LinkedHashMap<>();
+
+  /** The qualified names of the types and methods enclosing the node being visited. */
+  private final Deque<String> scopes = new ArrayDeque<>();
+
+  /**
+   * The number of anonymous classes and lambdas seen so far directly within each scope in
+   * {@link #scopes}, so that numbering only depends on the enclosing scope.
+   */
+  private final Deque<int[]> counts = new ArrayDeque<>();
+
+  private MethodCollector(String packagePrefix) {
+    this.packagePrefix = packagePrefix;
+  }
+
+  /** Returns the bodies of every method-like construct in {@code javaAst}, in source order. */
+  static Map<String, BlockStmt> collect(CompilationUnit javaAst) {
+    MethodCollector collector = new MethodCollector(getPackagePrefix(javaAst));
+    collector.visit(javaAst, null);
+    return collector.bodies;
+  }
+
+  /** Returns the package of {@code javaAst} followed by a dot, or "" if it is unnamed. */
+  static String getPackagePrefix(CompilationUnit javaAst) {
+    return javaAst.getPackage() == null ? "" : javaAst.getPackage().getName().toString() + ".";
+  }
+
+  @Override
+  public void visit(ClassOrInterfaceDeclaration type, Object arg) {
+    enter(qualify(type.getName()));
+    super.visit(type, arg);
+    exit();
+  }
+
+  @Override
+  public void visit(EnumDeclaration type, Object arg) {
+    enter(qualify(type.getName()));
+    super.visit(type, arg);
+    exit();
+  }
+
+  @Override
+  public void visit(EnumConstantDeclaration constant, Object arg) {
+    // Constants with bodies are anonymous subclasses of the enum
+    enter(qualify(constant.getName()));
+    super.visit(constant, arg);
+    exit();
+  }
+
+  @Override
+  public void visit(MethodDeclaration method, Object arg) {
+    String signature = qualify(method.getName()) + getParameterTypes(method.getParameters());
+    if (method.getBody() != null) {
+      add(signature, method.getBody());
+    }
+    enter(signature);
+    super.visit(method, arg);
+    exit();
+  }
+
+  @Override
+  public void visit(ConstructorDeclaration constructor, Object arg) {
+    String signature = qualify("<init>") + getParameterTypes(constructor.getParameters());
+    add(signature, constructor.getBlock());
+    enter(signature);
+    super.visit(constructor, arg);
+    exit();
+  }
+
+  @Override
+  public void visit(ObjectCreationExpr creation, Object arg) {
+    if (creation.getAnonymousClassBody() == null) {
+      super.visit(creation, arg);
+      return;
+    }
+    enter(scopes.peek() + "$" + ++counts.peek()[ANONYMOUS_CLASSES]);
+    super.visit(creation, arg);
+    exit();
+  }
+
+  @Override
+  public void visit(LambdaExpr lambda, Object arg) {
+    String signature = scopes.peek() + "$lambda$" + counts.peek()[LAMBDAS]++;
+    if (lambda.getBody() instanceof BlockStmt) {
+      add(signature, (BlockStmt) lambda.getBody());
+    }
+    enter(signature);
+    super.visit(lambda, arg);
+    exit();
+  }
+
+  private void enter(String scope) {
+    scopes.push(scope);
+    counts.push(new int[2]);
+  }
+
+  private void exit() {
+    scopes.pop();
+    counts.pop();
+  }
+
+  private String qualify(String name) {
+    return scopes.isEmpty() ? packagePrefix + name : scopes.peek() + "." + name;
+  }
+
+  /** Records {@code body}, disambiguating {@code signature} if it has already been seen. */
+  private void add(String signature, BlockStmt body) {
+    String key = signature;
+    for (int i = 2; bodies.containsKey(key); i++) {
+      key = signature + "#" + i;
+    }
+    bodies.put(key, body);
+  }
+
+  private static String getParameterTypes(List<Parameter> parameters) {
+    return parameters.stream()
+        .map(parameter ->
+            parameter.getType().toString().replaceAll("\\s", "")
+                + Strings.repeat("[]", parameter.getId().getArrayCount())
+                + (parameter.isVarArgs() ? "..." : ""))
+        .collect(Collectors.joining(",", "(", ")"));
+  }
+}
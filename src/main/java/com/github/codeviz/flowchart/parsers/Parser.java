@@ -0,0 +1,37 @@
+package com.github.codeviz.flowchart.parsers;
+
+import com.github.codeviz.flowchart.model.Flowchart;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * A front-end that parses the source files of a language into flowcharts.
+ *
+ * Parsers are found through the {@link ParserProvider}s registered with {@link Parsers},
+ * and must be safe to use from several threads at once.
+ */
+public interface Parser {
+
+  /**
+   * Parses every method (or similar construct) in {@code source} that has top-level Codeviz
+   * comments into a flowchart of its own.
+   *
+   * @return The flowcharts keyed by the signatures of their methods, qualified by their enclosing
+   *    types but not their package (e.g., {@code Outer.method(int)}), in source order.
+   */
+  Map<String, Flowchart> parse(InputStream source) throws IOException, java.text.ParseException;
+
+  /**
+   * Decides, without parsing it, whether {@code source} may contain Codeviz comments,
+   * so that source without any can be skipped. Must not return false for source in which
+   * {@link #parse(InputStream)} would find flowcharts.
+   *
+   * @param source The raw bytes of a source file, e.g., memory-mapped.
+   *      Implementations must not change its position or limit.
+   */
+  default boolean mayContainFlowcharts(ByteBuffer source) {
+    return true;
+  }
+}
@@ -0,0 +1,20 @@
+package com.github.codeviz.flowchart.parsers;
+
+import java.util.Set;
+
+/**
+ * Makes a {@link Parser} available to {@link Parsers}. Providers are discovered with
+ * {@link java.util.ServiceLoader}, so they are registered by listing them in
+ * {@code META-INF/services/com.github.codeviz.flowchart.parsers.ParserProvider}.
+ *
+ * Every registered provider is instantiated when the first file is looked up, so providers should
+ * be cheap to instantiate; the parser itself is only created once a file it handles is parsed.
+ */
+public interface ParserProvider {
+
+  /** Returns the extensions, including the dot (e.g., {@code .java}), of the files to parse. */
+  Set<String> getFileExtensions();
+
+  /** Creates the parser. Called at most once per JVM. */
+  Parser create();
+}
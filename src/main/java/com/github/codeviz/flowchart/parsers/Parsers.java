@@ -0,0 +1,61 @@
+package com.github.codeviz.flowchart.parsers;
+
+import com.google.common.collect.ImmutableMap;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The registry of {@link Parser}s, by the extensions of the files they parse.
+ *
+ * Parsers are created on demand, the first time a file they handle is looked up,
+ * so front-ends for languages that are not parsed in a run are never initialized.
+ */
+public final class Parsers {
+
+  /** The parsers created so far. */
+  private static final Map<ParserProvider, Parser> parsers = new ConcurrentHashMap<>();
+
+  /** Decides whether there is a parser for {@code file}. */
+  public static boolean supports(Path file) {
+    return getProvider(file).isPresent();
+  }
+
+  /**
+   * Returns the parser (wrapped in an {@link Optional}) for {@code file}, based on its extension,
+   *    if one is registered; {@link Optional#empty()} otherwise.
+   */
+  public static Optional<Parser> forFile(Path file) {
+    return getProvider(file).map(provider -> parsers.computeIfAbsent(provider, p -> p.create()));
+  }
+
+  private static Optional<ParserProvider> getProvider(Path file) {
+    String fileName = file.getFileName().toString();
+    int extensionIndex = fileName.lastIndexOf('.');
+    return extensionIndex < 0
+        ? Optional.empty()
+        : Optional.ofNullable(Providers.BY_EXTENSION.get(fileName.substring(extensionIndex)));
+  }
+
+  /** Defers discovering the providers until a parser is first looked up. */
+  private static final class Providers {
+    private static final ImmutableMap<String, ParserProvider> BY_EXTENSION = load();
+
+    private static ImmutableMap<String, ParserProvider> load() {
+      // Where providers claim the same extension, the first one found is used
+      Map<String, ParserProvider> providers = new HashMap<>();
+      for (ParserProvider provider : ServiceLoader.load(ParserProvider.class)) {
+        for (String extension : provider.getFileExtensions()) {
+          providers.putIfAbsent(extension, provider);
+        }
+      }
+      return ImmutableMap.copyOf(providers);
+    }
+  }
+
+  // This class should not be instantiated since it is simply a collection of static functions.
+  private Parsers() {}
+}
@@ -0,0 +1,161 @@
+package com.github.codeviz.flowchart.parsers;
+
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import com.github.codeviz.flowchart.common.Metrics;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the flowcharts of a source tree up to date as its files change, in a single long-running
+ * process, so neither Maven nor the JVM is started for every edit, and the parsers, the flowchart
+ * ontology, and the JIT-compiled code stay warm.
+ *
+ * The tree is watched with a {@link WatchService}. Changes arriving in a burst (e.g., an IDE
+ * saving several files, or a branch checkout) are gathered until the tree has been quiet for
+ * {@link #QUIET_PERIOD_MILLIS}, and then handed to {@link BatchParser#update} as one batch,
+ * which only regenerates the outputs of the methods that changed.
+ */
+public class WatchDaemon {
+
+  /** How long the tree must be quiet before a batch of changes is parsed. */
+  private static final long QUIET_PERIOD_MILLIS = 50;
+
+  /** How long changes are gathered at most, so a steady stream of them cannot stall parsing. */
+  private static final long MAX_BATCH_MILLIS = 500;
+
+  private final Path sourceRoot;
+  private final Path outputRoot;
+  private final BatchParser batchParser;
+
+  public WatchDaemon(Path sourceRoot, Path outputRoot, BatchParser batchParser) {
+    this.sourceRoot = sourceRoot;
+    this.outputRoot = outputRoot.toAbsolutePath().normalize();
+    this.batchParser = batchParser;
+  }
+
+  /**
+   * Usage: {@code [--dot] [--binary] [--owl] [--index] [--metrics <metrics file>]
+   * <source directory> [<output directory>] [<thread count>]}, as for
+   * {@link BatchParser#main(String[])}.
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    List<String> arguments = new ArrayList<>(Arrays.asList(args));
+    Metrics.enableFromOptions(arguments);
+    BatchParser.Options options = BatchParser.Options.removeFrom(arguments);
+    args = arguments.toArray(new String[0]);
+
+    Path sourceRoot = Paths.get(args[0]);
+    Path outputRoot = Paths.get(args.length > 1 ? args[1] : "out");
+    if (args.length > 2) {
+      options.threadCount(Integer.parseInt(args[2]));
+    }
+
+    new WatchDaemon(sourceRoot, outputRoot, new BatchParser(sourceRoot, outputRoot, options))
+        .watch();
+  }
+
+  /** Brings the outputs up to date, then keeps them so until interrupted. */
+  public void watch() throws IOException, InterruptedException {
+    try (WatchService watchService = sourceRoot.getFileSystem().newWatchService()) {
+
+      //$ Watch the tree before parsing it, so no change made meanwhile is missed
+      register(sourceRoot, watchService, new LinkedHashSet<>());
+      batchParser.run();
+      System.out.println("Watching " + sourceRoot + " for changes.");
+
+      //? Not interrupted?
+      while (!Thread.currentThread().isInterrupted()) {
+        //$ Wait for a change
+        WatchKey key = watchService.take();
+
+        //$ Gather the changes until the tree is quiet
+        Set<Path> changedFiles = new LinkedHashSet<>();
+        boolean overflowed = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_BATCH_MILLIS);
+        while (key != null) {
+          overflowed |= collectChanges(key, watchService, changedFiles);
+          key =
+              System.nanoTime() < deadline
+                  ? watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)
+                  : null;
+        }
+
+        //? Were changes lost?
+        if (overflowed) {
+          //$ Parse the whole tree again, which skips the unchanged files
+          batchParser.run();
+        } else if (!changedFiles.isEmpty()) {
+          //$ Parse the files that changed
+          batchParser.update(changedFiles);
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds the files that the events of {@code key} are about to {@code changedFiles}, watching
+   * any new directories (and adding their files).
+   *
+   * @return Whether events were lost.
+   */
+  private boolean collectChanges(WatchKey key, WatchService watchService, Set<Path> changedFiles)
+      throws IOException {
+
+    boolean overflowed = false;
+    Path directory = (Path) key.watchable();
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == OVERFLOW) {
+        overflowed = true;
+        continue;
+      }
+      Path file = directory.resolve((Path) event.context());
+      if (event.kind() == ENTRY_CREATE && Files.isDirectory(file, NOFOLLOW_LINKS)) {
+        // Files may have been added before the directory was watched
+        register(file, watchService, changedFiles);
+      } else {
+        changedFiles.add(file);
+      }
+    }
+    key.reset();
+    return overflowed;
+  }
+
+  /**
+   * Watches {@code directory} and the directories within it, except for the output tree,
+   * adding the files within them to {@code files}.
+   */
+  private void register(Path directory, WatchService watchService, Set<Path> files)
+      throws IOException {
+
+    try (Stream<Path> paths = Files.walk(directory)) {
+      for (Path path : paths.collect(Collectors.toList())) {
+        if (path.toAbsolutePath().normalize().startsWith(outputRoot)) {
+          continue;
+        }
+        if (Files.isDirectory(path, NOFOLLOW_LINKS)) {
+          path.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+        } else {
+          files.add(path);
+        }
+      }
+    }
+  }
+}
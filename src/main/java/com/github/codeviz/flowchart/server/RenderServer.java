@@ -0,0 +1,390 @@
+package com.github.codeviz.flowchart.server;
+
+import com.github.codeviz.flowchart.common.FlowchartSchema;
+import com.github.codeviz.flowchart.generators.DotRenderer;
+import com.github.codeviz.flowchart.model.Flowchart;
+import com.github.codeviz.flowchart.model.FlowchartArchive;
+import com.github.codeviz.flowchart.model.FlowchartSimplifier;
+import com.github.codeviz.flowchart.model.OwlConverter;
+import com.github.codeviz.flowchart.parsers.Parser;
+import com.github.codeviz.flowchart.parsers.Parsers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.jena.riot.RDFFormat;
+
+/**
+ * An HTTP service on the loopback interface that renders the flowcharts of posted source code,
+ * e.g., for a code browser to show them next to the code.
+ *
+ * {@code POST /render} takes the source as the request body, and the following query parameters:
+ * <ul>
+ *   <li>{@code format}: {@code dot} (the default) for Graphviz DOT, {@code turtle} for
+ *       the Codeviz OWL encoding, as written by
+ *       {@link com.github.codeviz.flowchart.parsers.JavaParser}, or {@code binary} for a
+ *       {@link FlowchartArchive} of the flowcharts, named by their signatures;
+ *   <li>{@code extension}: the extension of the source's language, {@code .java} by default;
+ *   <li>{@code method}: the signature of the method to render, relative to the package.
+ *       Without it, the DOT graphs of every method are returned one after another, each preceded
+ *       by a comment with its signature; Turtle requires it unless there is only one method;
+ *   <li>{@code simplify} or {@code fold}: simplify the DOT graphs
+ *       (see {@link FlowchartSimplifier}).
+ * </ul>
+ * {@code GET /stats} reports how many requests were served, and how many of them were rendered.
+ *
+ * Requests are handled on a fixed-size pool of threads. Renderings are kept in a cache bounded
+ * by their total size, which evicts the least recently used ones, keyed by a hash of the source
+ * and the parameters; identical requests that arrive while one is being rendered wait for it
+ * rather than rendering it again.
+ */
+public class RenderServer {
+
+  private static final String RENDER_PATH = "/render";
+  private static final String STATS_PATH = "/stats";
+
+  private static final int DEFAULT_PORT = 8080;
+  private static final long DEFAULT_CACHE_MEGABYTES = 64;
+
+  /** The largest source that is accepted, in bytes. */
+  private static final int MAX_SOURCE_BYTES = 4 << 20;
+
+  private static final String DOT_FORMAT = "dot";
+  private static final String TURTLE_FORMAT = "turtle";
+  private static final String BINARY_FORMAT = "binary";
+  private static final String DEFAULT_EXTENSION = ".java";
+
+  private static final String DOT_CONTENT_TYPE = "text/vnd.graphviz; charset=utf-8";
+  private static final String TURTLE_CONTENT_TYPE = "text/turtle; charset=utf-8";
+  private static final String BINARY_CONTENT_TYPE = "application/octet-stream";
+  private static final String TEXT_CONTENT_TYPE = "text/plain; charset=utf-8";
+
+  /** Whether the JDK's HTTP server sets TCP_NODELAY on its connections. */
+  private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+  static {
+    // Otherwise, each response waits out the client's delayed acknowledgement (about 40 ms).
+    // The server reads the property when the first server is created.
+    if (System.getProperty(NODELAY_PROPERTY) == null) {
+      System.setProperty(NODELAY_PROPERTY, "true");
+    }
+  }
+
+  private final HttpServer server;
+  private final ExecutorService workers;
+  private final Cache<String, Rendering> renderings;
+  private final DotRenderer renderer = new DotRenderer();
+
+  private final AtomicLong requestCount = new AtomicLong();
+  private final AtomicLong renderCount = new AtomicLong();
+
+  /**
+   * @param port The port to listen on, or 0 for any free port.
+   * @param threadCount The number of requests handled at once.
+   * @param cacheBytes The total size of the renderings that are cached.
+   */
+  public RenderServer(int port, int threadCount, long cacheBytes) throws IOException {
+    this.server =
+        HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+    this.workers = Executors.newFixedThreadPool(threadCount);
+    this.renderings =
+        CacheBuilder.newBuilder()
+            .maximumWeight(cacheBytes)
+            .weigher((String key, Rendering rendering) -> rendering.body.length)
+            .build();
+    server.createContext(RENDER_PATH, this::handleRender);
+    server.createContext(STATS_PATH, this::handleStats);
+    server.setExecutor(workers);
+  }
+
+  /**
+   * Usage: {@code [<port>] [<thread count>] [<cache size in MB>]}.
+   *
+   * The port defaults to 8080, the thread count to the number of available processors,
+   * and the cache size to 64 MB.
+   */
+  public static void main(String[] args) throws IOException {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+    int threadCount =
+        args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+    long cacheBytes = (args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_CACHE_MEGABYTES) << 20;
+
+    RenderServer renderServer = new RenderServer(port, threadCount, cacheBytes);
+    renderServer.start();
+    System.out.println("Rendering flowcharts at http://localhost:" + renderServer.getPort());
+  }
+
+  public void start() {
+    // Read the ontology up front, so the first Turtle request does not pay for it
+    FlowchartSchema.get();
+    server.start();
+  }
+
+  /** Stops accepting requests, and waits up to {@code delaySeconds} for those being handled. */
+  public void stop(int delaySeconds) {
+    server.stop(delaySeconds);
+    workers.shutdown();
+    try {
+      workers.awaitTermination(delaySeconds, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Returns the port the server listens on. */
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  private void handleRender(HttpExchange exchange) throws IOException {
+    try {
+      requestCount.incrementAndGet();
+
+      //? Not a POST request?
+      if (!"POST".equals(exchange.getRequestMethod())) {
+        //X Reject the request
+        throw new RequestException(405, "Post the source to render.");
+      }
+
+      //$ Read the source and the parameters
+      byte[] source = readSource(exchange.getRequestBody());
+      Map<String, String> parameters = parseQuery(exchange.getRequestURI().getRawQuery());
+      Request request = new Request(parameters);
+
+      //$ Look up the rendering, rendering it unless it is cached or being rendered
+      String key =
+          Hashing.sha256()
+              .newHasher()
+              .putBytes(source)
+              .putString(request.toString(), StandardCharsets.UTF_8)
+              .hash()
+              .toString();
+      Rendering rendering;
+      try {
+        rendering =
+            renderings.get(
+                key,
+                () -> {
+                  renderCount.incrementAndGet();
+                  return render(source, request);
+                });
+      } catch (ExecutionException | UncheckedExecutionException e) {
+        throw e.getCause() instanceof RequestException
+            ? (RequestException) e.getCause()
+            : new RequestException(500, String.valueOf(e.getCause()));
+      }
+
+      //X Send the rendering
+      send(exchange, 200, rendering.contentType, rendering.body);
+    } catch (RequestException e) {
+      send(
+          exchange,
+          e.status,
+          TEXT_CONTENT_TYPE,
+          (e.getMessage() + "\n").getBytes(StandardCharsets.UTF_8));
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private void handleStats(HttpExchange exchange) throws IOException {
+    try {
+      String stats =
+          String.format(
+              "requests=%d renders=%d cachedRenderings=%d%n",
+              requestCount.get(),
+              renderCount.get(),
+              renderings.size());
+      send(exchange, 200, TEXT_CONTENT_TYPE, stats.getBytes(StandardCharsets.UTF_8));
+    } finally {
+      exchange.close();
+    }
+  }
+
+  /** Renders the flowcharts of {@code source} as {@code request} asks. */
+  private Rendering render(byte[] source, Request request)
+      throws IOException, RequestException {
+
+    //$ Find the parser for the language
+    Optional<Parser> parser = Parsers.forFile(Paths.get("source" + request.extension));
+    if (!parser.isPresent()) {
+      throw new RequestException(400, "No parser for " + request.extension + " files.");
+    }
+
+    //$ Parse every annotated method to the flowchart abstract syntax
+    Map<String, Flowchart> flowcharts;
+    try {
+      flowcharts = parser.get().parse(new ByteArrayInputStream(source));
+    } catch (java.text.ParseException e) {
+      throw new RequestException(400, "Line " + e.getErrorOffset() + ": " + e.getMessage());
+    }
+
+    //$ Select the method, if one is given
+    if (request.method != null) {
+      Flowchart flowchart = flowcharts.get(request.method);
+      if (flowchart == null) {
+        throw new RequestException(
+            404,
+            "No flowchart for " + request.method + "; there are flowcharts for "
+                + flowcharts.keySet() + ".");
+      }
+      flowcharts = new HashMap<>();
+      flowcharts.put(request.method, flowchart);
+    } else if (flowcharts.isEmpty()) {
+      throw new RequestException(404, "No top-level comments to parse in any method.");
+    }
+
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    //? Encoding an archive?
+    if (request.format.equals(BINARY_FORMAT)) {
+      //X Write the flowcharts as parsed to an archive
+      FlowchartArchive.write(flowcharts, body);
+      return new Rendering(BINARY_CONTENT_TYPE, body.toByteArray());
+    }
+
+    //? Rendering Turtle?
+    if (request.format.equals(TURTLE_FORMAT)) {
+      if (flowcharts.size() > 1) {
+        throw new RequestException(
+            400,
+            "Give the method to render; there are flowcharts for " + flowcharts.keySet() + ".");
+      }
+
+      //X Write the OWL encoding, with the ontology, as Turtle
+      Map.Entry<String, Flowchart> flowchart = flowcharts.entrySet().iterator().next();
+      OwlConverter.writeOwl(
+          flowchart.getValue(), flowchart.getKey(), RDFFormat.TURTLE_BLOCKS, body);
+      return new Rendering(TURTLE_CONTENT_TYPE, body.toByteArray());
+    }
+
+    //X Render the DOT graph of each method, simplified if desired
+    try (Writer output = new OutputStreamWriter(body, StandardCharsets.UTF_8)) {
+      for (Map.Entry<String, Flowchart> flowchart : flowcharts.entrySet()) {
+        output.write("// " + flowchart.getKey().replace('\n', ' ') + "\n");
+        renderer.render(
+            request.simplify
+                ? FlowchartSimplifier.simplify(flowchart.getValue(), request.fold)
+                : flowchart.getValue(),
+            output);
+      }
+    }
+    return new Rendering(DOT_CONTENT_TYPE, body.toByteArray());
+  }
+
+  private static byte[] readSource(InputStream requestBody) throws IOException, RequestException {
+    byte[] source =
+        ByteStreams.toByteArray(ByteStreams.limit(requestBody, MAX_SOURCE_BYTES + 1));
+    if (source.length > MAX_SOURCE_BYTES) {
+      throw new RequestException(
+          413, "The source is larger than " + MAX_SOURCE_BYTES + " bytes.");
+    }
+    return source;
+  }
+
+  private static Map<String, String> parseQuery(String query)
+      throws UnsupportedEncodingException, RequestException {
+
+    Map<String, String> parameters = new HashMap<>();
+    if (query == null) {
+      return parameters;
+    }
+    for (String parameter : query.split("&")) {
+      int separatorIndex = parameter.indexOf('=');
+      String name = separatorIndex < 0 ? parameter : parameter.substring(0, separatorIndex);
+      String value = separatorIndex < 0 ? "" : parameter.substring(separatorIndex + 1);
+      try {
+        parameters.put(URLDecoder.decode(name, "UTF-8"), URLDecoder.decode(value, "UTF-8"));
+      } catch (IllegalArgumentException e) {
+        // Thrown for malformed percent-encodings, e.g., "%zz"
+        throw new RequestException(400, "Malformed query parameter " + parameter + ".");
+      }
+    }
+    return parameters;
+  }
+
+  private static void send(HttpExchange exchange, int status, String contentType, byte[] body)
+      throws IOException {
+
+    exchange.getResponseHeaders().set("Content-Type", contentType);
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream output = exchange.getResponseBody()) {
+      output.write(body);
+    }
+  }
+
+  /** The parameters of a render request. */
+  private static final class Request {
+    final String format;
+    final String extension;
+    final String method;
+    final boolean simplify;
+    final boolean fold;
+
+    Request(Map<String, String> parameters) throws RequestException {
+      this.format = parameters.getOrDefault("format", DOT_FORMAT);
+      this.extension = parameters.getOrDefault("extension", DEFAULT_EXTENSION);
+      this.method = parameters.get("method");
+      this.fold = parameters.containsKey("fold");
+      this.simplify = parameters.containsKey("simplify") || fold;
+      if (!format.equals(DOT_FORMAT)
+          && !format.equals(TURTLE_FORMAT)
+          && !format.equals(BINARY_FORMAT)) {
+        throw new RequestException(400, "Unknown format " + format + ".");
+      }
+    }
+
+    /** Identifies the rendering the request asks for, given the source. */
+    @Override
+    public String toString() {
+      return format + '\0' + extension + '\0' + method + '\0' + simplify + '\0' + fold;
+    }
+  }
+
+  /** A cached response body. */
+  private static final class Rendering {
+    final String contentType;
+    final byte[] body;
+
+    Rendering(String contentType, byte[] body) {
+      this.contentType = contentType;
+      this.body = body;
+    }
+  }
+
+  /** Rejects a request with an HTTP status and a message. */
+  private static final class RequestException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    final int status;
+
+    RequestException(int status, String message) {
+      super(message);
+      this.status = status;
+    }
+  }
+}